@@ -0,0 +1,27 @@
+#!/bin/sh
+
+# Keeps benchmark results as baselines under benchmark-baselines, to be committed, and compares new results with them.
+# Usage: ./benchmark-baseline.sh record NAME [FILE|DIR...]
+#        ./benchmark-baseline.sh compare BASELINE [NAME|FILE|DIR...]
+# Results are read from benchmark-results by default: the JMH JSON of run-microbenchmarks.sh and
+# run-handler-benchmarks.sh, the HdrHistogram logs of the load generator and the samples of the cold start benchmark.
+# compare exits with 1 when a series regressed; --alpha=0.05 and --threshold=5 (percent) tune what counts.
+
+if [ "$#" -lt 2 ]; then
+  echo "Usage: ./benchmark-baseline.sh record NAME [FILE|DIR...]"
+  echo "       ./benchmark-baseline.sh compare BASELINE [NAME|FILE|DIR...]"
+  echo "Example: ./benchmark-baseline.sh compare main"
+  exit 1
+fi
+
+mvn -B -q -pl demo-benchmark-results -am package -DskipTests || exit 1
+RESULTS_JAR=demo-benchmark-results/target/benchmark-results.jar
+
+COMMAND=$1
+shift
+if [ "$COMMAND" = "record" ]; then
+  COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo unknown)
+  java -jar $RESULTS_JAR record "$@" "--comment=commit $COMMIT"
+else
+  java -jar $RESULTS_JAR "$COMMAND" "$@"
+fi
@@ -13,44 +13,50 @@ AWS_REGION=$2
 
 STACK_NAME="workshop-java-lambda-optimizations"
 API_GW_URL=$(aws cloudformation describe-stacks --stack-name $STACK_NAME --query "Stacks[0].Outputs[?OutputKey=='WorkshopApiUrl'].OutputValue" --region $AWS_REGION --output text)
+LOAD_GENERATOR=demo-load-generator/target/load-generator.jar
+
+if [ ! -f $LOAD_GENERATOR ]; then
+  echo "$LOAD_GENERATOR not found, run mvn package first"
+  exit 1
+fi
 
 if [ $APP == "plain-java" ]; then
-  echo "Running Artillery on plain-java-request-handler"
-  artillery run -t $API_GW_URL loadtest/plain-java-request-handler.yaml
+  echo "Running the load generator on plain-java-request-handler"
+  java -jar $LOAD_GENERATOR --url=$API_GW_URL plain-java
   sleep 30
-  echo "End of Artillery on plain-java-request-handler"
+  echo "End of the load generator on plain-java-request-handler"
   exit 0
 fi
 
 if [ $APP == "serverless-java-container" ]; then
-  echo "Running Artillery on serverless-java-container"
-  artillery run -t $API_GW_URL loadtest/serverless-java-container.yaml
+  echo "Running the load generator on serverless-java-container"
+  java -jar $LOAD_GENERATOR --url=$API_GW_URL serverless-java-container
   sleep 30
-  echo "End of Artillery on serverless-java-container"
+  echo "End of the load generator on serverless-java-container"
   exit 0
 fi
 
 if [ $APP == "spring" ]; then
-  echo "Running Artillery on springboot-function-handler"
-  artillery run -t $API_GW_URL loadtest/springboot-function-handler.yaml
+  echo "Running the load generator on springboot-function-handler"
+  java -jar $LOAD_GENERATOR --url=$API_GW_URL spring
   sleep 30
-  echo "End of Artillery on springboot-function-handler"
+  echo "End of the load generator on springboot-function-handler"
   exit 0
 fi
 
 if [ $APP == "micronaut" ]; then
-  echo "Running Artillery on micronaut-request-handler"
-  artillery run -t $API_GW_URL loadtest/micronaut-request-handler.yaml
+  echo "Running the load generator on micronaut-request-handler"
+  java -jar $LOAD_GENERATOR --url=$API_GW_URL micronaut
   sleep 30
-  echo "End of Artillery on micronaut-request-handler"
+  echo "End of the load generator on micronaut-request-handler"
   exit 0
 fi
 
 if [ $APP == "quarkus" ]; then
-  echo "Running Artillery on micronaut-request-handler"
-  artillery run -t $API_GW_URL loadtest/quarkus-request-handler.yaml
+  echo "Running the load generator on quarkus-request-handler"
+  java -jar $LOAD_GENERATOR --url=$API_GW_URL quarkus
   sleep 30
-  echo "End of Artillery on quarkus-request-handler"
+  echo "End of the load generator on quarkus-request-handler"
   exit 0
 fi
 
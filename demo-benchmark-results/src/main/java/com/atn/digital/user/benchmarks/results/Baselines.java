@@ -0,0 +1,81 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Series.Better;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The baselines committed under {@code benchmark-baselines}, one {@code <name>.tsv} file each: comment lines, then
+ * one tab separated line per series, {@code source target benchmark metric unit better values}, the values separated
+ * by spaces. One line per series keeps the diff of a new baseline readable in a review.
+ */
+final class Baselines {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final String EXTENSION = ".tsv";
+
+    private final Path directory;
+
+    Baselines(Path directory) {
+        this.directory = directory;
+    }
+
+    boolean exists(String name) {
+        return NAME.matcher(name).matches() && Files.isRegularFile(file(name));
+    }
+
+    Path write(String name, Collection<Series> series, List<String> comments) throws IOException {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid baseline name " + name + ", expected " + NAME);
+        }
+        List<String> lines = new ArrayList<>();
+        comments.forEach(comment -> lines.add("# " + comment));
+        for (Series one : series) {
+            lines.add(String.join("\t", one.source(), one.target(), one.benchmark(), one.metric(), one.unit(),
+                    one.better().name().toLowerCase(Locale.ROOT),
+                    Arrays.stream(one.values())
+                            .mapToObj(value -> String.format(Locale.ROOT, "%.6g", value))
+                            .collect(Collectors.joining(" "))));
+        }
+        Files.createDirectories(directory);
+        return Files.write(file(name), lines);
+    }
+
+    Map<String, Series> read(String name) throws IOException {
+        if (!exists(name)) {
+            throw new IOException("No baseline " + name + " in " + directory);
+        }
+        Map<String, Series> series = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file(name))) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            if (columns.length != 7) {
+                throw new IOException("Malformed line in baseline " + name + ": " + line);
+            }
+            double[] values = columns[6].isBlank()
+                    ? new double[0]
+                    : Arrays.stream(columns[6].trim().split(" ")).mapToDouble(Double::parseDouble).toArray();
+            Series one = new Series(columns[0], columns[1], columns[2], columns[3], columns[4],
+                    Better.valueOf(columns[5].toUpperCase(Locale.ROOT)), values);
+            series.put(one.key(), one);
+        }
+        return series;
+    }
+
+    private Path file(String name) {
+        return directory.resolve(name + EXTENSION);
+    }
+}
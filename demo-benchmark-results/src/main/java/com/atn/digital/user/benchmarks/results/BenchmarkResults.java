@@ -0,0 +1,159 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Comparison.Verdict;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps benchmark results as baselines in the repository and tells, run after run, what got slower or faster on each
+ * target: the JMH results of {@code run-microbenchmarks.sh} and {@code run-handler-benchmarks.sh}, the HdrHistogram
+ * logs of the load generator and the samples of the cold start benchmark, all under {@code benchmark-results}.
+ * <ul>
+ *     <li>{@code record NAME [FILE|DIR...]} writes the newest series of the results as
+ *     {@code benchmark-baselines/NAME.tsv}, to be committed</li>
+ *     <li>{@code compare BASELINE [NAME|FILE|DIR...]} compares the results, or another baseline, with BASELINE and
+ *     exits with 1 when something regressed</li>
+ * </ul>
+ * Options: {@code --alpha=0.05} the significance level, {@code --threshold=5} the smallest change of the median that
+ * counts, in percent, {@code --comment=...} a line kept in the recorded baseline, {@code --baselines-dir}.
+ *
+ * <pre>
+ * ./benchmark-baseline.sh record main
+ * ./benchmark-baseline.sh compare main
+ * </pre>
+ */
+public final class BenchmarkResults {
+
+    private static final String DEFAULT_RESULTS = "benchmark-results";
+    private static final int REGRESSED = 1;
+    private static final int USAGE = 2;
+
+    private BenchmarkResults() {}
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> arguments = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                arguments.add(arg);
+            }
+        }
+        if (arguments.size() < 2) {
+            usage();
+            System.exit(USAGE);
+        }
+        Baselines baselines = new Baselines(Path.of(options.getOrDefault("baselines-dir", "benchmark-baselines")));
+        String command = arguments.get(0);
+        String name = arguments.get(1);
+        List<String> inputs = arguments.subList(2, arguments.size());
+        switch (command) {
+            case "record" -> record(baselines, name, inputs, options.get("comment"));
+            case "compare" -> {
+                double alpha = Double.parseDouble(options.getOrDefault("alpha", "0.05"));
+                double threshold = Double.parseDouble(options.getOrDefault("threshold", "5")) / 100;
+                if (compare(baselines, name, inputs, alpha, threshold)) {
+                    System.exit(REGRESSED);
+                }
+            }
+            default -> {
+                usage();
+                System.exit(USAGE);
+            }
+        }
+    }
+
+    private static void record(Baselines baselines, String name, List<String> inputs, String comment)
+            throws IOException {
+        List<Path> paths = paths(inputs);
+        Map<String, Series> series = ResultFiles.collect(paths);
+        if (series.isEmpty()) {
+            throw new IllegalStateException("No results in " + paths);
+        }
+        String recorded = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS)
+                .format(DateTimeFormatter.ISO_INSTANT);
+        List<String> comments = new ArrayList<>();
+        comments.add("recorded " + recorded + " from " + paths);
+        if (comment != null) {
+            comments.add(comment);
+        }
+        comments.add("source\ttarget\tbenchmark\tmetric\tunit\tbetter\tvalues");
+        List<Series> sorted = new ArrayList<>(series.values());
+        sorted.sort(Comparator.comparing(Series::target).thenComparing(Series::source));
+        Path file = baselines.write(name, sorted, comments);
+        System.out.printf("%d series written to %s%n", sorted.size(), file);
+    }
+
+    /**
+     * @return whether something regressed
+     */
+    private static boolean compare(Baselines baselines, String name, List<String> inputs, double alpha,
+                                   double threshold) throws IOException {
+        Map<String, Series> baseline = baselines.read(name);
+        Map<String, Series> current = inputs.size() == 1 && baselines.exists(inputs.get(0))
+                ? baselines.read(inputs.get(0))
+                : ResultFiles.collect(paths(inputs));
+
+        Set<String> keys = new LinkedHashSet<>(baseline.keySet());
+        keys.addAll(current.keySet());
+        List<Comparison> comparisons = new ArrayList<>();
+        for (String key : keys) {
+            comparisons.add(Comparison.of(baseline.get(key), current.get(key), alpha, threshold));
+        }
+        comparisons.sort(Comparator.comparing((Comparison comparison) -> comparison.series().target())
+                .thenComparing(comparison -> comparison.series().source())
+                .thenComparing(comparison -> comparison.series().benchmark())
+                .thenComparing(comparison -> comparison.series().metric()));
+
+        System.out.printf("%-26s %-10s %-56s %-8s %-7s %11s %11s %8s %8s  %s%n", "target", "source", "benchmark",
+                "metric", "unit", "baseline", "current", "change", "p-value", "verdict");
+        Map<Verdict, Integer> counts = new EnumMap<>(Verdict.class);
+        for (Comparison comparison : comparisons) {
+            Series series = comparison.series();
+            System.out.printf(Locale.ROOT, "%-26s %-10s %-56s %-8s %-7s %11s %11s %8s %8s  %s%n",
+                    series.target(), series.source(), series.benchmark(), series.metric(), series.unit(),
+                    number(comparison.baselineMedian()), number(comparison.currentMedian()),
+                    Double.isNaN(comparison.change()) ? "" : String.format(Locale.ROOT, "%+.1f%%",
+                            comparison.change() * 100),
+                    Double.isNaN(comparison.pValue()) ? "" : String.format(Locale.ROOT, "%.4f", comparison.pValue()),
+                    comparison.verdict().name().toLowerCase(Locale.ROOT).replace('_', ' '));
+            counts.merge(comparison.verdict(), 1, Integer::sum);
+        }
+        System.out.printf(Locale.ROOT, "(medians; a change counts when p < %.2f and the medians are %.0f%% apart)%n",
+                alpha, threshold * 100);
+        StringBuilder summary = new StringBuilder();
+        counts.forEach((verdict, count) -> summary.append(summary.length() == 0 ? "" : ", ")
+                .append(count).append(' ').append(verdict.name().toLowerCase(Locale.ROOT).replace('_', ' ')));
+        System.out.println(summary);
+        return counts.containsKey(Verdict.REGRESSION);
+    }
+
+    private static List<Path> paths(List<String> inputs) {
+        return (inputs.isEmpty() ? List.of(DEFAULT_RESULTS) : inputs).stream().map(Path::of).toList();
+    }
+
+    private static String number(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.4g", value);
+    }
+
+    private static void usage() {
+        System.err.println("Usage: record NAME [FILE|DIR...] | compare BASELINE [NAME|FILE|DIR...]");
+        System.err.println("Results are read from " + DEFAULT_RESULTS + " by default; options: --alpha=0.05 "
+                + "--threshold=5 --comment=... --baselines-dir=benchmark-baselines");
+    }
+}
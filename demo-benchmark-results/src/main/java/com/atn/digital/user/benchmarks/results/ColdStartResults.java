@@ -0,0 +1,70 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Series.Better;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The samples of the cold start benchmark (demo-cold-start-benchmarks), {@code target,fork,metric,nanos} rows. Every
+ * fork is a fresh execution environment and gives one value of each series, in milliseconds: its init duration, its
+ * first invocation, and the p50 and p99 of its warm GET and POST durations.
+ */
+final class ColdStartResults {
+
+    static final String SOURCE = "cold-start";
+    static final String HEADER = "target,fork,metric,nanos";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private ColdStartResults() {}
+
+    static List<Series> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+            throw new IOException(file + " does not start with " + HEADER);
+        }
+        // target -> metric -> fork -> samples
+        Map<String, Map<String, Map<Integer, List<Long>>>> samples = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            if (columns.length != 4) {
+                continue;
+            }
+            samples.computeIfAbsent(columns[0], target -> new LinkedHashMap<>())
+                    .computeIfAbsent(columns[2], metric -> new TreeMap<>())
+                    .computeIfAbsent(Integer.parseInt(columns[1]), fork -> new ArrayList<>())
+                    .add(Long.parseLong(columns[3]));
+        }
+        List<Series> series = new ArrayList<>();
+        samples.forEach((target, metrics) -> metrics.forEach((metric, forks) -> {
+            if ("init".equals(metric) || "first-invocation".equals(metric)) {
+                series.add(new Series(SOURCE, target, metric, "duration", "ms", Better.LOWER,
+                        perFork(forks, 0)));
+            } else {
+                series.add(new Series(SOURCE, target, metric, "p50", "ms", Better.LOWER, perFork(forks, 50)));
+                series.add(new Series(SOURCE, target, metric, "p99", "ms", Better.LOWER, perFork(forks, 99)));
+            }
+        }));
+        return series;
+    }
+
+    /**
+     * One value per fork: the percentile of its samples, or its only sample.
+     */
+    private static double[] perFork(Map<Integer, List<Long>> forks, int percentile) {
+        return forks.values().stream()
+                .mapToDouble(values -> {
+                    long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+                    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+                    return sorted[Math.max(0, index)] / NANOS_PER_MILLI;
+                })
+                .toArray();
+    }
+}
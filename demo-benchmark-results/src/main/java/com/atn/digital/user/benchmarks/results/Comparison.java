@@ -0,0 +1,74 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Series.Better;
+
+import java.util.Arrays;
+
+/**
+ * One series of a baseline next to the same series of the current results. A change counts when it is both
+ * statistically significant, the Mann-Whitney p-value under {@code alpha}, and large enough to matter, the medians
+ * apart by at least {@code threshold}: with thousands of requests, a 0.5% shift is significant and of no interest.
+ * <p>
+ * Iterations and intervals of one run are not fully independent, so the test tends to be confident; the threshold is
+ * what keeps noise between runs from being reported.
+ *
+ * @param change the relative change of the median, positive when the current value is larger
+ */
+record Comparison(Series baseline, Series current, double baselineMedian, double currentMedian, double change,
+                  double pValue, Verdict verdict) {
+
+    /**
+     * Below four values a side, no difference reaches a p-value of 0.05.
+     */
+    static final int MIN_VALUES = 4;
+
+    enum Verdict {
+        REGRESSION, IMPROVEMENT, UNCHANGED, NOT_ENOUGH_DATA, UNIT_CHANGED, NEW, MISSING
+    }
+
+    static Comparison of(Series baseline, Series current, double alpha, double threshold) {
+        if (baseline == null) {
+            return new Comparison(null, current, Double.NaN, median(current.values()), Double.NaN, Double.NaN,
+                    Verdict.NEW);
+        }
+        double baselineMedian = median(baseline.values());
+        if (current == null) {
+            return new Comparison(baseline, null, baselineMedian, Double.NaN, Double.NaN, Double.NaN,
+                    Verdict.MISSING);
+        }
+        double currentMedian = median(current.values());
+        double change = baselineMedian == 0 ? 0 : (currentMedian - baselineMedian) / baselineMedian;
+        if (!baseline.unit().equals(current.unit())) {
+            return new Comparison(baseline, current, baselineMedian, currentMedian, Double.NaN, Double.NaN,
+                    Verdict.UNIT_CHANGED);
+        }
+        if (baseline.values().length < MIN_VALUES || current.values().length < MIN_VALUES) {
+            return new Comparison(baseline, current, baselineMedian, currentMedian, change, Double.NaN,
+                    Verdict.NOT_ENOUGH_DATA);
+        }
+        double pValue = MannWhitney.pValue(baseline.values(), current.values());
+        Verdict verdict = Verdict.UNCHANGED;
+        if (pValue < alpha && Math.abs(change) >= threshold) {
+            boolean worse = current.better() == Better.LOWER ? change > 0 : change < 0;
+            verdict = worse ? Verdict.REGRESSION : Verdict.IMPROVEMENT;
+        }
+        return new Comparison(baseline, current, baselineMedian, currentMedian, change, pValue, verdict);
+    }
+
+    /**
+     * The series either side holds, for its name.
+     */
+    Series series() {
+        return current != null ? current : baseline;
+    }
+
+    static double median(double[] values) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
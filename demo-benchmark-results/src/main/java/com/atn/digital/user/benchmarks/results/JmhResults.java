@@ -0,0 +1,147 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Series.Better;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The JSON results of JMH ({@code -rf json}), as written by {@code run-microbenchmarks.sh} and
+ * {@code run-handler-benchmarks.sh}. Each measurement iteration of each fork is one value: the score in throughput and
+ * average time modes, the p50 and p99 of the iteration's histogram in sample time mode, and the bytes allocated per
+ * operation when the GC profiler ran.
+ * <p>
+ * The handler benchmarks share their class names across modules, so their target comes from the file name,
+ * {@code handler-<target>-<timestamp>.json}; the other benchmarks measure the common code, target {@code shared}.
+ */
+final class JmhResults {
+
+    static final String SOURCE = "jmh";
+
+    private static final Pattern HANDLER_FILE = Pattern.compile("handler-(.+)-\\d{8}T\\d{6}Z\\.json");
+    private static final String SHARED_TARGET = "shared";
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private JmhResults() {}
+
+    static List<Series> read(Path file) throws IOException {
+        Matcher handlerFile = HANDLER_FILE.matcher(file.getFileName().toString());
+        String target = handlerFile.matches() ? handlerFile.group(1) : SHARED_TARGET;
+        JsonElement root;
+        try (Reader reader = Files.newBufferedReader(file)) {
+            root = JsonParser.parseReader(reader);
+        }
+        List<Series> series = new ArrayList<>();
+        if (!root.isJsonArray()) {
+            return series;
+        }
+        for (JsonElement element : root.getAsJsonArray()) {
+            JsonObject result = element.getAsJsonObject();
+            String mode = result.get("mode").getAsString();
+            String benchmark = name(result) + ":" + mode;
+            JsonObject primary = result.getAsJsonObject("primaryMetric");
+            String unit = primary.get("scoreUnit").getAsString();
+            if (primary.has("rawDataHistogram")) {
+                JsonArray histograms = primary.getAsJsonArray("rawDataHistogram");
+                series.add(new Series(SOURCE, target, benchmark, "p50", unit, Better.LOWER,
+                        percentiles(histograms, 0.50)));
+                series.add(new Series(SOURCE, target, benchmark, "p99", unit, Better.LOWER,
+                        percentiles(histograms, 0.99)));
+            } else {
+                series.add(new Series(SOURCE, target, benchmark, "score", unit,
+                        "thrpt".equals(mode) ? Better.HIGHER : Better.LOWER, rawData(primary)));
+            }
+            JsonObject allocation = secondary(result, ALLOCATION);
+            if (allocation != null && allocation.has("rawData")) {
+                series.add(new Series(SOURCE, target, benchmark, "alloc", allocation.get("scoreUnit").getAsString(),
+                        Better.LOWER, rawData(allocation)));
+            }
+        }
+        return series;
+    }
+
+    /**
+     * The class and method of the benchmark, with its parameters if any, e.g.
+     * {@code JsonCodecBenchmark.encode[codec=gson]}.
+     */
+    private static String name(JsonObject result) {
+        String[] parts = result.get("benchmark").getAsString().split("\\.");
+        String name = parts.length < 2 ? parts[0] : parts[parts.length - 2] + "." + parts[parts.length - 1];
+        if (!result.has("params")) {
+            return name;
+        }
+        return name + result.getAsJsonObject("params").entrySet().stream()
+                .map(param -> param.getKey() + "=" + param.getValue().getAsString())
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * The secondary metric of that name; the profilers of JMH 1.36 prefix theirs with a middle dot.
+     */
+    private static JsonObject secondary(JsonObject result, String name) {
+        if (!result.has("secondaryMetrics")) {
+            return null;
+        }
+        for (Map.Entry<String, JsonElement> metric : result.getAsJsonObject("secondaryMetrics").entrySet()) {
+            if (metric.getKey().equals(name) || metric.getKey().equals("·" + name)) {
+                return metric.getValue().getAsJsonObject();
+            }
+        }
+        return null;
+    }
+
+    private static double[] rawData(JsonObject metric) {
+        List<Double> values = new ArrayList<>();
+        for (JsonElement fork : metric.getAsJsonArray("rawData")) {
+            for (JsonElement iteration : fork.getAsJsonArray()) {
+                values.add(iteration.getAsDouble());
+            }
+        }
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * The percentile of each iteration, from its histogram of {@code [value, count]} pairs.
+     */
+    private static double[] percentiles(JsonArray histograms, double quantile) {
+        List<Double> values = new ArrayList<>();
+        for (JsonElement fork : histograms) {
+            for (JsonElement iteration : fork.getAsJsonArray()) {
+                List<double[]> buckets = new ArrayList<>();
+                long total = 0;
+                for (JsonElement bucket : iteration.getAsJsonArray()) {
+                    JsonArray pair = bucket.getAsJsonArray();
+                    buckets.add(new double[] {pair.get(0).getAsDouble(), pair.get(1).getAsDouble()});
+                    total += pair.get(1).getAsLong();
+                }
+                if (total == 0) {
+                    continue;
+                }
+                buckets.sort(Comparator.comparingDouble(bucket -> bucket[0]));
+                long rank = Math.max(1, (long) Math.ceil(quantile * total));
+                long seen = 0;
+                for (double[] bucket : buckets) {
+                    seen += (long) bucket[1];
+                    if (seen >= rank) {
+                        values.add(bucket[0]);
+                        break;
+                    }
+                }
+            }
+        }
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,71 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Series.Better;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The HdrHistogram logs of the load generator (demo-load-generator), one interval histogram per metric, {@code post},
+ * {@code post-service-time}, {@code get} and {@code scenario}, every reporting interval. Each interval gives one p50
+ * and one p99 value, in milliseconds; intervals of fewer than 100 requests, where a p99 means nothing, are left out.
+ * The target is read from the comment the load generator writes first, {@code #target=<target> ...}.
+ */
+final class LoadResults {
+
+    static final String SOURCE = "load";
+
+    private static final String TARGET_COMMENT = "#target=";
+    private static final long MIN_INTERVAL_COUNT = 100;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private LoadResults() {}
+
+    static List<Series> read(Path file) throws IOException {
+        String target = target(file);
+        Map<String, List<Histogram>> intervals = new LinkedHashMap<>();
+        HistogramLogReader reader = new HistogramLogReader(file.toFile());
+        try {
+            EncodableHistogram interval;
+            while ((interval = reader.nextIntervalHistogram()) != null) {
+                if (interval instanceof Histogram histogram && histogram.getTotalCount() >= MIN_INTERVAL_COUNT) {
+                    intervals.computeIfAbsent(histogram.getTag(), tag -> new ArrayList<>()).add(histogram);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        List<Series> series = new ArrayList<>();
+        intervals.forEach((tag, histograms) -> {
+            series.add(new Series(SOURCE, target, tag, "p50", "ms", Better.LOWER, percentiles(histograms, 50)));
+            series.add(new Series(SOURCE, target, tag, "p99", "ms", Better.LOWER, percentiles(histograms, 99)));
+        });
+        return series;
+    }
+
+    private static String target(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(TARGET_COMMENT)) {
+                throw new IOException(file + " does not start with " + TARGET_COMMENT);
+            }
+            int end = line.indexOf(' ');
+            return line.substring(TARGET_COMMENT.length(), end < 0 ? line.length() : end);
+        }
+    }
+
+    private static double[] percentiles(List<Histogram> histograms, double percentile) {
+        return histograms.stream()
+                .mapToDouble(histogram -> histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI)
+                .toArray();
+    }
+}
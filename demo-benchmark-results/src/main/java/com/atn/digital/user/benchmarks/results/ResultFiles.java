@@ -0,0 +1,68 @@
+package com.atn.digital.user.benchmarks.results;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The series found in result files and directories: {@code .json} files of JMH, {@code .hlog} files of the load
+ * generator and {@code .csv} files of the cold start benchmark. Results pile up run after run, so when several files
+ * hold the same series, the most recently written one wins.
+ */
+final class ResultFiles {
+
+    private ResultFiles() {}
+
+    static Map<String, Series> collect(List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> walk = Files.walk(path)) {
+                    walk.filter(Files::isRegularFile).forEach(files::add);
+                }
+            } else if (Files.isRegularFile(path)) {
+                files.add(path);
+            } else {
+                throw new IOException(path + " not found");
+            }
+        }
+        files.sort(Comparator.comparing(ResultFiles::lastModified));
+
+        Map<String, Series> series = new LinkedHashMap<>();
+        for (Path file : files) {
+            for (Series read : read(file)) {
+                series.remove(read.key());
+                series.put(read.key(), read);
+            }
+        }
+        return series;
+    }
+
+    private static List<Series> read(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".json")) {
+            return JmhResults.read(file);
+        }
+        if (name.endsWith(".hlog")) {
+            return LoadResults.read(file);
+        }
+        if (name.endsWith(".csv")) {
+            return ColdStartResults.read(file);
+        }
+        return List.of();
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.atn.digital.user.benchmarks.results;
+
+/**
+ * The repeated measurements of one metric of one benchmark on one target, e.g. the p99 of the GET of the load test
+ * on plain-java, one value per reporting interval. Values are independent repetitions, forks or iterations or
+ * intervals, so that two series can be compared with a rank test.
+ *
+ * @param source    {@code jmh}, {@code load} or {@code cold-start}
+ * @param target    one of the deployment targets, or {@code shared} for the benchmarks of the common code
+ * @param benchmark what was measured, e.g. the JMH benchmark and its mode, or {@code post}
+ * @param metric    e.g. {@code score}, {@code alloc}, {@code p99}
+ */
+record Series(String source, String target, String benchmark, String metric, String unit, Better better,
+              double[] values) {
+
+    enum Better {
+        LOWER, HIGHER
+    }
+
+    /**
+     * What identifies the series from one run to the next.
+     */
+    String key() {
+        return source + " " + target + " " + benchmark + " " + metric;
+    }
+}
@@ -0,0 +1,102 @@
+package com.atn.digital.user.benchmarks.results;
+
+import com.atn.digital.user.benchmarks.results.Comparison.Verdict;
+import com.atn.digital.user.benchmarks.results.Series.Better;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ComparisonTest {
+
+    private static final double ALPHA = 0.05;
+    private static final double THRESHOLD = 0.05;
+
+    @Test
+    void shouldReportSlowerLatencyAsRegression() {
+        Comparison comparison = Comparison.of(
+                latency(10.2, 11.5, 9.8, 12.1, 10.9, 11.1),
+                latency(12.4, 13.0, 11.9, 12.8, 13.5, 12.2),
+                ALPHA, THRESHOLD);
+
+        assertThat(comparison.verdict()).isEqualTo(Verdict.REGRESSION);
+        assertThat(comparison.baselineMedian()).isCloseTo(11.0, within(1e-9));
+        assertThat(comparison.currentMedian()).isCloseTo(12.6, within(1e-9));
+        assertThat(comparison.change()).isCloseTo(1.6 / 11.0, within(1e-9));
+    }
+
+    @Test
+    void shouldReportFasterLatencyAsImprovement() {
+        Comparison comparison = Comparison.of(
+                latency(12.4, 13.0, 11.9, 12.8, 13.5, 12.2),
+                latency(10.2, 11.5, 9.8, 12.1, 10.9, 11.1),
+                ALPHA, THRESHOLD);
+
+        assertThat(comparison.verdict()).isEqualTo(Verdict.IMPROVEMENT);
+    }
+
+    @Test
+    void shouldReportLowerThroughputAsRegression() {
+        Comparison comparison = Comparison.of(
+                throughput(12.4, 13.0, 11.9, 12.8, 13.5, 12.2),
+                throughput(10.2, 11.5, 9.8, 12.1, 10.9, 11.1),
+                ALPHA, THRESHOLD);
+
+        assertThat(comparison.verdict()).isEqualTo(Verdict.REGRESSION);
+    }
+
+    @Test
+    void shouldIgnoreSignificantChangesBelowTheThreshold() {
+        Comparison comparison = Comparison.of(
+                latency(100, 100.1, 100.2, 100.3, 100.4),
+                latency(101, 101.1, 101.2, 101.3, 101.4),
+                ALPHA, THRESHOLD);
+
+        assertThat(comparison.pValue()).isLessThan(ALPHA);
+        assertThat(comparison.verdict()).isEqualTo(Verdict.UNCHANGED);
+    }
+
+    @Test
+    void shouldIgnoreLargeChangesOfNoisySeries() {
+        Comparison comparison = Comparison.of(
+                latency(5, 20, 8, 30, 12),
+                latency(9, 25, 6, 40, 14),
+                ALPHA, THRESHOLD);
+
+        assertThat(comparison.change()).isGreaterThan(THRESHOLD);
+        assertThat(comparison.verdict()).isEqualTo(Verdict.UNCHANGED);
+    }
+
+    @Test
+    void shouldNotJudgeSeriesOfTooFewValues() {
+        Comparison comparison = Comparison.of(latency(1, 2, 3), latency(10, 20, 30), ALPHA, THRESHOLD);
+
+        assertThat(comparison.verdict()).isEqualTo(Verdict.NOT_ENOUGH_DATA);
+    }
+
+    @Test
+    void shouldNotCompareSeriesOfDifferentUnits() {
+        Series baseline = latency(1, 2, 3, 4);
+        Series current = new Series("jmh", "plain-java", "UserRequestHandlerBenchmark.findUser:sample", "p99",
+                "ms/op", Better.LOWER, new double[] {1, 2, 3, 4});
+
+        assertThat(Comparison.of(baseline, current, ALPHA, THRESHOLD).verdict()).isEqualTo(Verdict.UNIT_CHANGED);
+    }
+
+    @Test
+    void shouldReportSeriesOnOneSideOnly() {
+        assertThat(Comparison.of(null, latency(1, 2, 3, 4), ALPHA, THRESHOLD).verdict()).isEqualTo(Verdict.NEW);
+        assertThat(Comparison.of(latency(1, 2, 3, 4), null, ALPHA, THRESHOLD).verdict())
+                .isEqualTo(Verdict.MISSING);
+    }
+
+    private static Series latency(double... values) {
+        return new Series("jmh", "plain-java", "UserRequestHandlerBenchmark.findUser:sample", "p99", "us/op",
+                Better.LOWER, values);
+    }
+
+    private static Series throughput(double... values) {
+        return new Series("jmh", "plain-java", "UserRequestHandlerBenchmark.findUser:thrpt", "score", "ops/us",
+                Better.HIGHER, values);
+    }
+}
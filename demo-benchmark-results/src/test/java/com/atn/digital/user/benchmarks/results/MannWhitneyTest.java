@@ -0,0 +1,49 @@
+package com.atn.digital.user.benchmarks.results;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MannWhitneyTest {
+
+    @Test
+    void shouldGiveTheExactPValueOfSeparatedSamples() {
+        double pValue = MannWhitney.pValue(new double[] {1, 2, 3, 4, 5}, new double[] {6, 7, 8, 9, 10});
+
+        assertThat(pValue).isCloseTo(2.0 / 252, within(1e-12));
+    }
+
+    @Test
+    void shouldGiveTheExactPValueOfInterleavedSamples() {
+        double pValue = MannWhitney.pValue(new double[] {1, 3, 5, 7, 9}, new double[] {2, 4, 6, 8, 10});
+
+        assertThat(pValue).isCloseTo(0.6904761904761905, within(1e-12));
+    }
+
+    @Test
+    void shouldNotDependOnTheOrderOfTheSamples() {
+        double[] baseline = {10.2, 11.5, 9.8, 12.1, 10.9, 11.1};
+        double[] current = {12.4, 13.0, 11.9, 12.8, 13.5, 12.2};
+
+        assertThat(MannWhitney.pValue(baseline, current)).isCloseTo(0.004329004329004329, within(1e-12));
+        assertThat(MannWhitney.pValue(current, baseline)).isCloseTo(0.004329004329004329, within(1e-12));
+    }
+
+    @Test
+    void shouldApproximateThePValueWhenSamplesHaveTies() {
+        double pValue = MannWhitney.pValue(new double[] {1, 1, 2, 2, 3, 3, 4}, new double[] {2, 3, 3, 4, 4, 5, 5});
+
+        assertThat(pValue).isCloseTo(0.04997299988201324, within(1e-6));
+    }
+
+    @Test
+    void shouldFindNoDifferenceBetweenIdenticalSamples() {
+        assertThat(MannWhitney.pValue(new double[] {3, 3, 3, 3}, new double[] {3, 3, 3, 3})).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindNoDifferenceWithoutValues() {
+        assertThat(MannWhitney.pValue(new double[0], new double[] {1, 2, 3})).isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.atn.digital.user.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a probe's {@code main} in a fresh JVM on the current class path and hands back the line it printed
+ * after {@code resultPrefix}, so that every sample pays its own cold start.
+ */
+public final class ForkedJvm {
+
+    private ForkedJvm() {}
+
+    public static Result run(Class<?> probe, String resultPrefix, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (ManagementFactory.getRuntimeMXBean().getInputArguments().contains("--enable-preview")) {
+            command.add("--enable-preview");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(probe.getName());
+        command.addAll(List.of(args));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String result = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(resultPrefix)) {
+                    result = line.substring(resultPrefix.length());
+                } else {
+                    output.append(line).append(System.lineSeparator());
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        long wallNanos = System.nanoTime() - start;
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException(probe.getSimpleName() + " " + String.join(" ", args)
+                    + " failed with exit code " + exitCode + System.lineSeparator() + output);
+        }
+        return new Result(result.split(" "), wallNanos);
+    }
+
+    public static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    public record Result(String[] fields, long wallNanos) {
+
+        public long longField(int index) {
+            return Long.parseLong(fields[index]);
+        }
+    }
+}
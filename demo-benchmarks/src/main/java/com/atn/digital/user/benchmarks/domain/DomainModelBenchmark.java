@@ -0,0 +1,79 @@
+package com.atn.digital.user.benchmarks.domain;
+
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The domain objects every request builds: the validated command of a POST, rejected or not, and the
+ * {@link User} that the services hand to the repository, with and without an id.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar DomainModelBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class DomainModelBenchmark {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String invalidEmail;
+    private UserId userId;
+    private RegisterNewUserCommand command;
+
+    @Setup
+    public void setUp() {
+        // copies, so that the strings are not compile-time constants the JIT could fold
+        firstName = new String("Homer".toCharArray());
+        lastName = new String("Simpson".toCharArray());
+        email = new String("homer.simpson@springfield.test".toCharArray());
+        invalidEmail = new String("homer.simpson@springfield_test".toCharArray());
+        userId = new UserId(UUID.randomUUID().toString());
+        command = new RegisterNewUserCommand(firstName, lastName, email);
+    }
+
+    @Benchmark
+    public RegisterNewUserCommand validCommand() {
+        return new RegisterNewUserCommand(firstName, lastName, email);
+    }
+
+    @Benchmark
+    public ConstraintViolationException invalidCommand() {
+        try {
+            new RegisterNewUserCommand(firstName, lastName, invalidEmail);
+            throw new IllegalStateException("invalid email accepted");
+        } catch (ConstraintViolationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public User userWithoutId() {
+        return User.withoutId(command.getFirstName(), command.getLastName(), command.getEmail());
+    }
+
+    @Benchmark
+    public User userWithId() {
+        return User.withId(userId, firstName, lastName, email);
+    }
+}
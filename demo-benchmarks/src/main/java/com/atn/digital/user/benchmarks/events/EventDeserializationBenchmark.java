@@ -0,0 +1,82 @@
+package com.atn.digital.user.benchmarks.events;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.atn.digital.user.BenchmarkEvents;
+import com.atn.digital.user.adapters.in.handler.UserHttpRequest;
+import com.atn.digital.user.adapters.in.handler.json.ApiGatewayProxyCodec;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning the same GET request into an event object, as a REST API (payload format 1.0) event and as
+ * an HTTP API or Function URL (payload format 2.0) event. The Micronaut, Quarkus and Spring Cloud Function
+ * handlers bind events with Jackson, and the Java runtime binds them for the plain Java handler with a shaded
+ * Jackson, so one Jackson mapper stands for the four modules. The stream codec of the plain Java
+ * {@code RequestStreamHandler} is measured on the REST API event for comparison. The REST API event is the one the
+ * handler modules benchmark with.
+ *
+ * <pre>
+ * java --enable-preview -jar demo-benchmarks/target/benchmarks.jar EventDeserializationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class EventDeserializationBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private String restApiEvent;
+    private String httpApiEvent;
+
+    @Setup
+    public void setUp() {
+        restApiEvent = BenchmarkEvents.findUser("/plain-java-request-handler/users",
+                "0190c5d0-7a3e-7c2b-9f4e-2d1c0b0a0908");
+        httpApiEvent = resource("/events/http-api-event.json");
+    }
+
+    @Benchmark
+    public APIGatewayProxyRequestEvent restApiJackson() throws IOException {
+        return mapper.readValue(restApiEvent, APIGatewayProxyRequestEvent.class);
+    }
+
+    @Benchmark
+    public APIGatewayV2HTTPEvent httpApiJackson() throws IOException {
+        return mapper.readValue(httpApiEvent, APIGatewayV2HTTPEvent.class);
+    }
+
+    @Benchmark
+    public UserHttpRequest restApiStreamCodec() {
+        return ApiGatewayProxyCodec.readRequest(restApiEvent);
+    }
+
+    private static String resource(String name) {
+        try (InputStream input = EventDeserializationBenchmark.class.getResourceAsStream(name)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.atn.digital.user.benchmarks.exceptions;
+
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.out.persistence.FindUserByIdPort;
+import com.atn.digital.user.domain.services.FindUserByIdService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A GET by id as a handler serves it, turning {@link UserNotFoundException} into a 404, for a mix of known and
+ * unknown ids. {@code stackless} is the domain service as it is; {@code withStackTrace} is the same service
+ * throwing an exception that captures its stack, as the domain exceptions used to. Handlers run under a
+ * framework, so the query is called {@code callDepth} frames down to give the capture a realistic stack to walk.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar UserNotFoundBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class UserNotFoundBenchmark {
+
+    private static final int ID_COUNT = 1_024;
+
+    @Param({"0.1", "0.5", "0.9"})
+    private double notFoundRatio;
+
+    @Param({"20", "120"})
+    private int callDepth;
+
+    private FindUserByIdQuery stacklessQuery;
+    private FindUserByIdQuery stackTraceQuery;
+    private final UserId[] ids = new UserId[ID_COUNT];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Map<UserId, User> users = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < ID_COUNT; i++) {
+            ids[i] = new UserId(UUID.randomUUID().toString());
+            if (random.nextDouble() >= notFoundRatio) {
+                users.put(ids[i], User.withId(ids[i], "Homer", "Simpson", "homer.simpson@unit.test"));
+            }
+        }
+        FindUserByIdPort port = users::get;
+        stacklessQuery = new FindUserByIdService(port);
+        stackTraceQuery = userId -> {
+            User user = port.findByUserId(userId);
+            if (user == null) {
+                throw new StackTraceUserNotFoundException("Couldn't find user with id: " + userId.getId());
+            }
+            return user;
+        };
+    }
+
+    @Benchmark
+    public int stackless() {
+        return statusCode(stacklessQuery, nextId(), callDepth);
+    }
+
+    @Benchmark
+    public int withStackTrace() {
+        return statusCode(stackTraceQuery, nextId(), callDepth);
+    }
+
+    private UserId nextId() {
+        next = (next + 1) & (ID_COUNT - 1);
+        return ids[next];
+    }
+
+    private static int statusCode(FindUserByIdQuery query, UserId userId, int depth) {
+        if (depth > 0) {
+            return statusCode(query, userId, depth - 1);
+        }
+        try {
+            return query.findByUserId(userId).getId().isPresent() ? 200 : 500;
+        } catch (RuntimeException e) {
+            return e.getMessage() == null ? 500 : 404;
+        }
+    }
+
+    private static final class StackTraceUserNotFoundException extends RuntimeException {
+
+        private StackTraceUserNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
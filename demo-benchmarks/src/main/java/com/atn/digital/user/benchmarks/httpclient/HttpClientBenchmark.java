@@ -0,0 +1,89 @@
+package com.atn.digital.user.benchmarks.httpclient;
+
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import com.atn.digital.user.adapters.out.dynamodb.client.HttpClientType;
+import com.atn.digital.user.adapters.out.dynamodb.client.UserTableBootstrap;
+import com.atn.digital.user.benchmarks.ForkedJvm;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the {@link HttpClientType}s on what matters to a cold Lambda (client init time, first request latency)
+ * and to a long-running container (steady-state latency, resident memory). Each sample is a new JVM running
+ * {@link HttpClientProbe} against DynamoDB Local, for example {@code docker run -p 8000:8000 amazon/dynamodb-local}.
+ *
+ * <pre>
+ * java -cp demo-benchmarks/target/benchmarks.jar com.atn.digital.user.benchmarks.httpclient.HttpClientBenchmark \
+ *     http://localhost:8000 5 2000
+ * </pre>
+ */
+public final class HttpClientBenchmark {
+
+    private HttpClientBenchmark() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String endpoint = args.length > 0 ? args[0] : "http://localhost:8000";
+        int forks = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+        seedTable(URI.create(endpoint));
+
+        Map<HttpClientType, List<ForkedJvm.Result>> samples = new EnumMap<>(HttpClientType.class);
+        for (HttpClientType type : HttpClientType.values()) {
+            samples.put(type, new ArrayList<>(forks));
+        }
+        for (int fork = 0; fork < forks; fork++) {
+            List<HttpClientType> order = new ArrayList<>(List.of(HttpClientType.values()));
+            Collections.rotate(order, fork);
+            for (HttpClientType type : order) {
+                samples.get(type).add(ForkedJvm.run(HttpClientProbe.class, HttpClientProbe.RESULT_PREFIX,
+                        type.name(), endpoint, String.valueOf(requests)));
+            }
+        }
+
+        System.out.printf("%-15s %6s %15s %16s %15s %15s %13s%n", "httpClient", "forks",
+                "init p50 (ms)", "first p50 (ms)", "steady p50 (us)", "steady p99 (us)", "rss p50 (MB)");
+        for (Map.Entry<HttpClientType, List<ForkedJvm.Result>> entry : samples.entrySet()) {
+            List<ForkedJvm.Result> results = entry.getValue();
+            System.out.printf("%-15s %6d %15.2f %16.2f %15.1f %15.1f %13.1f%n",
+                    entry.getKey() + (entry.getKey().isAsync() ? " (async)" : ""),
+                    results.size(),
+                    median(results, 0) / 1e6,
+                    median(results, 1) / 1e6,
+                    median(results, 2) / 1e3,
+                    median(results, 3) / 1e3,
+                    median(results, 4) / 1024.0);
+        }
+    }
+
+    private static long median(List<ForkedJvm.Result> results, int field) {
+        return ForkedJvm.percentile(results.stream().mapToLong(result -> result.longField(field)).toArray(), 50);
+    }
+
+    private static void seedTable(URI endpoint) {
+        HttpClientProbe.useLocalCredentials();
+        DynamoDbClientFactory factory = new DynamoDbClientFactory(
+                new DynamoDbClientSettings(endpoint, Region.US_EAST_1, HttpClientProbe.TABLE_NAME, false));
+        try (DynamoDbClient client = factory.createClient()) {
+            UserTableBootstrap.createIfMissing(client, HttpClientProbe.TABLE_NAME);
+            client.putItem(PutItemRequest.builder()
+                    .tableName(HttpClientProbe.TABLE_NAME)
+                    .item(Map.of(
+                            "id", AttributeValue.builder().s(HttpClientProbe.USER_ID).build(),
+                            "firstName", AttributeValue.builder().s("Homer").build(),
+                            "lastName", AttributeValue.builder().s("Simpson").build(),
+                            "email", AttributeValue.builder().s("homer.simpson@unit.test").build()))
+                    .build());
+        }
+    }
+}
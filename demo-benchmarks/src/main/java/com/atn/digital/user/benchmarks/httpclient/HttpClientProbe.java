@@ -0,0 +1,104 @@
+package com.atn.digital.user.benchmarks.httpclient;
+
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import com.atn.digital.user.adapters.out.dynamodb.client.HttpClientType;
+import com.atn.digital.user.benchmarks.ForkedJvm;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Runs in a fresh JVM: builds a DynamoDB client on one {@link HttpClientType}, then times the first
+ * {@code GetItem} and a steady stream of them against DynamoDB Local. Started by {@link HttpClientBenchmark}.
+ */
+public final class HttpClientProbe {
+
+    static final String RESULT_PREFIX = "http-client-probe ";
+    static final String TABLE_NAME = "WorkshopUsers";
+    static final String USER_ID = "http-client-benchmark-user";
+    private static final int WARMUP_REQUESTS = 200;
+
+    private HttpClientProbe() {}
+
+    public static void main(String[] args) throws IOException {
+        HttpClientType type = HttpClientType.valueOf(args[0]);
+        URI endpoint = URI.create(args[1]);
+        int requests = Integer.parseInt(args[2]);
+        useLocalCredentials();
+
+        DynamoDbClientSettings settings = new DynamoDbClientSettings(endpoint, Region.US_EAST_1, TABLE_NAME, false,
+                type.isAsync() ? HttpClientType.DEFAULT_SYNC : type,
+                type.isAsync() ? type : HttpClientType.DEFAULT_ASYNC);
+        DynamoDbClientFactory factory = new DynamoDbClientFactory(settings);
+        GetItemRequest request = GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of("id", AttributeValue.builder().s(USER_ID).build()))
+                .build();
+
+        Consumer<GetItemRequest> getItem;
+        AutoCloseable client;
+        if (type.isAsync()) {
+            DynamoDbAsyncClient asyncClient = factory.createAsyncClient();
+            getItem = getItemRequest -> asyncClient.getItem(getItemRequest).join();
+            client = asyncClient;
+        } else {
+            DynamoDbClient syncClient = factory.createClient();
+            getItem = syncClient::getItem;
+            client = syncClient;
+        }
+        long initNanos = factory.lastTimings().totalNanos();
+
+        long start = System.nanoTime();
+        getItem.accept(request);
+        long firstRequestNanos = System.nanoTime() - start;
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            getItem.accept(request);
+        }
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            start = System.nanoTime();
+            getItem.accept(request);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long rssKb = residentSetKb();
+        try {
+            client.close();
+        } catch (Exception e) {
+            throw new IllegalStateException("Couldn't close " + type + " client", e);
+        }
+
+        System.out.println(RESULT_PREFIX + initNanos + " " + firstRequestNanos + " "
+                + ForkedJvm.percentile(latencies, 50) + " " + ForkedJvm.percentile(latencies, 99) + " " + rssKb);
+    }
+
+    static void useLocalCredentials() {
+        if (System.getenv("AWS_ACCESS_KEY_ID") == null && System.getProperty("aws.accessKeyId") == null) {
+            System.setProperty("aws.accessKeyId", "local");
+            System.setProperty("aws.secretAccessKey", "local");
+        }
+    }
+
+    private static long residentSetKb() throws IOException {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,90 @@
+package com.atn.digital.user.benchmarks.id;
+
+import com.atn.digital.user.domain.models.User.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What an id costs as it crosses the layers: parsing the path parameter, formatting it back for the response
+ * and looking it up in an in-memory cache, next to the same work done with {@link UUID} and plain strings.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar UserIdBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class UserIdBenchmark {
+
+    private static final int CACHE_SIZE = 1_000;
+
+    private String text;
+    private long mostSignificantBits;
+    private long leastSignificantBits;
+    private UserId userIdKey;
+    private String stringKey;
+    private final Map<UserId, Integer> userIdCache = new HashMap<>();
+    private final Map<String, Integer> stringCache = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            String id = UUID.randomUUID().toString();
+            userIdCache.put(new UserId(id), i);
+            stringCache.put(id, i);
+            text = id;
+        }
+        UUID uuid = UUID.fromString(text);
+        mostSignificantBits = uuid.getMostSignificantBits();
+        leastSignificantBits = uuid.getLeastSignificantBits();
+        userIdKey = new UserId(text);
+        stringKey = new String(text.toCharArray());
+    }
+
+    @Benchmark
+    public UserId parseUserId() {
+        return new UserId(text);
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return UUID.fromString(text);
+    }
+
+    @Benchmark
+    public String formatUserId() {
+        return UserId.of(mostSignificantBits, leastSignificantBits).getId();
+    }
+
+    @Benchmark
+    public String formatUuid() {
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    @Benchmark
+    public Integer lookupByUserId() {
+        return userIdCache.get(userIdKey);
+    }
+
+    @Benchmark
+    public Integer lookupByString() {
+        return stringCache.get(stringKey);
+    }
+}
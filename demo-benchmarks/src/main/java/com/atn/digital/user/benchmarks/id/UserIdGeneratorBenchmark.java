@@ -0,0 +1,63 @@
+package com.atn.digital.user.benchmarks.id;
+
+import com.atn.digital.user.adapters.out.persistence.id.RandomUuidUserIdGenerator;
+import com.atn.digital.user.adapters.out.persistence.id.TimeOrderedUserIdGenerator;
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one id from the original random UUID generator and the time-ordered one, alone and with eight
+ * threads registering users at once.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar UserIdGeneratorBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class UserIdGeneratorBenchmark {
+
+    @Param({"RANDOM_UUID", "TIME_ORDERED"})
+    private String generatorType;
+
+    private UserIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = switch (generatorType) {
+            case "RANDOM_UUID" -> RandomUuidUserIdGenerator.INSTANCE;
+            case "TIME_ORDERED" -> new TimeOrderedUserIdGenerator();
+            default -> throw new IllegalArgumentException("Unknown generator type " + generatorType);
+        };
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UserId nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserId nextIdContended() {
+        return generator.nextId();
+    }
+}
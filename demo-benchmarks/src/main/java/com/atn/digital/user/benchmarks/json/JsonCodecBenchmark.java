@@ -0,0 +1,114 @@
+package com.atn.digital.user.benchmarks.json;
+
+import com.atn.digital.user.adapters.in.handler.RegisterNewUserData;
+import com.atn.digital.user.adapters.in.handler.UserDto;
+import com.atn.digital.user.adapters.in.handler.json.UserJsonCodec;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Reading the POST bodies and writing the GET responses of the Lambda handlers with {@code Gson}, as they did,
+ * and with {@link UserJsonCodec}, for a single user and for a batch of {@code batchSize} users.
+ * The {@code gsonNewInstance} variants build a fresh {@code Gson} per call, which is what the first request of
+ * a new execution environment pays for.
+ *
+ * <pre>
+ * java --enable-preview -jar demo-benchmarks/target/benchmarks.jar JsonCodecBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class JsonCodecBenchmark {
+
+    @Param({"25", "100"})
+    private int batchSize;
+
+    private final Gson gson = new Gson();
+
+    private String registerNewUserJson;
+    private String registerNewUsersJson;
+    private UserDto userDto;
+    private List<UserDto> userDtos;
+
+    @Setup
+    public void setUp() {
+        List<RegisterNewUserData> users = IntStream.range(0, batchSize)
+                .mapToObj(i -> new RegisterNewUserData("Homer" + i, "Simpson", "homer" + i + "@springfield.test"))
+                .toList();
+        registerNewUserJson = gson.toJson(users.get(0));
+        registerNewUsersJson = gson.toJson(users);
+        userDtos = IntStream.range(0, batchSize)
+                .mapToObj(i -> new UserDto("0190c5d0-7a3e-7c2b-9f4e-" + String.format("%012d", i),
+                        "Homer" + i, "Simpson", "homer" + i + "@springfield.test"))
+                .toList();
+        userDto = userDtos.get(0);
+    }
+
+    @Benchmark
+    public RegisterNewUserData readSingleGson() {
+        return gson.fromJson(registerNewUserJson, RegisterNewUserData.class);
+    }
+
+    @Benchmark
+    public RegisterNewUserData readSingleGsonNewInstance() {
+        return new Gson().fromJson(registerNewUserJson, RegisterNewUserData.class);
+    }
+
+    @Benchmark
+    public RegisterNewUserData readSingleCodec() {
+        return UserJsonCodec.readRegisterNewUserData(registerNewUserJson);
+    }
+
+    @Benchmark
+    public RegisterNewUserData[] readBatchGson() {
+        return gson.fromJson(registerNewUsersJson, RegisterNewUserData[].class);
+    }
+
+    @Benchmark
+    public RegisterNewUserData[] readBatchCodec() {
+        return UserJsonCodec.readRegisterNewUserDataArray(registerNewUsersJson);
+    }
+
+    @Benchmark
+    public String writeSingleGson() {
+        return gson.toJson(userDto);
+    }
+
+    @Benchmark
+    public String writeSingleGsonNewInstance() {
+        return new Gson().toJson(userDto);
+    }
+
+    @Benchmark
+    public String writeSingleCodec() {
+        return UserJsonCodec.writeUserDto(userDto);
+    }
+
+    @Benchmark
+    public String writeBatchGson() {
+        return gson.toJson(userDtos);
+    }
+
+    @Benchmark
+    public String writeBatchCodec() {
+        return UserJsonCodec.writeUserDtos(userDtos);
+    }
+}
@@ -0,0 +1,90 @@
+package com.atn.digital.user.benchmarks.logging;
+
+import com.atn.digital.user.adapters.in.handler.UserHttpRequest;
+import com.atn.digital.user.adapters.in.handler.UserHttpResponse;
+import com.atn.digital.user.adapters.in.handler.UserRequestRouter;
+import com.atn.digital.user.adapters.in.handler.logging.LogLevel;
+import com.atn.digital.user.adapters.in.handler.logging.StructuredLogging;
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-invocation cost of the handler logging, on a POST routed to use cases that do no work, without metrics. The sink is a
+ * {@link Blackhole}, so only building the log lines is measured, not writing them. {@code structured} runs the
+ * router with {@code LOG_LEVEL} set to {@code level}; {@code concatenated} stands for the logging the handlers did
+ * before, one string concatenation per line with the whole body, on top of a router with logging OFF.
+ *
+ * <pre>
+ * java --enable-preview -jar demo-benchmarks/target/benchmarks.jar StructuredLoggingBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class StructuredLoggingBenchmark {
+
+    private static final String BODY =
+            "{\"firstName\":\"firstName\",\"lastName\":\"lastName\",\"email\":\"first.last@unit.test\"}";
+
+    private final UserHttpRequest request = new UserHttpRequest("POST", "/users", null, null, BODY);
+    private final UserRequestRouter silentRouter = router(LogLevel.OFF);
+
+    @State(Scope.Benchmark)
+    public static class Logging {
+
+        @Param({"OFF", "INFO", "DEBUG"})
+        public String level;
+
+        private UserRequestRouter router;
+
+        @Setup
+        public void setUp() {
+            router = router(LogLevel.valueOf(level));
+        }
+    }
+
+    @Benchmark
+    public UserHttpResponse structured(Logging logging, Blackhole blackhole) {
+        return logging.router.handle(request, Function.identity(), Function.identity(),
+                "c6af9ac6-7b61-11e6-9a41-93e8deadbeef", blackhole::consume);
+    }
+
+    @Benchmark
+    public UserHttpResponse concatenated(Blackhole blackhole) {
+        blackhole.consume("httpMethod = " + request.httpMethod().toUpperCase());
+        blackhole.consume("body = " + request.body());
+        return silentRouter.handle(request, Function.identity(), Function.identity(), null, blackhole::consume);
+    }
+
+    private static UserRequestRouter router(LogLevel level) {
+        UserId userId = new UserId("d3b07384-d9a0-4c9b-8f3a-1c2b3d4e5f60");
+        User user = User.withId(userId, "firstName", "lastName", "first.last@unit.test");
+        return new UserRequestRouter(
+                command -> userId,
+                commands -> List.of(userId),
+                id -> user,
+                ids -> List.of(user),
+                new StructuredLogging(level, 0),
+                new EmbeddedMetrics(false, null, null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.atn.digital.user.benchmarks.metrics;
+
+import com.atn.digital.user.adapters.in.handler.UserHttpRequest;
+import com.atn.digital.user.adapters.in.handler.UserHttpResponse;
+import com.atn.digital.user.adapters.in.handler.UserRequestRouter;
+import com.atn.digital.user.adapters.in.handler.logging.LogLevel;
+import com.atn.digital.user.adapters.in.handler.logging.StructuredLogging;
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
+import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-invocation cost of timing the stages and writing the EMF line, on a GET by id through the domain services
+ * and a {@link TimedUserRepository} in front of a repository that does no work. Logging is OFF and the sink is a
+ * {@link Blackhole}.
+ *
+ * <pre>
+ * java --enable-preview -jar demo-benchmarks/target/benchmarks.jar EmbeddedMetricsBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class EmbeddedMetricsBenchmark {
+
+    private static final String USER_ID = "d3b07384-d9a0-4c9b-8f3a-1c2b3d4e5f60";
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private final UserHttpRequest request = new UserHttpRequest("GET", "/users/" + USER_ID, USER_ID, null, null);
+    private UserRequestRouter router;
+
+    @Setup
+    public void setUp() {
+        UserRepository repository = new TimedUserRepository(new FixedUserRepository(
+                User.withId(new UserId(USER_ID), "firstName", "lastName", "first.last@unit.test")));
+        router = new UserRequestRouter(
+                new RegisterNewUserService(repository),
+                new RegisterNewUsersService(repository),
+                new FindUserByIdService(repository),
+                new FindUsersByIdsService(repository),
+                new StructuredLogging(LogLevel.OFF, 0),
+                new EmbeddedMetrics(metrics, EmbeddedMetrics.DEFAULT_NAMESPACE, "user-function"));
+    }
+
+    @Benchmark
+    public UserHttpResponse getById(Blackhole blackhole) {
+        return router.handle(request, Function.identity(), Function.identity(),
+                "c6af9ac6-7b61-11e6-9a41-93e8deadbeef", blackhole::consume);
+    }
+
+    private static class FixedUserRepository extends UserRepository {
+
+        private final User user;
+
+        FixedUserRepository(User user) {
+            this.user = user;
+        }
+
+        @Override
+        public UserId registerNewUser(User user) {
+            return this.user.getId().get();
+        }
+
+        @Override
+        public User findByUserId(UserId userId) {
+            return user;
+        }
+    }
+}
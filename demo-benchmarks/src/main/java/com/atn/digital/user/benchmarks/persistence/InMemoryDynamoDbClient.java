@@ -0,0 +1,52 @@
+package com.atn.digital.user.benchmarks.persistence;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for DynamoDB that answers {@code PutItem} and {@code GetItem} from a map, with no network and
+ * no wire protocol, so that a benchmark only measures what the repositories do on the client side.
+ * The map stops growing after {@link #MAX_ITEMS} items to keep long write benchmarks off the heap limit.
+ */
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+
+    static final int MAX_ITEMS = 10_000;
+
+    private final Map<AttributeValue, Map<String, AttributeValue>> items = new ConcurrentHashMap<>();
+    private final String partitionKey;
+
+    public InMemoryDynamoDbClient(String partitionKey) {
+        this.partitionKey = partitionKey;
+    }
+
+    @Override
+    public PutItemResponse putItem(PutItemRequest putItemRequest) {
+        if (items.size() < MAX_ITEMS) {
+            items.put(putItemRequest.item().get(partitionKey), putItemRequest.item());
+        }
+        return PutItemResponse.builder().build();
+    }
+
+    @Override
+    public GetItemResponse getItem(GetItemRequest getItemRequest) {
+        return GetItemResponse.builder()
+                .item(items.get(getItemRequest.key().get(partitionKey)))
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
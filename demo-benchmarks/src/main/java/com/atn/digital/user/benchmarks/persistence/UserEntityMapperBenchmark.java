@@ -0,0 +1,57 @@
+package com.atn.digital.user.benchmarks.persistence;
+
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserEntity;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserEntityMapper;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mapping between the domain {@link User} and the {@link UserEntity} stored in DynamoDB, done once per PUT
+ * and once per item read, apart from the SDK's own conversion to attribute values.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar UserEntityMapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class UserEntityMapperBenchmark {
+
+    private final UserEntityMapper mapper = new UserEntityMapper();
+    private User user;
+    private UserEntity entity;
+
+    @Setup
+    public void setUp() {
+        user = User.withId(new UserId(UUID.randomUUID().toString()),
+                "Homer", "Simpson", "homer.simpson@springfield.test");
+        entity = mapper.toUserEntity(user);
+    }
+
+    @Benchmark
+    public UserEntity toUserEntity() {
+        return mapper.toUserEntity(user);
+    }
+
+    @Benchmark
+    public User toUser() {
+        return mapper.toUser(entity);
+    }
+}
@@ -0,0 +1,79 @@
+package com.atn.digital.user.benchmarks.persistence;
+
+import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.LowLevelDynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserIdKeyFormat;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserTableSchema;
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the enhanced client repository, with either table schema, against the hand-mapped
+ * {@link LowLevelDynamoDbUserRepository}, with a string or a binary partition key, all talking to an
+ * {@link InMemoryDynamoDbClient}.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar UserRepositoryBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class UserRepositoryBenchmark {
+
+    @Param({"ENHANCED_BEAN", "ENHANCED_STATIC", "LOW_LEVEL", "LOW_LEVEL_BINARY_KEY"})
+    private String repositoryType;
+
+    private UserRepository repository;
+    private User newUser;
+    private UserId knownUserId;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("USER_TABLE", "WorkshopUsers");
+        InMemoryDynamoDbClient client = new InMemoryDynamoDbClient("id");
+        repository = switch (repositoryType) {
+            case "ENHANCED_BEAN" -> new DynamoDbUserRepository(
+                    client, DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserTableSchema.BEAN);
+            case "ENHANCED_STATIC" -> new DynamoDbUserRepository(
+                    client, DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserTableSchema.STATIC);
+            case "LOW_LEVEL" -> new LowLevelDynamoDbUserRepository(client,
+                    DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserIdGenerator.defaultGenerator(),
+                    UserIdKeyFormat.STRING);
+            case "LOW_LEVEL_BINARY_KEY" -> new LowLevelDynamoDbUserRepository(client,
+                    DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserIdGenerator.defaultGenerator(),
+                    UserIdKeyFormat.BINARY);
+            default -> throw new IllegalArgumentException("Unknown repository type " + repositoryType);
+        };
+        newUser = User.withoutId("Homer", "Simpson", "homer.simpson@unit.test");
+        knownUserId = repository.registerNewUser(newUser);
+    }
+
+    @Benchmark
+    public UserId registerNewUser() {
+        return repository.registerNewUser(newUser);
+    }
+
+    @Benchmark
+    public User findByUserId() {
+        return repository.findByUserId(knownUserId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.atn.digital.user.benchmarks.startup;
+
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserTableSchema;
+import com.atn.digital.user.benchmarks.ForkedJvm;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compares the first-use cost of the bean and static {@link UserTableSchema} the way a cold start sees it:
+ * every sample is a new JVM running {@link TableSchemaStartupProbe}, and the two schemas take turns so
+ * that disk cache and CPU frequency drift hit both alike.
+ *
+ * <pre>
+ * mvn -pl demo-benchmarks -am package -DskipTests
+ * java -cp demo-benchmarks/target/benchmarks.jar com.atn.digital.user.benchmarks.startup.TableSchemaStartupBenchmark 20
+ * </pre>
+ */
+public final class TableSchemaStartupBenchmark {
+
+    private static final int DEFAULT_FORKS = 20;
+
+    private TableSchemaStartupBenchmark() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int forks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FORKS;
+        Map<UserTableSchema, List<Sample>> samples = new EnumMap<>(UserTableSchema.class);
+        for (UserTableSchema schema : UserTableSchema.values()) {
+            samples.put(schema, new ArrayList<>(forks));
+        }
+
+        for (int fork = 0; fork < forks; fork++) {
+            List<UserTableSchema> order = new ArrayList<>(List.of(UserTableSchema.values()));
+            if (fork % 2 == 1) {
+                Collections.reverse(order);
+            }
+            for (UserTableSchema schema : order) {
+                ForkedJvm.Result result = ForkedJvm.run(
+                        TableSchemaStartupProbe.class, TableSchemaStartupProbe.RESULT_PREFIX, schema.name());
+                samples.get(schema).add(new Sample(result.longField(0), result.longField(1), result.wallNanos()));
+            }
+        }
+
+        System.out.printf("%-8s %6s %14s %14s %16s %16s%n",
+                "schema", "forks", "init p50 (ms)", "init p90 (ms)", "classes p50", "jvm p50 (ms)");
+        for (Map.Entry<UserTableSchema, List<Sample>> entry : samples.entrySet()) {
+            List<Sample> results = entry.getValue();
+            System.out.printf("%-8s %6d %14.2f %14.2f %16d %16.1f%n",
+                    entry.getKey(),
+                    results.size(),
+                    percentile(results, Sample::initNanos, 50) / 1e6,
+                    percentile(results, Sample::initNanos, 90) / 1e6,
+                    percentile(results, Sample::classesLoaded, 50),
+                    percentile(results, Sample::jvmNanos, 50) / 1e6);
+        }
+    }
+
+    private static long percentile(List<Sample> samples, ToLongFunction<Sample> field, int percentile) {
+        return ForkedJvm.percentile(samples.stream().mapToLong(field).toArray(), percentile);
+    }
+
+    private record Sample(long initNanos, long classesLoaded, long jvmNanos) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.atn.digital.user.benchmarks.startup;
+
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserEntity;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Runs in a fresh JVM: builds one {@link UserTableSchema}, maps a user to an item and back, and prints how long
+ * that took and how many classes it loaded. Started by {@link TableSchemaStartupBenchmark}.
+ */
+public final class TableSchemaStartupProbe {
+
+    static final String RESULT_PREFIX = "table-schema-startup ";
+
+    private TableSchemaStartupProbe() {}
+
+    public static void main(String[] args) {
+        UserTableSchema schema = UserTableSchema.valueOf(args[0]);
+        UserEntity sample = new UserEntity();
+        sample.setId("3f0f8a52-8b5e-4a52-9d3c-0d3c1b1f9d7e");
+        sample.setFirstName("Homer");
+        sample.setLastName("Simpson");
+        sample.setEmail("homer.simpson@unit.test");
+
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        long classesBefore = classLoading.getTotalLoadedClassCount();
+        long start = System.nanoTime();
+
+        TableSchema<UserEntity> tableSchema = schema.tableSchema();
+        UserEntity copy = tableSchema.mapToItem(tableSchema.itemToMap(sample, true));
+
+        long elapsedNanos = System.nanoTime() - start;
+        long classesLoaded = classLoading.getTotalLoadedClassCount() - classesBefore;
+        if (!sample.getEmail().equals(copy.getEmail())) {
+            throw new IllegalStateException("Schema " + schema + " didn't round trip the sample user");
+        }
+        System.out.println(RESULT_PREFIX + elapsedNanos + " " + classesLoaded);
+    }
+}
@@ -0,0 +1,68 @@
+package com.atn.digital.user.benchmarks.validation;
+
+import com.atn.digital.user.domain.validation.EmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The email check as it was (the regex compiled on every call), the same regex compiled once, and
+ * {@link EmailValidator}, on a valid address, an invalid one, and a 20,000 character input that only fails
+ * on its last character.
+ *
+ * <pre>
+ * java -jar demo-benchmarks/target/benchmarks.jar EmailValidationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--enable-preview")
+public class EmailValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+    @Param({"VALID", "INVALID", "ADVERSARIAL_LONG"})
+    private String inputType;
+
+    private String email;
+
+    @Setup
+    public void setUp() {
+        email = switch (inputType) {
+            case "VALID" -> "homer.simpson@springfield.test";
+            case "INVALID" -> "homer.simpson@springfield_test";
+            case "ADVERSARIAL_LONG" -> "a".repeat(10_000) + "@" + "b".repeat(9_998) + "_";
+            default -> throw new IllegalArgumentException("Unknown input type " + inputType);
+        };
+    }
+
+    @Benchmark
+    public boolean regexCompiledPerCall() {
+        return Pattern.compile(EMAIL_REGEX).matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean regexPrecompiled() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean handWritten() {
+        return EmailValidator.isValid(email);
+    }
+}
@@ -0,0 +1,193 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cold start and warm latency of the deployable targets, measured on this machine instead of a deployed stack:
+ * each fork starts a new execution environment ({@link FunctionProcess}) for every target against its own
+ * {@link LambdaRuntimeApi}, records the init duration and the first invocation, then replays the Artillery scenario,
+ * register a user then read it back, to collect warm POST and GET durations. Targets take turns fork after fork so
+ * that disk cache and CPU frequency drift hit all of them alike.
+ * <p>
+ * By default the functions keep their users in memory ({@code USER_REPOSITORY=IN_MEMORY}), with the latency given
+ * with {@code --repository-latency}, for instance {@code lognormal:4ms,25ms}. With {@code --dynamodb-endpoint} they
+ * talk to that endpoint instead, typically DynamoDB Local, and the table is created on it when missing.
+ * Only memory is sized as on Lambda: the CPU is not throttled.
+ * <p>
+ * Every sample is also kept as CSV under {@code benchmark-results/cold-start} ({@code --results-dir}), one file per
+ * run, one {@code target,fork,metric,nanos} row per init, first invocation, GET and POST.
+ *
+ * <pre>
+ * mvn package -DskipTests
+ * java --enable-preview -jar demo-cold-start-benchmarks/target/cold-start-benchmarks.jar \
+ *     --forks=5 --invocations=200 --repository-latency=fixed:5ms plain-java spring quarkus
+ * </pre>
+ */
+public final class ColdStartBenchmark {
+
+    private static final Duration INIT_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration INVOCATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private ColdStartBenchmark() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        CommandLine commandLine = CommandLine.parse(args);
+        List<LambdaTarget> targets = commandLine.targets();
+        int forks = commandLine.intOption("forks", 5);
+        int invocations = commandLine.intOption("invocations", 100);
+        FunctionProcess.Settings settings = commandLine.settings();
+        Path resultsDir = Path.of(commandLine.option("results-dir", "benchmark-results/cold-start"));
+
+        Map<LambdaTarget, Samples> samples = new EnumMap<>(LambdaTarget.class);
+        for (LambdaTarget target : targets) {
+            samples.put(target, new Samples());
+        }
+        for (int fork = 0; fork < forks; fork++) {
+            List<LambdaTarget> order = new ArrayList<>(targets);
+            if (fork % 2 == 1) {
+                Collections.reverse(order);
+            }
+            for (LambdaTarget target : order) {
+                measure(target, settings, invocations, samples.get(target));
+            }
+        }
+
+        System.out.printf("%-26s %6s %10s %10s %10s %10s %10s %10s %10s%n", "target", "forks",
+                "init p50", "init p90", "first p50", "GET p50", "GET p99", "POST p50", "POST p99");
+        for (Map.Entry<LambdaTarget, Samples> entry : samples.entrySet()) {
+            Samples results = entry.getValue();
+            System.out.printf("%-26s %6d %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey().targetName(),
+                    results.forks.size(),
+                    percentile(results.forks, Fork::initNanos, 50) / 1e6,
+                    percentile(results.forks, Fork::initNanos, 90) / 1e6,
+                    percentile(results.forks, Fork::firstInvocationNanos, 50) / 1e6,
+                    percentile(results.gets(), 50) / 1e6,
+                    percentile(results.gets(), 99) / 1e6,
+                    percentile(results.posts(), 50) / 1e6,
+                    percentile(results.posts(), 99) / 1e6);
+        }
+        System.out.println("(milliseconds; init runs from the JVM launch to the first poll of invocation/next, "
+                + "the other columns are the durations of the REPORT line)");
+        System.out.println("Samples written to " + write(samples, resultsDir));
+    }
+
+    private static Path write(Map<LambdaTarget, Samples> samples, Path resultsDir) throws IOException {
+        List<String> rows = new ArrayList<>();
+        rows.add("target,fork,metric,nanos");
+        samples.forEach((target, results) -> {
+            for (int fork = 0; fork < results.forks.size(); fork++) {
+                Fork sample = results.forks.get(fork);
+                String prefix = target.targetName() + "," + fork + ",";
+                rows.add(prefix + "init," + sample.initNanos());
+                rows.add(prefix + "first-invocation," + sample.firstInvocationNanos());
+                sample.gets().forEach(nanos -> rows.add(prefix + "get," + nanos));
+                sample.posts().forEach(nanos -> rows.add(prefix + "post," + nanos));
+            }
+        });
+        Files.createDirectories(resultsDir);
+        Path file = resultsDir.resolve("cold-start-"
+                + ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'"))
+                + ".csv");
+        return Files.write(file, rows);
+    }
+
+    private static void measure(LambdaTarget target, FunctionProcess.Settings settings, int invocations,
+                                Samples samples) throws IOException, InterruptedException {
+        try (LambdaRuntimeApi runtimeApi = LambdaRuntimeApi.start(target.functionName());
+             FunctionProcess function = FunctionProcess.start(target, runtimeApi, settings)) {
+            long readyNanos = awaitReady(target, runtimeApi, function);
+            LambdaRuntimeApi.Invocation first = invoke(target, runtimeApi, function,
+                    UserEvents.registerUser(target, 0), 201);
+            Fork fork = new Fork(readyNanos - function.startNanos(), first.durationNanos(),
+                    new ArrayList<>(), new ArrayList<>());
+            samples.forks.add(fork);
+            for (int i = 1; i <= invocations; i++) {
+                LambdaRuntimeApi.Invocation post = invoke(target, runtimeApi, function,
+                        UserEvents.registerUser(target, i), 201);
+                LambdaRuntimeApi.Invocation get = invoke(target, runtimeApi, function,
+                        UserEvents.findUser(target, UserEvents.userId(post.payload())), 200);
+                fork.posts().add(post.durationNanos());
+                fork.gets().add(get.durationNanos());
+            }
+        }
+    }
+
+    static long awaitReady(LambdaTarget target, LambdaRuntimeApi runtimeApi, FunctionProcess function)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + INIT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                return runtimeApi.awaitReady(Duration.ofMillis(100));
+            } catch (TimeoutException e) {
+                if (!function.isAlive()) {
+                    break;
+                }
+            } catch (IllegalStateException e) {
+                throw failure(target, e.getMessage(), function);
+            }
+        }
+        throw failure(target, "runtime not ready", function);
+    }
+
+    private static LambdaRuntimeApi.Invocation invoke(LambdaTarget target, LambdaRuntimeApi runtimeApi,
+                                                      FunctionProcess function, String event, int expectedStatus)
+            throws InterruptedException {
+        LambdaRuntimeApi.Invocation invocation;
+        try {
+            invocation = runtimeApi.invoke(event, INVOCATION_TIMEOUT);
+        } catch (TimeoutException e) {
+            throw failure(target, "no response within " + INVOCATION_TIMEOUT, function);
+        }
+        if (invocation.error() || UserEvents.statusCode(invocation.payload()) != expectedStatus) {
+            throw failure(target, "unexpected response " + invocation.payload(), function);
+        }
+        return invocation;
+    }
+
+    static IllegalStateException failure(LambdaTarget target, String message, FunctionProcess function) {
+        return new IllegalStateException(target.targetName() + ": " + message + System.lineSeparator()
+                + function.output());
+    }
+
+    private static <T> long percentile(List<T> samples, ToLongFunction<T> value, int percentile) {
+        return percentile(samples.stream().map(value::applyAsLong).toList(), percentile);
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private record Fork(long initNanos, long firstInvocationNanos, List<Long> gets, List<Long> posts) {}
+
+    private static final class Samples {
+
+        private final List<Fork> forks = new ArrayList<>();
+
+        List<Long> gets() {
+            return forks.stream().flatMap(fork -> fork.gets().stream()).toList();
+        }
+
+        List<Long> posts() {
+            return forks.stream().flatMap(fork -> fork.posts().stream()).toList();
+        }
+    }
+}
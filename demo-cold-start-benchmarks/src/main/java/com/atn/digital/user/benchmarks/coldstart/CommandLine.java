@@ -0,0 +1,61 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The arguments of {@link ColdStartBenchmark} and {@link LocalApiGateway}: {@code --name=value} options followed by
+ * the names of the targets, all of them when none is given.
+ */
+record CommandLine(Map<String, String> options, List<LambdaTarget> targets) {
+
+    static CommandLine parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<LambdaTarget> targets = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                targets.add(LambdaTarget.fromTargetName(arg));
+            }
+        }
+        if (targets.isEmpty()) {
+            targets.addAll(Arrays.asList(LambdaTarget.values()));
+        }
+        return new CommandLine(options, targets);
+    }
+
+    String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, Integer.toString(defaultValue)));
+    }
+
+    /**
+     * The settings of the function processes; with {@code --dynamodb-endpoint}, the table is created on that endpoint
+     * when missing.
+     */
+    FunctionProcess.Settings settings() throws IOException, InterruptedException {
+        String endpoint = options.get("dynamodb-endpoint");
+        FunctionProcess.Settings settings = new FunctionProcess.Settings(
+                Path.of(option("project-root", ".")).toAbsolutePath().normalize(),
+                intOption("memory", 256),
+                option("java-tool-options", "-XX:+TieredCompilation -XX:TieredStopAtLevel=1"),
+                option("region", "eu-west-1"),
+                option("table", "WorkshopUsers"),
+                endpoint,
+                option("repository-latency", "none"));
+        if (endpoint != null) {
+            LocalUserTable.create(URI.create(endpoint), settings.tableName(), settings.region());
+        }
+        return settings;
+    }
+}
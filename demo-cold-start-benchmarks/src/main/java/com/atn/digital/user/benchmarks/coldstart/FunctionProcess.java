@@ -0,0 +1,189 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * One execution environment: a fresh JVM running the aws-lambda-java-runtime-interface-client against a
+ * {@link LambdaRuntimeApi}, in a task root laid out as Lambda unpacks the deployment package, with the heap sized
+ * from the memory of the function and the environment variables of {@code template.yaml}.
+ * The class path holds the runtime interface client only; the function's own classes and libraries are loaded from
+ * the task root, as in production.
+ */
+final class FunctionProcess implements AutoCloseable {
+
+    private static final String RUNTIME_MAIN_CLASS = "com.amazonaws.services.lambda.runtime.api.client.AWSLambda";
+
+    private final Process process;
+    private final Path taskRoot;
+    private final Path log;
+    private final long startNanos;
+
+    private FunctionProcess(Process process, Path taskRoot, Path log, long startNanos) {
+        this.process = process;
+        this.taskRoot = taskRoot;
+        this.log = log;
+        this.startNanos = startNanos;
+    }
+
+    static FunctionProcess start(LambdaTarget target, LambdaRuntimeApi runtimeApi, Settings settings)
+            throws IOException {
+        Path artifact = target.artifact(settings.projectRoot());
+        if (!Files.isRegularFile(artifact)) {
+            throw new IllegalStateException(artifact + " not found, run mvn package first");
+        }
+        Path taskRoot = Files.createTempDirectory("lambda-task-" + target.targetName());
+        unpack(artifact, taskRoot);
+        Path log = taskRoot.resolve("function.log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (ManagementFactory.getRuntimeMXBean().getInputArguments().contains("--enable-preview")) {
+            command.add("--enable-preview");
+        }
+        long memoryKb = settings.memoryMb() * 1024L;
+        command.add("-XX:MaxHeapSize=" + memoryKb * 85 / 100 + "k");
+        command.add("-XX:+UseSerialGC");
+        command.add("-Xshare:auto");
+        command.add("-Djava.net.preferIPv4Stack=true");
+        if (settings.dynamoDbEndpoint() != null) {
+            command.add("-DLOCAL_DYNAMODB_URI=" + settings.dynamoDbEndpoint());
+            command.add("-DUSER_TABLE=" + settings.tableName());
+        }
+        command.add("-cp");
+        command.add(Stream.of(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(entry -> Path.of(entry).toAbsolutePath().toString())
+                .collect(Collectors.joining(File.pathSeparator)));
+        command.add(RUNTIME_MAIN_CLASS);
+        command.add(target.handler());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(taskRoot.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        Map<String, String> environment = builder.environment();
+        environment.clear();
+        environment.putAll(environment(target, runtimeApi, settings, taskRoot));
+        long startNanos = System.nanoTime();
+        return new FunctionProcess(builder.start(), taskRoot, log, startNanos);
+    }
+
+    /**
+     * The {@link System#nanoTime()} at which the JVM was started.
+     */
+    long startNanos() {
+        return startNanos;
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    String output() {
+        try {
+            return Files.readString(log);
+        } catch (IOException e) {
+            return "(no output: " + e.getMessage() + ")";
+        }
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        process.destroy();
+        if (!process.waitFor(5, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        try (Stream<Path> files = Files.walk(taskRoot)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static Map<String, String> environment(LambdaTarget target, LambdaRuntimeApi runtimeApi,
+                                                   Settings settings, Path taskRoot) {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("PATH", "/usr/local/bin:/usr/bin:/bin");
+        environment.put("LANG", "en_US.UTF-8");
+        environment.put("TZ", ":UTC");
+        environment.put("_HANDLER", target.handler());
+        environment.put("LAMBDA_TASK_ROOT", taskRoot.toString());
+        environment.put("AWS_LAMBDA_RUNTIME_API", runtimeApi.address());
+        environment.put("AWS_LAMBDA_FUNCTION_NAME", target.functionName());
+        environment.put("AWS_LAMBDA_FUNCTION_VERSION", "$LATEST");
+        environment.put("AWS_LAMBDA_FUNCTION_MEMORY_SIZE", Integer.toString(settings.memoryMb()));
+        environment.put("AWS_LAMBDA_INITIALIZATION_TYPE", "on-demand");
+        environment.put("AWS_REGION", settings.region());
+        environment.put("AWS_DEFAULT_REGION", settings.region());
+        environment.put("AWS_ACCESS_KEY_ID", "local");
+        environment.put("AWS_SECRET_ACCESS_KEY", "local");
+        environment.put("AWS_SESSION_TOKEN", "local");
+
+        environment.put("TABLE_NAME", settings.tableName());
+        environment.put("DYNAMODB_PRE_WARM", "true");
+        environment.put("DYNAMODB_HTTP_CLIENT", "URL_CONNECTION");
+        environment.put("LOG_LEVEL", "INFO");
+        environment.put("LOG_SAMPLE_RATE", "0");
+        environment.put("METRICS_ENABLED", "true");
+        environment.put("METRICS_NAMESPACE", "UserService");
+        environment.put("JAVA_TOOL_OPTIONS", settings.javaToolOptions());
+        if (settings.dynamoDbEndpoint() == null) {
+            environment.put("USER_REPOSITORY", "IN_MEMORY");
+            environment.put("USER_REPOSITORY_LATENCY", settings.repositoryLatency());
+        }
+        environment.putAll(target.environment());
+        return environment;
+    }
+
+    /**
+     * Lays the package out as Lambda does: a zip is extracted into the task root, a jar goes to {@code lib}.
+     */
+    private static void unpack(Path artifact, Path taskRoot) throws IOException {
+        if (!artifact.getFileName().toString().endsWith(".zip")) {
+            Path lib = Files.createDirectories(taskRoot.resolve("lib"));
+            Files.copy(artifact, lib.resolve(artifact.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+        try (InputStream input = Files.newInputStream(artifact); ZipInputStream zip = new ZipInputStream(input)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Path target = taskRoot.resolve(entry.getName()).normalize();
+                if (!target.startsWith(taskRoot)) {
+                    throw new IOException("Entry outside of the task root: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.copy(zip, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    /**
+     * What every function process of a run shares.
+     *
+     * @param dynamoDbEndpoint  passed to the functions as the {@code LOCAL_DYNAMODB_URI} system property, with the
+     *                          table name as {@code USER_TABLE}, as when the applications run locally; without it
+     *                          the functions use the in-memory repository
+     * @param repositoryLatency {@code USER_REPOSITORY_LATENCY} of the in-memory repository
+     */
+    record Settings(Path projectRoot, int memoryMb, String javaToolOptions, String region, String tableName,
+                    String dynamoDbEndpoint, String repositoryLatency) {}
+}
@@ -0,0 +1,214 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-process stand-in for the Lambda Runtime API (version 2018-06-01) serving one function process, the way the
+ * Lambda service does for one execution environment: the runtime long-polls {@code invocation/next}, then posts
+ * the response or the error of the event it was given.
+ * <p>
+ * Timings follow the {@code REPORT} line of CloudWatch: the init duration ends when the runtime first asks for an
+ * event, and the duration of an invocation runs from the moment the event is handed over to the moment its
+ * response comes back.
+ */
+public final class LambdaRuntimeApi implements AutoCloseable {
+
+    private static final String RUNTIME_PATH = "/2018-06-01/runtime";
+    private static final String NEXT_PATH = RUNTIME_PATH + "/invocation/next";
+    private static final String INVOCATION_PATH = RUNTIME_PATH + "/invocation/";
+    private static final String INIT_ERROR_PATH = RUNTIME_PATH + "/init/error";
+    private static final String FUNCTION_ARN = "arn:aws:lambda:eu-west-1:000000000000:function:";
+
+    static {
+        // headers and body go out in separate writes: with Nagle's algorithm on, the runtime's delayed ACK would add
+        // some 40 ms to every invocation; the JDK server reads this once, when it is first used
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "lambda-runtime-api");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String functionArn;
+    private final BlockingQueue<PendingInvocation> pending = new LinkedBlockingQueue<>();
+    private final Map<String, PendingInvocation> inFlight = new ConcurrentHashMap<>();
+    private final CompletableFuture<Long> ready = new CompletableFuture<>();
+
+    private LambdaRuntimeApi(String functionName) throws IOException {
+        this.functionArn = FUNCTION_ARN + functionName;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(RUNTIME_PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    public static LambdaRuntimeApi start(String functionName) throws IOException {
+        LambdaRuntimeApi runtimeApi = new LambdaRuntimeApi(functionName);
+        runtimeApi.server.start();
+        return runtimeApi;
+    }
+
+    /**
+     * The value of {@code AWS_LAMBDA_RUNTIME_API} for the function process.
+     */
+    public String address() {
+        InetSocketAddress address = server.getAddress();
+        return address.getHostString() + ":" + address.getPort();
+    }
+
+    /**
+     * Waits until the runtime polls for its first event and returns the {@link System#nanoTime()} of that poll.
+     *
+     * @throws IllegalStateException when the runtime reported an init error
+     * @throws TimeoutException      when the runtime is not ready in time
+     */
+    public long awaitReady(Duration timeout) throws InterruptedException, TimeoutException {
+        try {
+            return ready.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public boolean isReady() {
+        return ready.isDone();
+    }
+
+    /**
+     * Hands the event to the runtime and waits for the outcome of the invocation.
+     */
+    public Invocation invoke(String event, Duration timeout) throws InterruptedException, TimeoutException {
+        PendingInvocation invocation = new PendingInvocation(UUID.randomUUID().toString(), event, timeout);
+        inFlight.put(invocation.requestId, invocation);
+        pending.add(invocation);
+        try {
+            return invocation.outcome.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pending.remove(invocation);
+            inFlight.remove(invocation.requestId);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if ("GET".equals(method) && NEXT_PATH.equals(path)) {
+                next(exchange);
+            } else if ("POST".equals(method) && INIT_ERROR_PATH.equals(path)) {
+                ready.completeExceptionally(new IllegalStateException("init error: " + body(exchange)));
+                send(exchange, 202, "{}");
+            } else if ("POST".equals(method) && path.startsWith(INVOCATION_PATH)) {
+                complete(exchange, path.substring(INVOCATION_PATH.length()));
+            } else {
+                send(exchange, 404, "{\"errorType\":\"NotFound\"}");
+            }
+        }
+    }
+
+    private void next(HttpExchange exchange) throws IOException {
+        ready.complete(System.nanoTime());
+        PendingInvocation invocation;
+        try {
+            invocation = pending.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // the native client of aws-lambda-java-runtime-interface-client crashes on an event without a content type
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("Lambda-Runtime-Aws-Request-Id", invocation.requestId);
+        exchange.getResponseHeaders().add("Lambda-Runtime-Deadline-Ms",
+                Long.toString(System.currentTimeMillis() + invocation.timeout.toMillis()));
+        exchange.getResponseHeaders().add("Lambda-Runtime-Invoked-Function-Arn", functionArn);
+        exchange.getResponseHeaders().add("Lambda-Runtime-Trace-Id",
+                "Root=1-00000000-" + invocation.requestId.replace("-", "").substring(0, 24) + ";Sampled=0");
+        byte[] event = invocation.event.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, event.length);
+        invocation.deliveredNanos = System.nanoTime();
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(event);
+        }
+    }
+
+    private void complete(HttpExchange exchange, String requestIdAndOutcome) throws IOException {
+        long receivedNanos = System.nanoTime();
+        int slash = requestIdAndOutcome.indexOf('/');
+        PendingInvocation invocation = slash < 0 ? null : inFlight.get(requestIdAndOutcome.substring(0, slash));
+        String outcome = slash < 0 ? "" : requestIdAndOutcome.substring(slash + 1);
+        if (invocation == null || !("response".equals(outcome) || "error".equals(outcome))) {
+            send(exchange, 400, "{\"errorType\":\"InvalidRequestID\"}");
+            return;
+        }
+        String body = body(exchange);
+        send(exchange, 202, "{\"status\":\"OK\"}");
+        invocation.outcome.complete(
+                new Invocation(body, "error".equals(outcome), receivedNanos - invocation.deliveredNanos));
+    }
+
+    private static String body(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * What the runtime posted back for one event.
+     *
+     * @param payload       the response, or the error document when {@code error} is set
+     * @param durationNanos from the hand-over of the event to the arrival of the response
+     */
+    public record Invocation(String payload, boolean error, long durationNanos) {}
+
+    private static final class PendingInvocation {
+
+        private final String requestId;
+        private final String event;
+        private final Duration timeout;
+        private final CompletableFuture<Invocation> outcome = new CompletableFuture<>();
+        private volatile long deliveredNanos;
+
+        private PendingInvocation(String requestId, String event, Duration timeout) {
+            this.requestId = requestId;
+            this.event = event;
+            this.timeout = timeout;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * The five deployable functions of {@code template.yaml}: the package SAM uploads, the handler and the
+ * environment variables of each, and the path its API Gateway events are routed on.
+ */
+public enum LambdaTarget {
+
+    PLAIN_JAVA("plain-java",
+            "demo-plain-java-app-lambda-handler/target/demo-plain-java-app-lambda-handler-1.0.0-aws.jar",
+            "com.atn.digital.user.adapters.in.handler.UserRequestHandler::handleRequest",
+            "/plain-java-request-handler/users",
+            Map.of()),
+    SERVERLESS_JAVA_CONTAINER("serverless-java-container",
+            "demo-springboot-app-lambda-serverless-java-container/target/demo-springboot-app-lambda-serverless-java-container-1.0.0-aws.jar",
+            "com.atn.digital.user.adapters.in.handler.StreamLambdaHandler::handleRequest",
+            "/serverless-java-container/users",
+            Map.of()),
+    SPRING("spring",
+            "demo-springboot-app-lambda-function-handler/target/demo-springboot-app-lambda-function-handler-1.0.0-aws.jar",
+            "org.springframework.cloud.function.adapter.aws.FunctionInvoker::handleRequest",
+            "/springboot-function-handler/users",
+            Map.of("SPRING_CLOUD_FUNCTION_DEFINITION", "userRequestHandler")),
+    MICRONAUT("micronaut",
+            "demo-micronaut-app-lambda-request-handler/target/demo-micronaut-app-lambda-request-handler-1.0.0-aws.jar",
+            "com.atn.digital.user.adapters.in.handler.UserRequestHandler::handleRequest",
+            "/micronaut-request-handler/users",
+            Map.of()),
+    QUARKUS("quarkus",
+            "demo-quarkus-app-lambda-request-handler/target/function.zip",
+            "io.quarkus.amazon.lambda.runtime.QuarkusStreamHandler::handleRequest",
+            "/quarkus-request-handler/users",
+            Map.of("QUARKUS_LAMBDA_HANDLER", "userRequestHandler"));
+
+    private final String targetName;
+    private final String artifact;
+    private final String handler;
+    private final String usersPath;
+    private final Map<String, String> environment;
+
+    LambdaTarget(String targetName, String artifact, String handler, String usersPath,
+                 Map<String, String> environment) {
+        this.targetName = targetName;
+        this.artifact = artifact;
+        this.handler = handler;
+        this.usersPath = usersPath;
+        this.environment = environment;
+    }
+
+    /**
+     * The name {@code benchmark.sh} takes for the same target.
+     */
+    public String targetName() {
+        return targetName;
+    }
+
+    public Path artifact(Path projectRoot) {
+        return projectRoot.resolve(artifact);
+    }
+
+    public String handler() {
+        return handler;
+    }
+
+    public String usersPath() {
+        return usersPath;
+    }
+
+    public Map<String, String> environment() {
+        return environment;
+    }
+
+    public String functionName() {
+        return "workshop-" + targetName;
+    }
+
+    public static LambdaTarget fromTargetName(String targetName) {
+        for (LambdaTarget target : values()) {
+            if (target.targetName.equals(targetName)) {
+                return target;
+            }
+        }
+        throw new IllegalArgumentException("Unknown target " + targetName);
+    }
+}
@@ -0,0 +1,192 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stand-in for the API Gateway REST API of {@code template.yaml}, so that the load generator can drive the Lambda
+ * targets on this machine: every request on {@code /Prod/<target>/users} or below becomes the proxy event API Gateway
+ * would send, is handed to an idle execution environment of that target, and its proxy response is turned back into
+ * an HTTP response.
+ * <p>
+ * Each target gets {@code --concurrency} warm environments, started up front like provisioned concurrency; when all
+ * of them are busy, requests wait for one to be free. A Lambda error is answered with 502 and an invocation that
+ * outlasts the 30 seconds of API Gateway with 504. The other options are those of {@link ColdStartBenchmark}.
+ *
+ * <pre>
+ * mvn package -DskipTests
+ * java --enable-preview -cp demo-cold-start-benchmarks/target/cold-start-benchmarks.jar \
+ *     com.atn.digital.user.benchmarks.coldstart.LocalApiGateway --port=3000 --concurrency=2 plain-java spring
+ * </pre>
+ */
+public final class LocalApiGateway implements AutoCloseable {
+
+    private static final String STAGE = "/Prod";
+    private static final Duration INTEGRATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<Route> routes = new ArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "local-api-gateway");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private HttpServer server;
+
+    private LocalApiGateway() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        CommandLine commandLine = CommandLine.parse(args);
+        FunctionProcess.Settings settings = commandLine.settings();
+        int concurrency = commandLine.intOption("concurrency", 2);
+        LocalApiGateway gateway = new LocalApiGateway();
+        Runtime.getRuntime().addShutdownHook(new Thread(gateway::close));
+        // the environments first: LambdaRuntimeApi turns Nagle's algorithm off for every JDK server of this JVM,
+        // which reads that setting once
+        for (LambdaTarget target : commandLine.targets()) {
+            gateway.routes.add(Route.start(target, settings, concurrency));
+        }
+        gateway.listen(commandLine.intOption("port", 3000));
+        for (Route route : gateway.routes) {
+            System.out.printf("%-26s http://localhost:%d%s%s (%d environments)%n", route.target.targetName(),
+                    gateway.server.getAddress().getPort(), STAGE, route.target.usersPath(), concurrency);
+        }
+        Thread.currentThread().join();
+    }
+
+    private void listen(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext(STAGE + "/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        executor.shutdownNow();
+        for (Route route : routes) {
+            route.close();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(STAGE.length());
+            Route route = routes.stream().filter(candidate -> candidate.matches(path)).findFirst().orElse(null);
+            if (route == null) {
+                send(exchange, 403, "{\"message\":\"Missing Authentication Token\"}");
+                return;
+            }
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String event = UserEvents.request(route.target, exchange.getRequestMethod(), path,
+                    body.isEmpty() ? null : body);
+            LambdaRuntimeApi.Invocation invocation;
+            try {
+                invocation = route.invoke(event);
+            } catch (TimeoutException e) {
+                send(exchange, 504, "{\"message\":\"Endpoint request timed out\"}");
+                return;
+            }
+            if (invocation.error()) {
+                send(exchange, 502, "{\"message\":\"Internal server error\"}");
+                return;
+            }
+            String responseBody = UserEvents.body(invocation.payload());
+            send(exchange, UserEvents.statusCode(invocation.payload()), responseBody == null ? "" : responseBody);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * The users resource of one target and its warm environments, the idle ones in a queue.
+     */
+    private static final class Route {
+
+        private final LambdaTarget target;
+        private final List<Environment> environments = new ArrayList<>();
+        private final BlockingQueue<Environment> idle = new LinkedBlockingQueue<>();
+
+        private Route(LambdaTarget target) {
+            this.target = target;
+        }
+
+        static Route start(LambdaTarget target, FunctionProcess.Settings settings, int concurrency)
+                throws IOException, InterruptedException {
+            Route route = new Route(target);
+            try {
+                for (int i = 0; i < concurrency; i++) {
+                    LambdaRuntimeApi runtimeApi = LambdaRuntimeApi.start(target.functionName());
+                    FunctionProcess function = FunctionProcess.start(target, runtimeApi, settings);
+                    Environment environment = new Environment(runtimeApi, function);
+                    route.environments.add(environment);
+                    ColdStartBenchmark.awaitReady(target, runtimeApi, function);
+                    route.idle.add(environment);
+                }
+            } catch (IOException | RuntimeException e) {
+                route.close();
+                throw e;
+            }
+            return route;
+        }
+
+        boolean matches(String path) {
+            return path.equals(target.usersPath()) || path.startsWith(target.usersPath() + "/");
+        }
+
+        LambdaRuntimeApi.Invocation invoke(String event) throws InterruptedException, TimeoutException {
+            Environment environment = idle.take();
+            try {
+                return environment.runtimeApi.invoke(event, INTEGRATION_TIMEOUT);
+            } finally {
+                idle.add(environment);
+            }
+        }
+
+        void close() {
+            for (Environment environment : environments) {
+                environment.close();
+            }
+        }
+    }
+
+    private record Environment(LambdaRuntimeApi runtimeApi, FunctionProcess function) {
+
+        void close() {
+            runtimeApi.close();
+            try {
+                function.close();
+            } catch (IOException e) {
+                System.err.println("Could not clean up " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Creates the users table of {@code template.yaml} on a DynamoDB Local endpoint with a plain HTTP call, so that
+ * the benchmark class path does not need the AWS SDK. DynamoDB Local does not verify signatures, it only reads the
+ * access key and region out of the {@code Authorization} header.
+ */
+final class LocalUserTable {
+
+    private LocalUserTable() {}
+
+    static void create(URI endpoint, String tableName, String region) throws IOException, InterruptedException {
+        String body = "{\"TableName\":\"" + tableName + "\","
+                + "\"AttributeDefinitions\":[{\"AttributeName\":\"id\",\"AttributeType\":\"S\"}],"
+                + "\"KeySchema\":[{\"AttributeName\":\"id\",\"KeyType\":\"HASH\"}],"
+                + "\"BillingMode\":\"PAY_PER_REQUEST\"}";
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/x-amz-json-1.0")
+                .header("X-Amz-Target", "DynamoDB_20120810.CreateTable")
+                .header("Authorization", "AWS4-HMAC-SHA256 Credential=local/20230101/" + region
+                        + "/dynamodb/aws4_request, SignedHeaders=host, Signature=local")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 && !response.body().contains("ResourceInUseException")) {
+            throw new IllegalStateException("Could not create table " + tableName + " on " + endpoint + ": "
+                    + response.statusCode() + " " + response.body());
+        }
+    }
+}
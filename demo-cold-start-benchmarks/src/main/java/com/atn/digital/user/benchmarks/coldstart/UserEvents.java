@@ -0,0 +1,111 @@
+package com.atn.digital.user.benchmarks.coldstart;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The API Gateway REST (proxy) events of the Artillery scenario, register a user then read it back, and the few
+ * fields the benchmark and the local API read from the proxy responses.
+ */
+final class UserEvents {
+
+    private static final Pattern STATUS_CODE = Pattern.compile("\"statusCode\"\\s*:\\s*(\\d+)");
+    private static final Pattern USER_ID = Pattern.compile("\\\\?\"id\\\\?\"\\s*:\\s*\\\\?\"([^\"\\\\]+)");
+    private static final Pattern BODY = Pattern.compile("\"body\"\\s*:\\s*\"");
+
+    private UserEvents() {}
+
+    static String registerUser(LambdaTarget target, int sequence) {
+        String body = "{\"firstName\":\"first" + sequence + "\",\"lastName\":\"last" + sequence
+                + "\",\"email\":\"user" + sequence + "@cold-start.test\"}";
+        return request(target, "POST", target.usersPath(), body);
+    }
+
+    static String findUser(LambdaTarget target, String userId) {
+        return request(target, "GET", target.usersPath() + "/" + userId, null);
+    }
+
+    /**
+     * The event of a request on the users resource of the target or on one user below it, whose id then becomes the
+     * {@code userId} path parameter.
+     *
+     * @param path the path without the stage, e.g. {@code /plain-java-request-handler/users/42}
+     * @param body the body of the request, or {@code null}
+     */
+    static String request(LambdaTarget target, String httpMethod, String path, String body) {
+        String userPathPrefix = target.usersPath() + "/";
+        String pathParameters = path.startsWith(userPathPrefix)
+                ? "{\"userId\":\"" + escape(path.substring(userPathPrefix.length())) + "\"}"
+                : "null";
+        return event(httpMethod, escape(path), pathParameters, body == null ? null : escape(body));
+    }
+
+    static int statusCode(String response) {
+        Matcher matcher = STATUS_CODE.matcher(response);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    static String userId(String response) {
+        Matcher matcher = USER_ID.matcher(response);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No user id in " + response);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * The body of the proxy response, unescaped, or {@code null} when it has none.
+     */
+    static String body(String response) {
+        Matcher matcher = BODY.matcher(response);
+        if (!matcher.find()) {
+            return null;
+        }
+        StringBuilder body = new StringBuilder();
+        for (int i = matcher.end(); i < response.length(); i++) {
+            char c = response.charAt(i);
+            if (c == '"') {
+                return body.toString();
+            }
+            if (c != '\\' || i + 1 == response.length()) {
+                body.append(c);
+                continue;
+            }
+            char escaped = response.charAt(++i);
+            switch (escaped) {
+                case 'n' -> body.append('\n');
+                case 'r' -> body.append('\r');
+                case 't' -> body.append('\t');
+                case 'b' -> body.append('\b');
+                case 'f' -> body.append('\f');
+                case 'u' -> {
+                    body.append((char) Integer.parseInt(response.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> body.append(escaped);
+            }
+        }
+        throw new IllegalStateException("Unterminated body in " + response);
+    }
+
+    private static String event(String httpMethod, String path, String pathParameters, String escapedBody) {
+        return "{\"resource\":\"" + path + "\",\"path\":\"" + path + "\",\"httpMethod\":\"" + httpMethod + "\","
+                + "\"headers\":{\"Accept\":\"application/json\",\"Content-Type\":\"application/json\","
+                + "\"Host\":\"localhost\"},"
+                + "\"multiValueHeaders\":{\"Accept\":[\"application/json\"],\"Content-Type\":[\"application/json\"],"
+                + "\"Host\":[\"localhost\"]},"
+                + "\"queryStringParameters\":null,\"multiValueQueryStringParameters\":null,"
+                + "\"pathParameters\":" + pathParameters + ",\"stageVariables\":null,"
+                + "\"requestContext\":{\"resourcePath\":\"" + path + "\",\"httpMethod\":\"" + httpMethod + "\","
+                + "\"path\":\"/Prod" + path + "\",\"stage\":\"Prod\",\"requestId\":\"cold-start\","
+                + "\"accountId\":\"000000000000\",\"identity\":{\"sourceIp\":\"127.0.0.1\","
+                + "\"userAgent\":\"cold-start-benchmark\"}},"
+                + "\"body\":" + (escapedBody == null ? "null" : "\"" + escapedBody + "\"") + ","
+                + "\"isBase64Encoded\":false}";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"")
+                .replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,33 @@
+package com.atn.digital.user.benchmarks.load;
+
+import java.util.SplittableRandom;
+
+/**
+ * When the next scenario starts, whatever happened to the previous ones: the arrivals of an open model.
+ */
+enum ArrivalProcess {
+
+    /**
+     * Evenly spaced arrivals, as Artillery spreads the {@code arrivalRate} of a phase over each second.
+     */
+    CONSTANT {
+        @Override
+        long nextIntervalNanos(double ratePerSecond, SplittableRandom random) {
+            return Math.round(NANOS_PER_SECOND / ratePerSecond);
+        }
+    },
+    /**
+     * Exponentially distributed gaps with the same mean, closer to independent clients: arrivals bunch up now and
+     * then, which shows how the target absorbs bursts.
+     */
+    POISSON {
+        @Override
+        long nextIntervalNanos(double ratePerSecond, SplittableRandom random) {
+            return Math.round(-Math.log(1.0 - random.nextDouble()) * NANOS_PER_SECOND / ratePerSecond);
+        }
+    };
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    abstract long nextIntervalNanos(double ratePerSecond, SplittableRandom random);
+}
@@ -0,0 +1,111 @@
+package com.atn.digital.user.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies of a run, in nanoseconds, one {@link Recorder} per metric so that the HTTP client threads record
+ * without locking while the reporter takes interval histograms.
+ * <p>
+ * Only scenarios whose intended start falls after the warmup are recorded, whenever they complete.
+ */
+final class Latencies {
+
+    enum Metric {
+        /**
+         * From the intended start of the scenario to the response of the POST: corrected for coordinated omission,
+         * as a request the generator sends late still counts from when it was due.
+         */
+        POST("post"),
+        /**
+         * From the moment the POST was actually sent to its response: what a closed-loop tool reports.
+         */
+        POST_SERVICE_TIME("post-service-time"),
+        /**
+         * From the response of the POST, when the GET is due, to the response of the GET.
+         */
+        GET("get"),
+        /**
+         * From the intended start of the scenario to the response of the GET.
+         */
+        SCENARIO("scenario");
+
+        private final String tag;
+
+        Metric(String tag) {
+            this.tag = tag;
+        }
+
+        /**
+         * The tag of the metric's histograms in the log.
+         */
+        String tag() {
+            return tag;
+        }
+    }
+
+    private final long measuredFromNanos;
+    private final Map<Metric, Recorder> recorders = new EnumMap<>(Metric.class);
+    private final Map<Metric, Histogram> intervals = new EnumMap<>(Metric.class);
+    private final Map<Metric, Histogram> totals = new EnumMap<>(Metric.class);
+    private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param measuredFromNanos the {@link System#nanoTime()} at which the warmup ends
+     */
+    Latencies(long measuredFromNanos) {
+        this.measuredFromNanos = measuredFromNanos;
+        for (Metric metric : Metric.values()) {
+            recorders.put(metric, new Recorder(3));
+            totals.put(metric, new Histogram(3));
+        }
+    }
+
+    void record(Metric metric, long intendedStartNanos, long latencyNanos) {
+        if (intendedStartNanos >= measuredFromNanos) {
+            recorders.get(metric).recordValue(latencyNanos);
+        }
+    }
+
+    void error(long intendedStartNanos, String reason) {
+        if (intendedStartNanos >= measuredFromNanos) {
+            errors.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Takes the histograms recorded since the previous call, adds them to the totals and writes the non-empty ones to
+     * the log, tagged with their metric. Called from one thread at a time.
+     *
+     * @return the interval histograms, valid until the next call
+     */
+    Map<Metric, Histogram> nextInterval(HistogramLogWriter log) {
+        for (Metric metric : Metric.values()) {
+            Histogram interval = recorders.get(metric).getIntervalHistogram(intervals.get(metric));
+            intervals.put(metric, interval);
+            totals.get(metric).add(interval);
+            if (interval.getTotalCount() > 0) {
+                interval.setTag(metric.tag());
+                log.outputIntervalHistogram(interval);
+            }
+        }
+        return intervals;
+    }
+
+    Histogram total(Metric metric) {
+        return totals.get(metric);
+    }
+
+    /**
+     * The number of failed scenarios by reason, e.g. {@code post: HTTP 500}.
+     */
+    Map<String, LongAdder> errors() {
+        return errors;
+    }
+}
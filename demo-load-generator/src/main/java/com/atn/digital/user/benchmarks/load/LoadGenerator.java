@@ -0,0 +1,194 @@
+package com.atn.digital.user.benchmarks.load;
+
+import com.atn.digital.user.benchmarks.load.Latencies.Metric;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The Artillery load test of {@code loadtest/*.yaml} in Java: scenarios start at a fixed rate whatever the state of
+ * the previous ones (an open model), each registers a random user and reads it back, and every latency goes to
+ * HdrHistogram measured from when the request was due rather than from when it was sent, so that a stalled target
+ * or a late generator shows in the tail instead of thinning out the samples (coordinated omission).
+ * <p>
+ * Defaults are those of the Artillery phases, 100 arrivals per second for 60 seconds with a 30 second timeout.
+ * The target is springboot-app, quarkus-app, run locally, or one of the five functions, behind {@code --url}, the
+ * {@code WorkshopApiUrl} output of the stack or {@code LocalApiGateway} by default. Every interval histogram is kept
+ * in an HdrHistogram log under {@code benchmark-results/load}, one file per run.
+ *
+ * <pre>
+ * mvn package -DskipTests
+ * java -jar demo-load-generator/target/load-generator.jar \
+ *     --rate=100 --duration=60s --warmup=10s --arrivals=poisson springboot-app
+ * </pre>
+ */
+public final class LoadGenerator {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private LoadGenerator() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new LinkedHashMap<>();
+        LoadTarget target = LoadTarget.SPRINGBOOT_APP;
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                target = LoadTarget.fromTargetName(arg);
+            }
+        }
+        double rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        Duration duration = duration(options.getOrDefault("duration", "60s"));
+        Duration warmup = duration(options.getOrDefault("warmup", "0s"));
+        Duration timeout = duration(options.getOrDefault("timeout", "30s"));
+        Duration reportInterval = duration(options.getOrDefault("report-interval", "10s"));
+        ArrivalProcess arrivals = ArrivalProcess.valueOf(options.getOrDefault("arrivals", "constant").toUpperCase());
+        long seed = Long.parseLong(options.getOrDefault("seed", Long.toString(System.nanoTime())));
+        URI usersUri = target.usersUri(options.getOrDefault("url", target.defaultBaseUrl()));
+        Path resultsDir = Path.of(options.getOrDefault("results-dir", "benchmark-results/load"));
+
+        Files.createDirectories(resultsDir);
+        Path logFile = resultsDir.resolve(target.targetName() + "-"
+                + ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP) + ".hlog");
+        System.out.printf("%s: %s, %.0f scenarios/s (%s) for %d s after a warmup of %d s%n", target.targetName(),
+                usersUri, rate, arrivals.name().toLowerCase(), duration.toSeconds(), warmup.toSeconds());
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        long measuredFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measuredFromNanos + duration.toNanos();
+        Latencies latencies = new Latencies(measuredFromNanos);
+        SplittableRandom random = new SplittableRandom(seed);
+        UserScenario scenario = new UserScenario(client, usersUri, timeout, new RandomUsers(random.nextLong()),
+                latencies);
+
+        try (PrintStream logStream = new PrintStream(Files.newOutputStream(logFile))) {
+            HistogramLogWriter log = new HistogramLogWriter(logStream);
+            log.outputComment("target=" + target.targetName() + " url=" + usersUri + " rate=" + rate
+                    + " arrivals=" + arrivals.name().toLowerCase() + " duration=" + duration.toSeconds() + "s"
+                    + " warmup=" + warmup.toSeconds() + "s seed=" + seed);
+            log.outputLogFormatVersion();
+            log.outputStartTime(startMillis);
+            log.setBaseTime(startMillis);
+            log.outputLegend();
+
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "load-reporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = reportInterval.toMillis();
+            reporter.scheduleAtFixedRate(() -> report(latencies, log, scenario, startNanos),
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+            long maxLagNanos = dispatch(scenario, arrivals, rate, random, startNanos, measuredFromNanos, endNanos);
+            long drainDeadline = System.nanoTime() + timeout.multipliedBy(2).toNanos();
+            while (scenario.inFlight() > 0 && System.nanoTime() < drainDeadline) {
+                Thread.sleep(10);
+            }
+            reporter.shutdown();
+            reporter.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            report(latencies, log, scenario, startNanos);
+            summarize(latencies, duration, scenario.inFlight(), maxLagNanos);
+        }
+        System.out.println("Histograms written to " + logFile);
+    }
+
+    /**
+     * Starts the scenarios at their intended times until the end of the run, without ever waiting for one to complete.
+     * When the generator itself falls behind, it catches up at once and the scenarios still count from when they were
+     * due.
+     *
+     * @return how late, at worst, a scenario of the measurement was started
+     */
+    private static long dispatch(UserScenario scenario, ArrivalProcess arrivals, double rate,
+                                 SplittableRandom random, long startNanos, long measuredFromNanos, long endNanos) {
+        long maxLagNanos = 0;
+        for (long intendedNanos = startNanos; intendedNanos < endNanos;
+             intendedNanos += arrivals.nextIntervalNanos(rate, random)) {
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            if (intendedNanos >= measuredFromNanos) {
+                maxLagNanos = Math.max(maxLagNanos, -waitNanos);
+            }
+            scenario.start(intendedNanos);
+        }
+        return maxLagNanos;
+    }
+
+    private static void report(Latencies latencies, HistogramLogWriter log, UserScenario scenario, long startNanos) {
+        Map<Metric, Histogram> interval = latencies.nextInterval(log);
+        Histogram post = interval.get(Metric.POST);
+        Histogram get = interval.get(Metric.GET);
+        long errors = latencies.errors().values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("[%4ds] post %6d p50 %8.2f p99 %8.2f max %8.2f | get %6d p50 %8.2f p99 %8.2f max %8.2f"
+                        + " | errors %d | in flight %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos),
+                post.getTotalCount(), millis(post, 50), millis(post, 99), post.getMaxValue() / NANOS_PER_MILLI,
+                get.getTotalCount(), millis(get, 50), millis(get, 99), get.getMaxValue() / NANOS_PER_MILLI,
+                errors, scenario.inFlight());
+    }
+
+    private static void summarize(Latencies latencies, Duration duration, int unfinished, long maxLagNanos) {
+        System.out.printf("%-18s %8s %9s %9s %9s %9s %9s %9s %9s%n", "metric", "count",
+                "mean", "p50", "p90", "p99", "p99.9", "p99.99", "max");
+        for (Metric metric : Metric.values()) {
+            Histogram total = latencies.total(metric);
+            System.out.printf("%-18s %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    metric.tag(), total.getTotalCount(), total.getMean() / NANOS_PER_MILLI,
+                    millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                    millis(total, 99.99), total.getMaxValue() / NANOS_PER_MILLI);
+        }
+        System.out.println("(milliseconds; post, get and scenario run from when the request was due, "
+                + "post-service-time from when it was sent)");
+        System.out.printf("%.1f scenarios/s completed, %d unfinished, generator at most %.2f ms late%n",
+                latencies.total(Metric.SCENARIO).getTotalCount() / (duration.toNanos() / 1e9), unfinished,
+                maxLagNanos / NANOS_PER_MILLI);
+        latencies.errors().forEach((reason, count) -> System.out.printf("error %s: %d%n", reason, count.sum()));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * A duration such as {@code 500ms}, {@code 60s} or {@code 2m}.
+     */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unknown duration " + value + ", expected e.g. 60s");
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.atn.digital.user.benchmarks.load;
+
+import java.net.URI;
+
+/**
+ * What the load generator can drive: the two web applications as they run locally, and the five functions of
+ * {@code template.yaml} behind the Prod stage of their REST API, deployed or emulated by {@code LocalApiGateway} of
+ * demo-cold-start-benchmarks, whose default port the base URL points at.
+ */
+public enum LoadTarget {
+
+    SPRINGBOOT_APP("springboot-app", "http://localhost:8080", "/api/v1/users"),
+    QUARKUS_APP("quarkus-app", "http://localhost:18080", "/quarkus/users"),
+    PLAIN_JAVA("plain-java", "http://localhost:3000", "/Prod/plain-java-request-handler/users"),
+    SERVERLESS_JAVA_CONTAINER("serverless-java-container", "http://localhost:3000",
+            "/Prod/serverless-java-container/users"),
+    SPRING("spring", "http://localhost:3000", "/Prod/springboot-function-handler/users"),
+    MICRONAUT("micronaut", "http://localhost:3000", "/Prod/micronaut-request-handler/users"),
+    QUARKUS("quarkus", "http://localhost:3000", "/Prod/quarkus-request-handler/users");
+
+    private final String targetName;
+    private final String defaultBaseUrl;
+    private final String usersPath;
+
+    LoadTarget(String targetName, String defaultBaseUrl, String usersPath) {
+        this.targetName = targetName;
+        this.defaultBaseUrl = defaultBaseUrl;
+        this.usersPath = usersPath;
+    }
+
+    /**
+     * The name {@code benchmark.sh} takes for the same target.
+     */
+    public String targetName() {
+        return targetName;
+    }
+
+    public String defaultBaseUrl() {
+        return defaultBaseUrl;
+    }
+
+    /**
+     * The users resource on the given base URL, e.g. the {@code WorkshopApiUrl} output of the stack.
+     */
+    public URI usersUri(String baseUrl) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return URI.create(base + usersPath);
+    }
+
+    public static LoadTarget fromTargetName(String targetName) {
+        for (LoadTarget target : values()) {
+            if (target.targetName.equals(targetName)) {
+                return target;
+            }
+        }
+        throw new IllegalArgumentException("Unknown target " + targetName);
+    }
+}
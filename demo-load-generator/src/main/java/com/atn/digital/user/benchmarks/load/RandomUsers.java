@@ -0,0 +1,65 @@
+package com.atn.digital.user.benchmarks.load;
+
+import java.util.SplittableRandom;
+
+/**
+ * The users {@code loadtest/randomName.js} registers: a first and a last name drawn from the English names of
+ * faker, and an email on the {@code workshop.demo} domain built as {@code faker.internet.email(firstName, lastName,
+ * provider)} builds it, in one of the shapes {@code Ada42}, {@code Ada.Lovelace} or {@code Ada_Lovelace42}.
+ * Not thread safe: one instance per dispatching thread, seeded so that a run can be replayed.
+ */
+final class RandomUsers {
+
+    private static final String EMAIL_DOMAIN = "workshop.demo";
+    private static final String[] SEPARATORS = {".", "_"};
+    private static final String[] FIRST_NAMES = {
+            "Aaliyah", "Abigail", "Adaline", "Adrian", "Aiden", "Alba", "Alessandro", "Alexandrine", "Alfonso",
+            "Amara", "Anastasia", "Angelo", "Annabelle", "Antwon", "Arlene", "Augustus", "Beatrice", "Benedict",
+            "Bernadette", "Bertram", "Brianne", "Caleb", "Camille", "Carmela", "Cecilia", "Clemens", "Cordelia",
+            "Damian", "Delphine", "Desmond", "Dolores", "Edmund", "Eleanore", "Elian", "Emmanuel", "Esperanza",
+            "Ezequiel", "Felicia", "Florian", "Genevieve", "Gideon", "Giovanna", "Harmony", "Horacio", "Imogene",
+            "Isidro", "Jacinthe", "Jermaine", "Josefina", "Kamryn", "Lavinia", "Leopold", "Lucienne", "Marcelino",
+            "Maximilian", "Nathanael", "Ophelia", "Peyton", "Rosalind", "Theodora"};
+    private static final String[] LAST_NAMES = {
+            "Abernathy", "Altenwerth", "Bahringer", "Balistreri", "Bartoletti", "Bechtelar", "Bergnaum", "Breitenberg",
+            "Champlin", "Cormier", "Cremin", "Daugherty", "Denesik", "Dickinson", "Ebert", "Feeney", "Gerlach",
+            "Gislason", "Gottlieb", "Greenfelder", "Hackett", "Heathcote", "Hermiston", "Homenick", "Jakubowski",
+            "Kassulke", "Kertzmann", "Koelpin", "Kshlerin", "Langworth", "Lubowitz", "Mante", "McDermott",
+            "McLaughlin", "Medhurst", "Nikolaus", "O'Conner", "O'Hara", "O'Keefe", "O'Reilly", "Ondricka",
+            "Pfannerstill", "Quigley", "Romaguera", "Runolfsdottir", "Schmeler", "Schowalter", "Stiedemann",
+            "Swaniawski", "Terry", "Tromp", "Van Dyke", "VonRueden", "Wehner", "Wintheiser", "Wolff", "Wuckert",
+            "Yundt", "Ziemann", "Zulauf"};
+
+    private final SplittableRandom random;
+
+    RandomUsers(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    RandomUser next() {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String userName = switch (random.nextInt(3)) {
+            case 0 -> firstName + random.nextInt(100);
+            case 1 -> firstName + separator() + lastName;
+            default -> firstName + separator() + lastName + random.nextInt(100);
+        };
+        String email = userName.replace("'", "").replace(" ", "") + "@" + EMAIL_DOMAIN;
+        return new RandomUser(firstName, lastName, email);
+    }
+
+    private String separator() {
+        return SEPARATORS[random.nextInt(SEPARATORS.length)];
+    }
+
+    record RandomUser(String firstName, String lastName, String email) {
+
+        /**
+         * The JSON body of the POST; names and emails never hold characters JSON needs to escape.
+         */
+        String toJson() {
+            return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName
+                    + "\",\"email\":\"" + email + "\"}";
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.atn.digital.user.benchmarks.load;
+
+import com.atn.digital.user.benchmarks.load.Latencies.Metric;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The flow of {@code loadtest/*.yaml}: register a random user, capture {@code $.id} from the response, then read the
+ * user back. Each scenario runs on the asynchronous {@link HttpClient}, so that starting one never waits for another.
+ * Any response other than 2xx, a missing id, a timeout or a connection failure ends the scenario as an error.
+ */
+final class UserScenario {
+
+    private static final Pattern USER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final URI usersUri;
+    private final Duration timeout;
+    private final RandomUsers users;
+    private final Latencies latencies;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    UserScenario(HttpClient client, URI usersUri, Duration timeout, RandomUsers users, Latencies latencies) {
+        this.client = client;
+        this.usersUri = usersUri;
+        this.timeout = timeout;
+        this.users = users;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Sends the POST of a new scenario and returns; called from the dispatching thread only.
+     *
+     * @param intendedStartNanos the {@link System#nanoTime()} at which the scenario was due, the origin of its
+     *                           latencies even when it is started late
+     */
+    void start(long intendedStartNanos) {
+        inFlight.incrementAndGet();
+        HttpRequest post = request(usersUri)
+                .POST(HttpRequest.BodyPublishers.ofString(users.next().toJson()))
+                .build();
+        long sentNanos = System.nanoTime();
+        client.sendAsync(post, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> succeeded("post", response, failure))
+                .thenCompose(response -> {
+                    long postReceivedNanos = System.nanoTime();
+                    latencies.record(Metric.POST, intendedStartNanos, postReceivedNanos - intendedStartNanos);
+                    latencies.record(Metric.POST_SERVICE_TIME, intendedStartNanos, postReceivedNanos - sentNanos);
+                    return find(userId(response.body()), intendedStartNanos, postReceivedNanos);
+                })
+                .whenComplete((ignored, failure) -> {
+                    inFlight.decrementAndGet();
+                    if (failure != null) {
+                        latencies.error(intendedStartNanos, reason(failure));
+                    }
+                });
+    }
+
+    /**
+     * The scenarios started and not yet completed.
+     */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private CompletableFuture<Void> find(String userId, long intendedStartNanos, long dueNanos) {
+        HttpRequest get = request(URI.create(usersUri + "/" + userId)).GET().build();
+        return client.sendAsync(get, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> succeeded("get", response, failure))
+                .thenAccept(response -> {
+                    long receivedNanos = System.nanoTime();
+                    latencies.record(Metric.GET, intendedStartNanos, receivedNanos - dueNanos);
+                    latencies.record(Metric.SCENARIO, intendedStartNanos, receivedNanos - intendedStartNanos);
+                });
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+    }
+
+    private static HttpResponse<String> succeeded(String step, HttpResponse<String> response, Throwable failure) {
+        if (failure != null) {
+            throw new ScenarioFailure(step + ": " + cause(failure).getClass().getSimpleName());
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new ScenarioFailure(step + ": HTTP " + response.statusCode());
+        }
+        return response;
+    }
+
+    private static String userId(String body) {
+        Matcher matcher = USER_ID.matcher(body);
+        if (!matcher.find()) {
+            throw new ScenarioFailure("post: no id in the response");
+        }
+        return matcher.group(1);
+    }
+
+    private static String reason(Throwable failure) {
+        Throwable cause = cause(failure);
+        return cause instanceof ScenarioFailure ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static Throwable cause(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    /**
+     * Why a scenario stopped, without the cost of a stack trace.
+     */
+    private static final class ScenarioFailure extends RuntimeException {
+
+        private ScenarioFailure(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.micronaut.context.ApplicationContext;
+
+/**
+ * What the handlers need from the invocation {@code execute} runs in, which has no {@link Context} parameter:
+ * {@code MicronautRequestHandler.handleRequest} registers the Lambda context with the application context first.
+ * Log and EMF lines go to standard output as they are, which Lambda sends to CloudWatch line by line, rather than
+ * through the SLF4J logger, whose pattern would put a timestamp, the level and colour codes in front of the JSON.
+ */
+final class LambdaInvocations {
+
+    private LambdaInvocations() {}
+
+    static String requestId(ApplicationContext applicationContext) {
+        return applicationContext.findBean(Context.class).map(Context::getAwsRequestId).orElse(null);
+    }
+
+    /**
+     * Writes the lines, ending the last one if it is not already: the log lines come with their line ends, the EMF
+     * line without.
+     */
+    static void print(String lines) {
+        if (lines.endsWith("\n")) {
+            System.out.print(lines);
+        } else {
+            System.out.println(lines);
+        }
+    }
+}
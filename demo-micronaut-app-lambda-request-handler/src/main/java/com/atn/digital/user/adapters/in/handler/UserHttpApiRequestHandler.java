@@ -0,0 +1,36 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.UserService;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.function.aws.MicronautRequestHandler;
+import jakarta.inject.Inject;
+
+/**
+ * Same routes and responses as {@link UserRequestHandler}, for HTTP APIs and Lambda Function URLs,
+ * which send the payload format 2.0 event.
+ */
+@Introspected
+public class UserHttpApiRequestHandler extends MicronautRequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    private final UserRequestRouter router;
+
+    public UserHttpApiRequestHandler() { this(BeanContext.run().getBean(UserService.class)); }
+
+    @Inject
+    public UserHttpApiRequestHandler(UserService userService) {
+        this.router = new UserRequestRouter(
+                userService::handle,
+                userService::registerNewUsers,
+                userService::findByUserId,
+                userService::findByUserIds);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse execute(APIGatewayV2HTTPEvent event) {
+        return router.handle(event, HttpApiEvents::toRequest, HttpApiEvents::toResponse,
+                LambdaInvocations.requestId(getApplicationContext()), LambdaInvocations::print);
+    }
+}
@@ -1,24 +1,14 @@
 package com.atn.digital.user.adapters.out.persistence.dynamodb;
 
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import com.atn.digital.user.adapters.out.dynamodb.client.UserTableBootstrap;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import jakarta.inject.Singleton;
-import software.amazon.awssdk.core.waiters.WaiterResponse;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
-import software.amazon.awssdk.services.dynamodb.model.BillingMode;
-import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
-import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
-import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
-import software.amazon.awssdk.services.dynamodb.model.KeyType;
-import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
-import software.amazon.awssdk.services.dynamodb.waiters.DynamoDbWaiter;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
 
 @Singleton
 public class DynamoDbClientInitializer {
@@ -28,18 +18,21 @@ public class DynamoDbClientInitializer {
 
     @PostConstruct
     private void initialize() {
+        if (UserRepositoryType.fromEnvironment().isInMemory()) {
+            // the in-memory repository talks to no DynamoDB
+            return;
+        }
 
-        String uri = System.getProperty("LOCAL_DYNAMODB_URI");
+        String uri = System.getProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY);
         String tableName = System.getProperty("USER_TABLE");
         boolean isLocalDynamoDbUri = uri != null && !uri.isBlank();
         
         if (isLocalDynamoDbUri) {
-            client = DynamoDbClient.builder().endpointOverride(URI.create(uri)).build();
-            createTable(client, tableName);
+            client = DynamoDbClientFactory.fromEnvironment(tableName).createClient();
+            UserTableBootstrap.createIfMissing(client, tableName);
             return;
         }
         
-        client = DynamoDbClient.builder().build();
         tableName = System.getenv("TABLE_NAME");
         
         if (tableName == null) {
@@ -47,6 +40,7 @@ public class DynamoDbClientInitializer {
         }
         
         System.setProperty("USER_TABLE", tableName);
+        client = DynamoDbClientFactory.fromEnvironment(tableName).createClient();
     }
 
     @PreDestroy
@@ -55,45 +49,4 @@ public class DynamoDbClientInitializer {
             client.close();
         }
     }
-
-    private boolean tableExists(DynamoDbClient client, String tableName) {
-        return client.listTables().tableNames().contains(tableName);
-    }
-
-    private void createTable(DynamoDbClient client, String tableName) {
-        
-        if (tableExists(client, tableName)) {
-            return;    
-        }
-
-        List<KeySchemaElement> keySchema = new ArrayList<>();
-        keySchema.add(KeySchemaElement.builder().attributeName("id").keyType(KeyType.HASH.name()).build());
-
-        List<AttributeDefinition> attributes = new ArrayList<>();
-        attributes.add(AttributeDefinition.builder().attributeName("id")
-                .attributeType(ScalarAttributeType.S.name()).build());
-
-        CreateTableRequest request = CreateTableRequest.builder()
-                .tableName(tableName)
-                .keySchema(keySchema)
-                .attributeDefinitions(attributes)
-                .billingMode(BillingMode.PAY_PER_REQUEST)
-                .build();
-        try {
-            client.createTable(request);
-            System.out.printf("Table %s created successfully.%n", tableName);
-
-            DescribeTableRequest tableRequest = DescribeTableRequest.builder()
-                    .tableName(tableName)
-                    .build();
-
-            DynamoDbWaiter dbWaiter = client.waiter();
-            WaiterResponse<DescribeTableResponse> waiterResponse = dbWaiter.waitUntilTableExists(tableRequest);
-            waiterResponse.matched().response().ifPresent(System.out::println);
-
-        } catch (DynamoDbException e) {
-            System.err.printf("Failed to create table %s%n", tableName);
-            throw e;
-        }
-    }
 }
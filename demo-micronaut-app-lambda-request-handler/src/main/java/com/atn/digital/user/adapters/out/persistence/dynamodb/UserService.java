@@ -1,34 +1,59 @@
 package com.atn.digital.user.adapters.out.persistence.dynamodb;
 
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import com.atn.digital.user.domain.exceptions.UserNotFoundException;
 import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.List;
+
 @Singleton
 public class UserService {
     private final RegisterNewUserUseCase registerNewUserUseCase;
+    private final RegisterNewUsersUseCase registerNewUsersUseCase;
     private final FindUserByIdQuery findUserByIdQuery;
+    private final FindUsersByIdsQuery findUsersByIdsQuery;
 
     @Inject
     public UserService(DynamoDbClientInitializer initializer) {
-        UserRepository adapter = new DynamoDbUserRepository(initializer.client());
+        UserRepository repository = UserRepositoryType.fromEnvironment().isInMemory()
+                ? InMemoryUserRepository.shared()
+                : new DynamoDbUserRepository(initializer.client());
+        UserRepository adapter = new CachingUserRepository(new TimedUserRepository(repository));
         registerNewUserUseCase = new RegisterNewUserService(adapter);
+        registerNewUsersUseCase = new RegisterNewUsersService(adapter);
         findUserByIdQuery = new FindUserByIdService(adapter);
+        findUsersByIdsQuery = new FindUsersByIdsService(adapter);
     }
 
     public UserId handle(RegisterNewUserCommand registerNewUserCommand) {
         return registerNewUserUseCase.handle(registerNewUserCommand);
     }
 
+    public List<UserId> registerNewUsers(List<RegisterNewUserCommand> registerNewUserCommands) {
+        return registerNewUsersUseCase.handle(registerNewUserCommands);
+    }
+
     public User findByUserId(UserId userId) throws UserNotFoundException {
         return findUserByIdQuery.findByUserId(userId);
     }
+
+    public List<User> findByUserIds(List<UserId> userIds) {
+        return findUsersByIdsQuery.findByUserIds(userIds);
+    }
 }
@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -105,6 +106,52 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchGet {
+        @Test
+        void shouldReturnHttpStatus200WithFoundUsers() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent("id1, id2,,id3");
+
+            when(userService.findByUserIds(anyList())).thenReturn(List.of(
+                    User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test"),
+                    User.withId(new UserId("id3"), "thirdName", "lastName", "third@unit.test")));
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals(2, gson.fromJson(response.getBody(), UserDto[].class).length);
+            verify(userService, times(1)).findByUserIds(
+                    argThat(userIds -> userIds.stream().map(UserId::getId).toList().equals(List.of("id1", "id2", "id3"))));
+            verify(userService, times(0)).findByUserId(any(UserId.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenIdsAreBlank() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent(" , ");
+
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(400, response.getStatusCode());
+            verify(userService, times(0)).findByUserIds(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent("id1");
+
+            when(userService.findByUserIds(anyList())).thenThrow(new RuntimeException());
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchGetRequestEvent(String ids) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("GET");
+            requestEvent.setQueryStringParameters(Map.of("ids", ids));
+            return requestEvent;
+        }
+    }
+
     @Nested
     class Post {
         @Test
@@ -154,6 +201,55 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchPost {
+        @Test
+        void shouldReturnHttpStatus201WithOneIdPerUser() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName", "lastName", "lastName", "email", "second@unit.test")));
+
+            when(userService.registerNewUsers(anyList())).thenReturn(List.of(new UserId("id1"), new UserId("id2")));
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(201, response.getStatusCode());
+            assertEquals("[{\"id\":\"id1\"},{\"id\":\"id2\"}]", response.getBody());
+            verify(userService, times(1)).registerNewUsers(anyList());
+            verify(userService, times(0)).handle(any(RegisterNewUserCommand.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenOneUserIsInvalid() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName")));
+
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(400, response.getStatusCode());
+            verify(userService, times(0)).registerNewUsers(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test")));
+
+            when(userService.registerNewUsers(anyList())).thenThrow(new RuntimeException());
+            APIGatewayProxyResponseEvent response = handler.execute(requestEvent);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchRequestEvent(List<Map<String, String>> body) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("POST");
+            requestEvent.setPath("/micronaut-request-handler/users/batch");
+            requestEvent.setBody(gson.toJson(body));
+            return requestEvent;
+        }
+    }
+
     @Nested
     class OtherMethods {
         @Test
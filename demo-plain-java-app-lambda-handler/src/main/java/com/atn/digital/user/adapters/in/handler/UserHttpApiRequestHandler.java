@@ -0,0 +1,55 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
+import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * Same routes and responses as {@link UserRequestHandler}, for HTTP APIs and Lambda Function URLs,
+ * which send the payload format 2.0 event.
+ */
+public class UserHttpApiRequestHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    private static final String TABLE_NAME = System.getenv("TABLE_NAME");
+    private final UserRequestRouter router;
+
+    public UserHttpApiRequestHandler() {
+        this(UserRepositories.fromEnvironment(TABLE_NAME));
+    }
+
+    public UserHttpApiRequestHandler(DynamoDbClient client) {
+        this(UserRepositories.dynamoDb(client, TABLE_NAME));
+    }
+
+    private UserHttpApiRequestHandler(UserRepository repository) {
+        this(new RegisterNewUserService(repository),
+                new RegisterNewUsersService(repository),
+                new FindUserByIdService(repository),
+                new FindUsersByIdsService(repository));
+    }
+
+    public UserHttpApiRequestHandler(RegisterNewUserUseCase registerNewUserUseCase,
+                                     RegisterNewUsersUseCase registerNewUsersUseCase,
+                                     FindUserByIdQuery findUserByIdQuery,
+                                     FindUsersByIdsQuery findUsersByIdsQuery) {
+        this.router = new UserRequestRouter(
+                registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent event, Context context) {
+        return router.handle(event, HttpApiEvents::toRequest, HttpApiEvents::toResponse,
+                context.getAwsRequestId(), context.getLogger()::log);
+    }
+}
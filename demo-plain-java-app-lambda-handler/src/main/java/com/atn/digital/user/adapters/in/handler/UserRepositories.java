@@ -0,0 +1,38 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
+import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * The repository behind the handlers, picked with {@code USER_REPOSITORY}: the in-memory one never creates a
+ * DynamoDB client.
+ */
+final class UserRepositories {
+
+    private UserRepositories() {}
+
+    static UserRepository fromEnvironment(String tableName) {
+        if (UserRepositoryType.fromEnvironment().isInMemory()) {
+            return decorate(InMemoryUserRepository.shared());
+        }
+        return dynamoDb(DynamoDbClientFactory.fromEnvironment(tableName).createClient(), tableName);
+    }
+
+    /**
+     * {@link DynamoDbUserRepository} reads the table name from {@code USER_TABLE} when it is built, so it is set first.
+     */
+    static UserRepository dynamoDb(DynamoDbClient client, String tableName) {
+        System.setProperty("USER_TABLE", tableName);
+        return decorate(new DynamoDbUserRepository(client));
+    }
+
+    private static UserRepository decorate(UserRepository repository) {
+        return new CachingUserRepository(new TimedUserRepository(repository));
+    }
+}
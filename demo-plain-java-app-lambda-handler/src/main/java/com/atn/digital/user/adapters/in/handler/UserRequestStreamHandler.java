@@ -0,0 +1,63 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.atn.digital.user.adapters.in.handler.json.ApiGatewayProxyCodec;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
+import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Same routes and responses as {@link UserRequestHandler}, but reads the API Gateway event straight from the
+ * input stream and writes the response straight to the output stream. The runtime no longer builds the
+ * aws-lambda-java-events request and response objects: only the method, path, path and query parameters and
+ * body are picked out of the event.
+ */
+public class UserRequestStreamHandler implements RequestStreamHandler {
+
+    private static final String TABLE_NAME = System.getenv("TABLE_NAME");
+    private final UserRequestRouter router;
+
+    public UserRequestStreamHandler() {
+        this(UserRepositories.fromEnvironment(TABLE_NAME));
+    }
+
+    public UserRequestStreamHandler(DynamoDbClient client) {
+        this(UserRepositories.dynamoDb(client, TABLE_NAME));
+    }
+
+    private UserRequestStreamHandler(UserRepository repository) {
+        this(new RegisterNewUserService(repository),
+                new RegisterNewUsersService(repository),
+                new FindUserByIdService(repository),
+                new FindUsersByIdsService(repository));
+    }
+
+    public UserRequestStreamHandler(RegisterNewUserUseCase registerNewUserUseCase,
+                                    RegisterNewUsersUseCase registerNewUsersUseCase,
+                                    FindUserByIdQuery findUserByIdQuery,
+                                    FindUsersByIdsQuery findUsersByIdsQuery) {
+        this.router = new UserRequestRouter(
+                registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery);
+    }
+
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        String event = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        String response = router.handle(event, ApiGatewayProxyCodec::readRequest, ApiGatewayProxyCodec::writeResponse,
+                context.getAwsRequestId(), context.getLogger()::log);
+        output.write(response.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent.RequestContext;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.TestLogger;
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserHttpApiRequestHandlerTest {
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private RegisterNewUserUseCase useCase;
+
+    @Mock
+    private RegisterNewUsersUseCase batchUseCase;
+
+    @Mock
+    private FindUserByIdQuery query;
+
+    @Mock
+    private FindUsersByIdsQuery batchQuery;
+
+    private UserHttpApiRequestHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new UserHttpApiRequestHandler(useCase, batchUseCase, query, batchQuery);
+        when(context.getLogger()).thenReturn(new TestLogger());
+    }
+
+    @Test
+    void shouldReturnHttpStatus200WhenUserIdExists() {
+        APIGatewayV2HTTPEvent event = event("GET", "GET /plain-java-request-handler/users/{userId}",
+                "/plain-java-request-handler/users/id1")
+                .withPathParameters(Map.of("userId", "id1"))
+                .build();
+        when(query.findByUserId(any(UserId.class)))
+                .thenReturn(User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test"));
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("{\"id\":\"id1\",\"firstName\":\"firstName\",\"lastName\":\"lastName\",\"email\":\"first@unit.test\"}",
+                response.getBody());
+    }
+
+    @Test
+    void shouldReturnHttpStatus404ForUnknownUserOfFunctionUrl() {
+        APIGatewayV2HTTPEvent event = event("GET", "$default", "/users/id1").build();
+        when(query.findByUserId(any(UserId.class))).thenThrow(new UserNotFoundException("User not found"));
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        assertEquals(404, response.getStatusCode());
+        verify(query, times(1)).findByUserId(argThat(userId -> userId.getId().equals("id1")));
+    }
+
+    @Test
+    void shouldReturnHttpStatus201WithOneIdPerUserForBatchPost() {
+        APIGatewayV2HTTPEvent event = event("POST", "POST /plain-java-request-handler/users/batch",
+                "/plain-java-request-handler/users/batch")
+                .withBody("[{\"firstName\":\"firstName\",\"lastName\":\"lastName\",\"email\":\"first@unit.test\"}]")
+                .build();
+        when(batchUseCase.handle(anyList())).thenReturn(List.of(new UserId("id1")));
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        assertEquals(201, response.getStatusCode());
+        assertEquals("[{\"id\":\"id1\"}]", response.getBody());
+        verify(useCase, times(0)).handle(any(RegisterNewUserCommand.class));
+    }
+
+    @Test
+    void shouldReturnHttpStatus405() {
+        APIGatewayV2HTTPEvent event = event("DELETE", "$default", "/users/id1").build();
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        assertEquals(405, response.getStatusCode());
+    }
+
+    private static APIGatewayV2HTTPEvent.APIGatewayV2HTTPEventBuilder event(String method, String routeKey, String rawPath) {
+        return APIGatewayV2HTTPEvent.builder()
+                .withVersion("2.0")
+                .withRouteKey(routeKey)
+                .withRawPath(rawPath)
+                .withHeaders(Map.of("accept", "application/json"))
+                .withRequestContext(RequestContext.builder()
+                        .withHttp(RequestContext.Http.builder().withMethod(method).withPath(rawPath).build())
+                        .build());
+    }
+}
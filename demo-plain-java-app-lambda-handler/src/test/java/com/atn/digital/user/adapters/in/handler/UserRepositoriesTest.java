@@ -0,0 +1,60 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.atn.digital.user.TestLogger;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserRepositoriesTest {
+
+    private final Gson gson = new Gson();
+
+    @Mock
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(UserRepositoryType.PROPERTY_NAME, UserRepositoryType.IN_MEMORY.name());
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(UserRepositoryType.PROPERTY_NAME);
+    }
+
+    @Test
+    void shouldServeRegisteredUserFromMemoryWithoutDynamoDb() {
+        when(context.getLogger()).thenReturn(new TestLogger());
+        UserRequestHandler handler = new UserRequestHandler();
+
+        APIGatewayProxyRequestEvent post = new APIGatewayProxyRequestEvent();
+        post.setHttpMethod("POST");
+        post.setBody(gson.toJson(Map.of(
+                "firstName", "Homer", "lastName", "Simpson", "email", "homer.simpson@unit.test")));
+        APIGatewayProxyResponseEvent created = handler.handleRequest(post, context);
+        assertEquals(201, created.getStatusCode());
+
+        APIGatewayProxyRequestEvent get = new APIGatewayProxyRequestEvent();
+        get.setHttpMethod("GET");
+        get.setPathParameters(Map.of("userId", (String) gson.fromJson(created.getBody(), Map.class).get("id")));
+        APIGatewayProxyResponseEvent found = handler.handleRequest(get, context);
+
+        assertEquals(200, found.getStatusCode());
+        assertTrue(found.getBody().contains("homer.simpson@unit.test"));
+    }
+}
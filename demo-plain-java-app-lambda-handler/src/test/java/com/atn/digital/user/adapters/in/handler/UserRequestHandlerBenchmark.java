@@ -0,0 +1,78 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.atn.digital.user.BenchmarkContext;
+import com.atn.digital.user.BenchmarkEvents;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A warm invocation of the plain Java handler, from the event the runtime has bound to the response it will
+ * serialize, against the in-memory repository: what is left is the handler's own work, which the other targets'
+ * benchmarks add their framework's dispatch to. Throughput gives the invocations per microsecond, sample time the
+ * percentiles of one invocation, and the GC profiler the bytes allocated by each.
+ * <p>
+ * The repository is emptied before each iteration so that registrations do not pile up.
+ *
+ * <pre>
+ * ./run-handler-benchmarks.sh plain-java
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-DUSER_REPOSITORY=IN_MEMORY", "-DLOG_LEVEL=INFO"})
+public class UserRequestHandlerBenchmark {
+
+    private static final String USERS_PATH = "/plain-java-request-handler/users";
+
+    private final Gson gson = new Gson();
+    private final Context context = new BenchmarkContext();
+    private UserRequestHandler handler;
+    private APIGatewayProxyRequestEvent registerUser;
+    private APIGatewayProxyRequestEvent findUser;
+
+    @Setup
+    public void setUp() {
+        handler = new UserRequestHandler();
+        registerUser = gson.fromJson(BenchmarkEvents.registerUser(USERS_PATH), APIGatewayProxyRequestEvent.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void registerUserToFind() {
+        InMemoryUserRepository.shared().clear();
+        APIGatewayProxyResponseEvent response = handler.handleRequest(registerUser, context);
+        if (response.getStatusCode() != 201) {
+            throw new IllegalStateException("Registration failed: " + response.getBody());
+        }
+        String userId = BenchmarkEvents.userId(response.getBody());
+        findUser = gson.fromJson(BenchmarkEvents.findUser(USERS_PATH, userId), APIGatewayProxyRequestEvent.class);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent registerUser() {
+        return handler.handleRequest(registerUser, context);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent findUser() {
+        return handler.handleRequest(findUser, context);
+    }
+}
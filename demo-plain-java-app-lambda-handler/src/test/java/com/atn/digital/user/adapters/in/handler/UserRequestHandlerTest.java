@@ -9,8 +9,10 @@ import com.atn.digital.user.domain.exceptions.UserNotFoundException;
 import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +22,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -41,14 +45,20 @@ class UserRequestHandlerTest {
     @Mock
     private RegisterNewUserUseCase useCase;
 
+    @Mock
+    private RegisterNewUsersUseCase batchUseCase;
+
     @Mock
     private FindUserByIdQuery query;
 
+    @Mock
+    private FindUsersByIdsQuery batchQuery;
+
     private UserRequestHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new UserRequestHandler(repository, useCase, query);
+        handler = new UserRequestHandler(repository, useCase, batchUseCase, query, batchQuery);
     }
 
     @Nested
@@ -120,6 +130,67 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchGet {
+        @Test
+        void shouldReturnHttpStatus200WithFoundUsers() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent("id1, id2,,id3");
+
+            when(batchQuery.findByUserIds(anyList())).thenReturn(List.of(
+                    User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test"),
+                    User.withId(new UserId("id3"), "thirdName", "lastName", "third@unit.test")));
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals(2, gson.fromJson(response.getBody(), UserDto[].class).length);
+            verify(batchQuery, times(1)).findByUserIds(
+                    argThat(userIds -> userIds.stream().map(UserId::getId).toList().equals(List.of("id1", "id2", "id3"))));
+            verify(query, times(0)).findByUserId(any(UserId.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenIdsAreBlank() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent(" , ");
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchQuery, times(0)).findByUserIds(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenTooManyIds() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent(
+                    String.join(",", Collections.nCopies(UserRequestRouter.MAX_BATCH_SIZE + 1, "id")));
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchQuery, times(0)).findByUserIds(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            APIGatewayProxyRequestEvent requestEvent = batchGetRequestEvent("id1");
+
+            when(batchQuery.findByUserIds(anyList())).thenThrow(new RuntimeException());
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchGetRequestEvent(String ids) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("GET");
+            requestEvent.setQueryStringParameters(Map.of("ids", ids));
+            return requestEvent;
+        }
+    }
+
     @Nested
     class Post {
         @Test
@@ -172,6 +243,96 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchPost {
+        @Test
+        void shouldReturnHttpStatus201WithOneIdPerUser() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName", "lastName", "lastName", "email", "second@unit.test")));
+
+            when(batchUseCase.handle(anyList())).thenReturn(List.of(new UserId("id1"), new UserId("id2")));
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(201, response.getStatusCode());
+            assertEquals("[{\"id\":\"id1\"},{\"id\":\"id2\"}]", response.getBody());
+            verify(batchUseCase, times(1)).handle(anyList());
+            verify(useCase, times(0)).handle(any(RegisterNewUserCommand.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenOneUserIsInvalid() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName")));
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchUseCase, times(0)).handle(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenBodyIsMissing() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(null);
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchUseCase, times(0)).handle(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenOneUserIsNull() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of());
+            requestEvent.setBody("[null]");
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchUseCase, times(0)).handle(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenBatchIsTooLarge() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(Collections.nCopies(
+                    UserRequestRouter.MAX_BATCH_SIZE + 1,
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test")));
+
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchUseCase, times(0)).handle(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            APIGatewayProxyRequestEvent requestEvent = batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test")));
+
+            when(batchUseCase.handle(anyList())).thenThrow(new RuntimeException());
+            when(context.getLogger()).thenReturn(new TestLogger());
+            APIGatewayProxyResponseEvent response = handler.handleRequest(requestEvent, context);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchRequestEvent(List<Map<String, String>> body) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("POST");
+            requestEvent.setPath("/plain-java-request-handler/users/batch");
+            if (body != null) {
+                requestEvent.setBody(gson.toJson(body));
+            }
+            return requestEvent;
+        }
+    }
+
     @Nested
     class OtherMethods {
         @Test
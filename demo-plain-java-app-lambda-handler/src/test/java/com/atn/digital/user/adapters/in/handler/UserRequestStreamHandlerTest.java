@@ -0,0 +1,181 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.atn.digital.user.TestLogger;
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRequestStreamHandlerTest {
+
+    private final Gson gson = new Gson();
+    private final Gson eventGson = new GsonBuilder().serializeNulls().create();
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private RegisterNewUserUseCase useCase;
+
+    @Mock
+    private RegisterNewUsersUseCase batchUseCase;
+
+    @Mock
+    private FindUserByIdQuery query;
+
+    @Mock
+    private FindUsersByIdsQuery batchQuery;
+
+    private UserRequestStreamHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new UserRequestStreamHandler(useCase, batchUseCase, query, batchQuery);
+        when(context.getLogger()).thenReturn(new TestLogger());
+    }
+
+    @Test
+    void shouldReturnHttpStatus200WithUserWhenUserIdExists() throws IOException {
+        Map<String, Object> event = event("GET", "/plain-java-request-handler/users/id1");
+        event.put("pathParameters", Map.of("userId", "id1"));
+        when(query.findByUserId(any(UserId.class)))
+                .thenReturn(User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test"));
+
+        JsonObject response = handle(event);
+
+        assertEquals(200, response.get("statusCode").getAsInt());
+        assertEquals(gson.toJson(new UserDto("id1", "firstName", "lastName", "first@unit.test")),
+                response.get("body").getAsString());
+        verify(query, times(1)).findByUserId(argThat(userId -> userId.getId().equals("id1")));
+    }
+
+    @Test
+    void shouldReturnHttpStatus404WhenUserIdDoesNotExist() throws IOException {
+        Map<String, Object> event = event("GET", "/plain-java-request-handler/users/id1");
+        event.put("pathParameters", Map.of("userId", "id1"));
+        when(query.findByUserId(any(UserId.class))).thenThrow(new UserNotFoundException("User not found"));
+
+        JsonObject response = handle(event);
+
+        assertEquals(404, response.get("statusCode").getAsInt());
+        assertEquals("User not found", response.get("body").getAsString());
+    }
+
+    @Test
+    void shouldReturnHttpStatus200WithFoundUsersForIdsParameter() throws IOException {
+        Map<String, Object> event = event("GET", "/plain-java-request-handler/users");
+        event.put("queryStringParameters", Map.of("page", "1", "ids", "id1,id2"));
+        when(batchQuery.findByUserIds(anyList())).thenReturn(List.of(
+                User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test")));
+
+        JsonObject response = handle(event);
+
+        assertEquals(200, response.get("statusCode").getAsInt());
+        assertEquals(1, gson.fromJson(response.get("body").getAsString(), UserDto[].class).length);
+        verify(batchQuery, times(1)).findByUserIds(
+                argThat(userIds -> userIds.stream().map(UserId::getId).toList().equals(List.of("id1", "id2"))));
+    }
+
+    @Test
+    void shouldReturnHttpStatus201WhenUserIsRegistered() throws IOException {
+        Map<String, Object> event = event("POST", "/plain-java-request-handler/users");
+        event.put("body", "{\"firstName\":\"firstName\",\"lastName\":\"lastName\",\"email\":\"email@unit.test\"}");
+        when(useCase.handle(any(RegisterNewUserCommand.class))).thenReturn(new UserId("id"));
+
+        JsonObject response = handle(event);
+
+        assertEquals(201, response.get("statusCode").getAsInt());
+        assertEquals("{\"id\":\"id\"}", response.get("body").getAsString());
+    }
+
+    @Test
+    void shouldDecodeBase64EncodedBody() throws IOException {
+        Map<String, Object> event = event("POST", "/plain-java-request-handler/users/batch");
+        event.put("isBase64Encoded", true);
+        event.put("body", Base64.getEncoder().encodeToString(
+                "[{\"firstName\":\"Zoé\",\"lastName\":\"lastName\",\"email\":\"zoe@unit.test\"}]"
+                        .getBytes(StandardCharsets.UTF_8)));
+        when(batchUseCase.handle(anyList())).thenReturn(List.of(new UserId("id1")));
+
+        JsonObject response = handle(event);
+
+        assertEquals(201, response.get("statusCode").getAsInt());
+        assertEquals("[{\"id\":\"id1\"}]", response.get("body").getAsString());
+        verify(batchUseCase, times(1)).handle(argThat(commands -> commands.get(0).getFirstName().equals("Zoé")));
+    }
+
+    @Test
+    void shouldReturnHttpStatus400WhenBodyIsInvalid() throws IOException {
+        Map<String, Object> event = event("POST", "/plain-java-request-handler/users");
+        event.put("body", "{\"firstName\":\"firstName\"}");
+
+        JsonObject response = handle(event);
+
+        assertEquals(400, response.get("statusCode").getAsInt());
+        verify(useCase, times(0)).handle(any(RegisterNewUserCommand.class));
+    }
+
+    @Test
+    void shouldReturnHttpStatus405WithoutBody() throws IOException {
+        JsonObject response = handle(event("DELETE", "/plain-java-request-handler/users"));
+
+        assertEquals(405, response.get("statusCode").getAsInt());
+        assertFalse(response.has("body"));
+    }
+
+    private JsonObject handle(Map<String, Object> event) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        handler.handleRequest(new ByteArrayInputStream(eventGson.toJson(event).getBytes(StandardCharsets.UTF_8)),
+                output, context);
+        return gson.fromJson(output.toString(StandardCharsets.UTF_8), JsonObject.class);
+    }
+
+    /**
+     * A REST API proxy event as API Gateway sends it, with the members the handler must skip.
+     */
+    private static Map<String, Object> event(String httpMethod, String path) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("resource", path);
+        event.put("path", path);
+        event.put("httpMethod", httpMethod);
+        event.put("headers", Map.of("Accept", "application/json", "Host", "api.unit.test"));
+        event.put("multiValueHeaders", Map.of("Accept", List.of("application/json")));
+        event.put("queryStringParameters", null);
+        event.put("pathParameters", null);
+        event.put("stageVariables", null);
+        event.put("requestContext", Map.of(
+                "requestId", "c6af9ac6-7b61-11e6-9a41-93e8deadbeef",
+                "identity", Map.of("sourceIp", "127.0.0.1"),
+                "requestTimeEpoch", 1_700_000_000_000L));
+        event.put("body", null);
+        event.put("isBase64Encoded", false);
+        return event;
+    }
+}
@@ -1,3 +0,0 @@
-package com.atn.digital.user.adapters.in.handler;
-
-public record RegisterNewUserData (String firstName, String lastName, String email) { }
@@ -0,0 +1,80 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Same routes and responses as {@link UserRequestHandler}, for HTTP APIs and Lambda Function URLs,
+ * which send the payload format 2.0 event.
+ */
+@Named("userHttpApiRequestHandler")
+public class UserHttpApiRequestHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    @Inject
+    UserRepository repository;
+
+    @Inject
+    RegisterNewUserUseCase registerNewUserUseCase;
+
+    @Inject
+    RegisterNewUsersUseCase registerNewUsersUseCase;
+
+    @Inject
+    FindUserByIdQuery findUserByIdQuery;
+
+    @Inject
+    FindUsersByIdsQuery findUsersByIdsQuery;
+
+    private UserRequestRouter router;
+
+    public UserHttpApiRequestHandler() {
+        loadTableName();
+    }
+
+    public UserHttpApiRequestHandler(
+            UserRepository repository,
+            RegisterNewUserUseCase registerNewUserUseCase,
+            RegisterNewUsersUseCase registerNewUsersUseCase,
+            FindUserByIdQuery findUserByIdQuery,
+            FindUsersByIdsQuery findUsersByIdsQuery) {
+        this.repository = repository;
+        this.registerNewUserUseCase = registerNewUserUseCase;
+        this.registerNewUsersUseCase = registerNewUsersUseCase;
+        this.findUserByIdQuery = findUserByIdQuery;
+        this.findUsersByIdsQuery = findUsersByIdsQuery;
+        loadTableName();
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent event, Context context) {
+        return router().handle(event, HttpApiEvents::toRequest, HttpApiEvents::toResponse,
+                context.getAwsRequestId(), context.getLogger()::log);
+    }
+
+    /**
+     * Built on first use, once the fields have been injected.
+     */
+    private UserRequestRouter router() {
+        if (router == null) {
+            router = new UserRequestRouter(
+                    registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery);
+        }
+        return router;
+    }
+
+    private void loadTableName() {
+        String tableName = System.getenv("TABLE_NAME");
+        if (tableName != null) {
+            System.setProperty("USER_TABLE", tableName);
+        }
+    }
+}
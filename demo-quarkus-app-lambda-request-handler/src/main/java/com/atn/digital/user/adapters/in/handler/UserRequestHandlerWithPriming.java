@@ -4,15 +4,13 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
 import com.atn.digital.user.domain.exceptions.UserNotFoundException;
-import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
-import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
-import com.google.gson.Gson;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.crac.Core;
@@ -30,10 +28,16 @@ public class UserRequestHandlerWithPriming
 	@Inject
 	RegisterNewUserUseCase registerNewUserUseCase;
 
+	@Inject
+	RegisterNewUsersUseCase registerNewUsersUseCase;
+
 	@Inject
 	FindUserByIdQuery findUserByIdQuery;
 
-	private final Gson gson = new Gson();
+	@Inject
+	FindUsersByIdsQuery findUsersByIdsQuery;
+
+	private UserRequestRouter router;
 
 	public UserRequestHandlerWithPriming() {
 		loadTableName();
@@ -43,10 +47,14 @@ public class UserRequestHandlerWithPriming
 	public UserRequestHandlerWithPriming(
 			UserRepository repository,
 			RegisterNewUserUseCase registerNewUserUseCase,
-			FindUserByIdQuery findUserByIdQuery) {
+			RegisterNewUsersUseCase registerNewUsersUseCase,
+			FindUserByIdQuery findUserByIdQuery,
+			FindUsersByIdsQuery findUsersByIdsQuery) {
 		this.repository = repository;
 		this.registerNewUserUseCase = registerNewUserUseCase;
+		this.registerNewUsersUseCase = registerNewUsersUseCase;
 		this.findUserByIdQuery = findUserByIdQuery;
+		this.findUsersByIdsQuery = findUsersByIdsQuery;
 		loadTableName();
 		Core.getGlobalContext().register(this);
 	}
@@ -69,81 +77,19 @@ public class UserRequestHandlerWithPriming
 
 	@Override
 	public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent event, Context context) {
-		String method = event.getHttpMethod().toUpperCase();
-		context.getLogger().log("httpMethod = " + method);
-
-		switch (method) {
-			case "GET" -> {
-				return handleGet(event, context);
-			}
-			case "POST" -> {
-				return handlePost(event, context);
-			}
-			default -> {
-				APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
-				response.setStatusCode(405);
-				return response;
-			}
-		}
+		return router().handle(event, RestApiEvents::toRequest, RestApiEvents::toResponse,
+				context.getAwsRequestId(), context.getLogger()::log);
 	}
 
-	private APIGatewayProxyResponseEvent handlePost(APIGatewayProxyRequestEvent event, Context context) {
-		try {
-			String body = event.getBody();
-			context.getLogger().log("body = " + body);
-			RegisterNewUserData userData = gson.fromJson(body, RegisterNewUserData.class);
-			RegisterNewUserCommand newUserCommand = new RegisterNewUserCommand(
-					userData.firstName(),
-					userData.lastName(),
-					userData.email());
-			UserId userId = registerNewUserUseCase.handle(newUserCommand);
-			APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
-			response.setStatusCode(201);
-			response.setBody(gson.toJson(userId));
-			return response;
-		} catch (ConstraintViolationException e) {
-			return errorApiGatewayProxyResponseEvent(context, e.getMessage(), 400);
-		} catch (Exception e) {
-			return errorApiGatewayProxyResponseEvent(context, e.getMessage(), 500);
+	/**
+	 * Built on first use, once the fields have been injected.
+	 */
+	private UserRequestRouter router() {
+		if (router == null) {
+			router = new UserRequestRouter(
+					registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery);
 		}
-	}
-
-	private APIGatewayProxyResponseEvent handleGet(APIGatewayProxyRequestEvent event, Context context) {
-
-		if (event.getPathParameters() == null) {
-			return errorApiGatewayProxyResponseEvent(context, "Missing parameter userId", 400);
-		}
-
-		try {
-			String userId = event.getPathParameters().get("userId");
-			User user = findUserByIdQuery.findByUserId(new UserId(userId));
-			UserDto userDto = new UserDto(
-					userId,
-					user.getFirstName(),
-					user.getLastName(),
-					user.getEmail()
-			);
-
-			APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
-			response.setStatusCode(200);
-			response.setBody(gson.toJson(userDto));
-			return response;
-		} catch (ConstraintViolationException e) {
-			return errorApiGatewayProxyResponseEvent(context, e.getMessage(), 400);
-		} catch (UserNotFoundException e) {
-			return errorApiGatewayProxyResponseEvent(context, e.getMessage(), 404);
-		} catch (Exception e) {
-			return errorApiGatewayProxyResponseEvent(context, e.getMessage(), 500);
-		}
-	}
-
-	private APIGatewayProxyResponseEvent errorApiGatewayProxyResponseEvent(
-			Context context, String errorMessage, int statusCode) {
-		context.getLogger().log("error message = " + errorMessage);
-		APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
-		response.setStatusCode(statusCode);
-		response.setBody(errorMessage);
-		return response;
+		return router;
 	}
 
 	private void loadTableName() {
@@ -1,26 +1,16 @@
 package com.atn.digital.user.adapters.out.persistence.dynamodb;
 
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import com.atn.digital.user.adapters.out.dynamodb.client.UserTableBootstrap;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
-import software.amazon.awssdk.core.waiters.WaiterResponse;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
-import software.amazon.awssdk.services.dynamodb.model.BillingMode;
-import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
-import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
-import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
-import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
-import software.amazon.awssdk.services.dynamodb.model.KeyType;
-import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
-import software.amazon.awssdk.services.dynamodb.waiters.DynamoDbWaiter;
 
 import jakarta.annotation.PostConstruct;
-import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
 
 @ApplicationScoped
 public class DynamoDbClientInitializer {
@@ -32,19 +22,21 @@ public class DynamoDbClientInitializer {
 
     @PostConstruct
     private void initialize() {
+        if (UserRepositoryType.fromEnvironment().isInMemory()) {
+            // the in-memory repository talks to no DynamoDB
+            return;
+        }
 
-        String uri = System.getProperty("LOCAL_DYNAMODB_URI");
+        String uri = System.getProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY);
         if (uri == null) {
-            client = DynamoDbClient.builder().build();
             System.setProperty("USER_TABLE", System.getenv("TABLE_NAME"));
-            return;
         }
 
-        client = DynamoDbClient.builder().endpointOverride(URI.create(uri)).build();
         String tableName = System.getProperty("USER_TABLE");
+        client = DynamoDbClientFactory.fromEnvironment(tableName).createClient();
 
-        if (!tableExists(client, tableName)) {
-            createTable(client, tableName);
+        if (uri != null) {
+            UserTableBootstrap.createIfMissing(client, tableName);
         }
     }
 
@@ -53,41 +45,4 @@ public class DynamoDbClientInitializer {
             client.close();
         }
     }
-
-    private boolean tableExists(DynamoDbClient client, String tableName) {
-        return client.listTables().tableNames().contains(tableName);
-    }
-
-    private void createTable(DynamoDbClient client, String tableName) {
-
-        List<KeySchemaElement> keySchema = new ArrayList<>();
-        keySchema.add(KeySchemaElement.builder().attributeName("id").keyType(KeyType.HASH.name()).build());
-
-        List<AttributeDefinition> attributes = new ArrayList<>();
-        attributes.add(AttributeDefinition.builder().attributeName("id")
-                .attributeType(ScalarAttributeType.S.name()).build());
-
-        CreateTableRequest request = CreateTableRequest.builder()
-                .tableName(tableName)
-                .keySchema(keySchema)
-                .attributeDefinitions(attributes)
-                .billingMode(BillingMode.PAY_PER_REQUEST)
-                .build();
-        try {
-            client.createTable(request);
-            System.out.printf("Table %s created successfully.%n", tableName);
-
-            DescribeTableRequest tableRequest = DescribeTableRequest.builder()
-                    .tableName(tableName)
-                    .build();
-
-            DynamoDbWaiter dbWaiter = client.waiter();
-            WaiterResponse<DescribeTableResponse> waiterResponse = dbWaiter.waitUntilTableExists(tableRequest);
-            waiterResponse.matched().response().ifPresent(System.out::println);
-
-        } catch (DynamoDbException e) {
-            System.err.printf("Failed to create table %s%n", tableName);
-            throw e;
-        }
-    }
 }
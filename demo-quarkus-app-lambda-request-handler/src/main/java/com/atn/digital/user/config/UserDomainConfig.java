@@ -1,16 +1,25 @@
 package com.atn.digital.user.config;
 
 
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbClientInitializer;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 
 
 @ApplicationScoped
@@ -20,8 +29,12 @@ public class UserDomainConfig {
     DynamoDbClientInitializer initializer;
 
     @Produces
+    @Singleton
     UserRepository userRepositoryAdapter() {
-        return new DynamoDbUserRepository(initializer.client());
+        UserRepository repository = UserRepositoryType.fromEnvironment().isInMemory()
+                ? InMemoryUserRepository.shared()
+                : new DynamoDbUserRepository(initializer.client());
+        return new CachingUserRepository(new TimedUserRepository(repository));
     }
 
     @Produces
@@ -29,8 +42,18 @@ public class UserDomainConfig {
         return new RegisterNewUserService(userRepository);
     }
 
+    @Produces
+    public RegisterNewUsersUseCase registerNewUsersUseCase(UserRepository userRepository) {
+        return new RegisterNewUsersService(userRepository);
+    }
+
     @Produces
     public FindUserByIdQuery findUserByIdQuery(UserRepository userRepository) {
         return new FindUserByIdService(userRepository);
     }
+
+    @Produces
+    public FindUsersByIdsQuery findUsersByIdsQuery(UserRepository userRepository) {
+        return new FindUsersByIdsService(userRepository);
+    }
 }
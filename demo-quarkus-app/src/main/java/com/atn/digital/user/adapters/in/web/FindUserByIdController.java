@@ -1,8 +1,7 @@
 package com.atn.digital.user.adapters.in.web;
 
-import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
-import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdAsyncQuery;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
@@ -11,24 +10,26 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.util.concurrent.CompletionStage;
+
 @Path("/quarkus/users")
 public class FindUserByIdController {
 
     @Inject
-    FindUserByIdQuery query;
+    FindUserByIdAsyncQuery query;
 
     @GET
     @Path("/{userId}")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response findByUserId(@PathParam("userId") String userId) {
-        User user = query.findByUserId(new UserId(userId));
-        UserDto userDto = new UserDto(
-                user.getId().get().getId(),
-                user.getFirstName(),
-                user.getLastName(),
-                user.getEmail()
-        );
-        return Response.ok(userDto).build();
+    public CompletionStage<Response> findByUserId(@PathParam("userId") String userId) {
+        return query.findByUserId(new UserId(userId)).thenApply(user -> {
+            UserDto userDto = new UserDto(
+                    user.getId().get().getId(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail()
+            );
+            return Response.ok(userDto).build();
+        });
     }
 }
-
@@ -0,0 +1,59 @@
+package com.atn.digital.user.adapters.in.web;
+
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Path("/quarkus/users")
+public class FindUsersByIdsController {
+
+    /**
+     * Same bound as the batch routes of the Lambda handlers: a longer list would fan out into that many more
+     * BatchGetItem calls on the shared pool.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    @Inject
+    FindUsersByIdsQuery query;
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response findByUserIds(@QueryParam("ids") String ids) {
+        List<UserId> userIds = new ArrayList<>();
+        if (ids != null) {
+            for (String id : ids.split(",")) {
+                if (!id.isBlank()) {
+                    userIds.add(new UserId(id.trim()));
+                }
+            }
+        }
+        if (userIds.isEmpty()) {
+            throw new ConstraintViolationException("Missing parameter ids");
+        }
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new ConstraintViolationException("Expected at most " + MAX_BATCH_SIZE + " user ids to find, got "
+                    + userIds.size());
+        }
+        List<UserDto> userDtos = new ArrayList<>(userIds.size());
+        for (User user : query.findByUserIds(userIds)) {
+            userDtos.add(new UserDto(
+                    user.getId().get().getId(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail()
+            ));
+        }
+        return Response.ok(userDtos).build();
+    }
+}
@@ -1,16 +1,27 @@
 package com.atn.digital.user.config;
 
 
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbClientInitializer;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdAsyncQuery;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserAsyncUseCase;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.out.persistence.UserAsyncRepository;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import com.atn.digital.user.domain.services.FindUserByIdAsyncService;
 import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
+import com.atn.digital.user.domain.services.RegisterNewUserAsyncService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 
 
 @ApplicationScoped
@@ -20,8 +31,24 @@ public class UserDomainConfig {
     DynamoDbClientInitializer initializer;
 
     @Produces
-    UserRepository userRepositoryAdapter() {
-        return new DynamoDbUserRepository(initializer.client());
+    @Singleton
+    CachingUserRepository userRepositoryAdapter() {
+        UserRepository repository = UserRepositoryType.fromEnvironment().isInMemory()
+                ? InMemoryUserRepository.shared()
+                : new DynamoDbUserRepository(initializer.client());
+        return new CachingUserRepository(repository);
+    }
+
+    /**
+     * Shares the cache, and the recent writes of DynamoDB, with the blocking repository.
+     */
+    @Produces
+    @Singleton
+    UserAsyncRepository userAsyncRepositoryAdapter(CachingUserRepository userRepository) {
+        UserAsyncRepository repository = userRepository.getDelegate() instanceof DynamoDbUserRepository dynamoDb
+                ? dynamoDb.async(initializer.asyncClient())
+                : InMemoryUserRepository.shared().async();
+        return userRepository.async(repository);
     }
 
     @Produces
@@ -33,4 +60,19 @@ public class UserDomainConfig {
     public FindUserByIdQuery findUserByIdQuery(UserRepository userRepository) {
         return new FindUserByIdService(userRepository);
     }
+
+    @Produces
+    public FindUsersByIdsQuery findUsersByIdsQuery(UserRepository userRepository) {
+        return new FindUsersByIdsService(userRepository);
+    }
+
+    @Produces
+    public RegisterNewUserAsyncUseCase registerNewUserAsyncUseCase(UserAsyncRepository userRepository) {
+        return new RegisterNewUserAsyncService(userRepository);
+    }
+
+    @Produces
+    public FindUserByIdAsyncQuery findUserByIdAsyncQuery(UserAsyncRepository userRepository) {
+        return new FindUserByIdAsyncService(userRepository);
+    }
 }
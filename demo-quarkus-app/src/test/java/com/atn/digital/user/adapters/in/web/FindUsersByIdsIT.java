@@ -0,0 +1,61 @@
+package com.atn.digital.user.adapters.in.web;
+
+import com.atn.digital.user.OutboundAdaptersExtension;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static io.restassured.RestAssured.given;
+
+@ExtendWith(OutboundAdaptersExtension.class)
+@QuarkusTest
+class FindUsersByIdsIT {
+
+    @Inject
+    RegisterNewUserUseCase newUserUseCase;
+
+    final String baseUrl = "/quarkus/users";
+
+    @Test
+    void shouldFindExistingUsersInRequestedOrder() {
+        UserId homer = newUserUseCase.handle(new RegisterNewUserCommand(
+                "Homer",
+                "Simpson",
+                "homer.simpson@unit.test"
+        ));
+        UserId marge = newUserUseCase.handle(new RegisterNewUserCommand(
+                "Marge",
+                "Simpson",
+                "marge.simpson@unit.test"
+        ));
+
+        UserDto[] users = given()
+                .contentType(ContentType.JSON)
+                .queryParam("ids", marge.getId() + ",unknown," + homer.getId())
+                .when().get(baseUrl)
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .extract().as(UserDto[].class);
+
+        Assertions.assertEquals(2, users.length);
+        Assertions.assertEquals(marge.getId(), users[0].id());
+        Assertions.assertEquals(homer.getId(), users[1].id());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenIdsAreBlank() {
+        given()
+                .contentType(ContentType.JSON)
+                .queryParam("ids", "   ")
+                .when().get(baseUrl)
+                .then()
+                .statusCode(Response.Status.BAD_REQUEST.getStatusCode());
+    }
+}
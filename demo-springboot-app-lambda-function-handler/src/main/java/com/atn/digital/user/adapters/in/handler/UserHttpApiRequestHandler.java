@@ -0,0 +1,36 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import org.springframework.messaging.Message;
+
+import java.util.function.Function;
+
+/**
+ * Same routes and responses as {@link UserRequestHandler}, for HTTP APIs and Lambda Function URLs,
+ * which send the payload format 2.0 event.
+ */
+public class UserHttpApiRequestHandler implements Function<Message<APIGatewayV2HTTPEvent>, APIGatewayV2HTTPResponse> {
+
+    private final UserRequestRouter router;
+
+    public UserHttpApiRequestHandler(RegisterNewUserUseCase registerNewUserUseCase,
+            RegisterNewUsersUseCase registerNewUsersUseCase,
+            FindUserByIdQuery findUserByIdQuery,
+            FindUsersByIdsQuery findUsersByIdsQuery) {
+        this.router = new UserRequestRouter(
+                registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse apply(Message<APIGatewayV2HTTPEvent> message) {
+        Context context = message.getHeaders().get("aws-context", Context.class);
+        return router.handle(message.getPayload(), HttpApiEvents::toRequest, HttpApiEvents::toResponse,
+                context.getAwsRequestId(), context.getLogger()::log);
+    }
+}
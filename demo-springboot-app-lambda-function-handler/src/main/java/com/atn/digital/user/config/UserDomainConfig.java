@@ -3,15 +3,26 @@ package com.atn.digital.user.config;
 
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.atn.digital.user.adapters.in.handler.UserHttpApiRequestHandler;
 import com.atn.digital.user.adapters.in.handler.UserRequestHandler;
 import com.atn.digital.user.adapters.in.handler.UserRequestHandlerWithPriming;
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbClientInitializer;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
+import com.atn.digital.user.domain.services.RegisterNewUsersService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.messaging.Message;
 
@@ -21,7 +32,10 @@ public class UserDomainConfig {
 
     @Bean
     public UserRepository userRepositoryAdapter(DynamoDbClientInitializer initializer) {
-        return new DynamoDbUserRepository(initializer.client());
+        UserRepository repository = UserRepositoryType.fromEnvironment().isInMemory()
+                ? InMemoryUserRepository.shared()
+                : new DynamoDbUserRepository(initializer.client());
+        return new CachingUserRepository(new TimedUserRepository(repository));
     }
 
     @Bean
@@ -29,20 +43,48 @@ public class UserDomainConfig {
         return new RegisterNewUserService(userRepository);
     }
 
+    @Bean
+    public RegisterNewUsersUseCase registerNewUsersUseCase(UserRepository userRepository) {
+        return new RegisterNewUsersService(userRepository);
+    }
+
     @Bean
     public FindUserByIdQuery findUserByIdQuery(UserRepository userRepository) {
         return new FindUserByIdService(userRepository);
     }
 
+    @Bean
+    public FindUsersByIdsQuery findUsersByIdsQuery(UserRepository userRepository) {
+        return new FindUsersByIdsService(userRepository);
+    }
+
     @Bean
     public Function<Message<APIGatewayProxyRequestEvent>, APIGatewayProxyResponseEvent> userRequestHandler(
-            RegisterNewUserUseCase registerNewUserUseCase, FindUserByIdQuery findUserByIdQuery) {
-        return new UserRequestHandler(registerNewUserUseCase, findUserByIdQuery);
+            RegisterNewUserUseCase registerNewUserUseCase,
+            RegisterNewUsersUseCase registerNewUsersUseCase,
+            FindUserByIdQuery findUserByIdQuery,
+            FindUsersByIdsQuery findUsersByIdsQuery) {
+        return new UserRequestHandler(registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery,
+                findUsersByIdsQuery);
     }
 
     @Bean
     public Function<Message<APIGatewayProxyRequestEvent>, APIGatewayProxyResponseEvent> userRequestHandlerWithPriming(
-            RegisterNewUserUseCase registerNewUserUseCase, FindUserByIdQuery findUserByIdQuery) {
-        return new UserRequestHandlerWithPriming(registerNewUserUseCase, findUserByIdQuery);
+            RegisterNewUserUseCase registerNewUserUseCase,
+            RegisterNewUsersUseCase registerNewUsersUseCase,
+            FindUserByIdQuery findUserByIdQuery,
+            FindUsersByIdsQuery findUsersByIdsQuery) {
+        return new UserRequestHandlerWithPriming(registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery,
+                findUsersByIdsQuery);
+    }
+
+    @Bean
+    public Function<Message<APIGatewayV2HTTPEvent>, APIGatewayV2HTTPResponse> userHttpApiRequestHandler(
+            RegisterNewUserUseCase registerNewUserUseCase,
+            RegisterNewUsersUseCase registerNewUsersUseCase,
+            FindUserByIdQuery findUserByIdQuery,
+            FindUsersByIdsQuery findUsersByIdsQuery) {
+        return new UserHttpApiRequestHandler(registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery,
+                findUsersByIdsQuery);
     }
 }
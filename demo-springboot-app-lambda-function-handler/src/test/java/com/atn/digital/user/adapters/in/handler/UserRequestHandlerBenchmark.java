@@ -0,0 +1,161 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.atn.digital.user.BenchmarkContext;
+import com.atn.digital.user.BenchmarkEvents;
+import com.atn.digital.user.UserApplication;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.adapter.aws.FunctionInvoker;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A warm invocation of the Spring Cloud Function target against the in-memory repository, at two depths: the
+ * {@code userRequestHandler} bean applied to the message Spring builds, and the {@link FunctionInvoker} Lambda
+ * calls, which reads the event out of the stream, looks the function up and writes its response back. Throughput
+ * gives the invocations per microsecond, sample time the percentiles of one invocation, and the GC profiler the bytes
+ * allocated by each.
+ * <p>
+ * The repository is emptied before each iteration so that registrations do not pile up. The invoker logs every event
+ * it receives at INFO; that line is turned off here, as it would flood the output, so the invoker benchmarks leave
+ * out the cost of writing it.
+ *
+ * <pre>
+ * ./run-handler-benchmarks.sh spring
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-DUSER_REPOSITORY=IN_MEMORY", "-DLOG_LEVEL=INFO",
+        "-DMAIN_CLASS=com.atn.digital.user.UserApplication",
+        "-Dorg.slf4j.simpleLogger.log.org.springframework.cloud.function.adapter.aws.AWSLambdaUtils=warn"})
+public class UserRequestHandlerBenchmark {
+
+    private static final String FUNCTION_DEFINITION = "userRequestHandler";
+    private static final String USERS_PATH = "/springboot-function-handler/users";
+    private static final Gson GSON = new Gson();
+    private static final Context CONTEXT = new BenchmarkContext();
+
+    @State(Scope.Benchmark)
+    public static class FunctionBean {
+
+        private ConfigurableApplicationContext applicationContext;
+        private Function<Message<APIGatewayProxyRequestEvent>, APIGatewayProxyResponseEvent> function;
+        private Message<APIGatewayProxyRequestEvent> registerUser;
+        private Message<APIGatewayProxyRequestEvent> findUser;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            applicationContext = new SpringApplicationBuilder(UserApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run();
+            function = applicationContext.getBean(FUNCTION_DEFINITION, Function.class);
+            registerUser = message(BenchmarkEvents.registerUser(USERS_PATH));
+        }
+
+        @Setup(Level.Iteration)
+        public void registerUserToFind() {
+            InMemoryUserRepository.shared().clear();
+            APIGatewayProxyResponseEvent response = function.apply(registerUser);
+            String userId = BenchmarkEvents.userId(created(response).getBody());
+            findUser = message(BenchmarkEvents.findUser(USERS_PATH, userId));
+        }
+
+        @TearDown
+        public void tearDown() {
+            applicationContext.close();
+        }
+
+        private static Message<APIGatewayProxyRequestEvent> message(String event) {
+            return MessageBuilder.withPayload(GSON.fromJson(event, APIGatewayProxyRequestEvent.class))
+                    .setHeader("aws-context", CONTEXT)
+                    .build();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Invoker {
+
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+        private FunctionInvoker invoker;
+        private byte[] registerUser;
+        private byte[] findUser;
+
+        @Setup
+        public void setUp() {
+            invoker = new FunctionInvoker(FUNCTION_DEFINITION);
+            registerUser = BenchmarkEvents.registerUser(USERS_PATH).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Setup(Level.Iteration)
+        public void registerUserToFind() throws IOException {
+            InMemoryUserRepository.shared().clear();
+            invoke(registerUser);
+            APIGatewayProxyResponseEvent response = GSON.fromJson(
+                    output.toString(StandardCharsets.UTF_8), APIGatewayProxyResponseEvent.class);
+            String userId = BenchmarkEvents.userId(created(response).getBody());
+            findUser = BenchmarkEvents.findUser(USERS_PATH, userId).getBytes(StandardCharsets.UTF_8);
+        }
+
+        private ByteArrayOutputStream invoke(byte[] event) throws IOException {
+            output.reset();
+            invoker.handleRequest(new ByteArrayInputStream(event), output, CONTEXT);
+            return output;
+        }
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent beanRegisterUser(FunctionBean state) {
+        return state.function.apply(state.registerUser);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent beanFindUser(FunctionBean state) {
+        return state.function.apply(state.findUser);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream invokerRegisterUser(Invoker state) throws IOException {
+        return state.invoke(state.registerUser);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream invokerFindUser(Invoker state) throws IOException {
+        return state.invoke(state.findUser);
+    }
+
+    private static APIGatewayProxyResponseEvent created(APIGatewayProxyResponseEvent response) {
+        if (response.getStatusCode() != 201) {
+            throw new IllegalStateException("Registration failed: " + response.getBody());
+        }
+        return response;
+    }
+}
@@ -8,8 +8,10 @@ import com.atn.digital.user.domain.exceptions.UserNotFoundException;
 import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +23,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -35,14 +38,20 @@ class UserRequestHandlerTest {
     @Mock
     private RegisterNewUserUseCase useCase;
 
+    @Mock
+    private RegisterNewUsersUseCase batchUseCase;
+
     @Mock
     private FindUserByIdQuery query;
 
+    @Mock
+    private FindUsersByIdsQuery batchQuery;
+
     private UserRequestHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new UserRequestHandler(useCase, query);
+        handler = new UserRequestHandler(useCase, batchUseCase, query, batchQuery);
     }
 
     private Message<APIGatewayProxyRequestEvent> wrapRequestEvent(final APIGatewayProxyRequestEvent requestEvent) {
@@ -131,6 +140,52 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchGet {
+        @Test
+        void shouldReturnHttpStatus200WithFoundUsers() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchGetRequestEvent("id1, id2,,id3"));
+
+            when(batchQuery.findByUserIds(anyList())).thenReturn(List.of(
+                    User.withId(new UserId("id1"), "firstName", "lastName", "first@unit.test"),
+                    User.withId(new UserId("id3"), "thirdName", "lastName", "third@unit.test")));
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(200, response.getStatusCode());
+            assertEquals(2, gson.fromJson(response.getBody(), UserDto[].class).length);
+            verify(batchQuery, times(1)).findByUserIds(
+                    argThat(userIds -> userIds.stream().map(UserId::getId).toList().equals(List.of("id1", "id2", "id3"))));
+            verify(query, times(0)).findByUserId(any(UserId.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenIdsAreBlank() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchGetRequestEvent(" , "));
+
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchQuery, times(0)).findByUserIds(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchGetRequestEvent("id1"));
+
+            when(batchQuery.findByUserIds(anyList())).thenThrow(new RuntimeException());
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchGetRequestEvent(String ids) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("GET");
+            requestEvent.setQueryStringParameters(Map.of("ids", ids));
+            return requestEvent;
+        }
+    }
+
     @Nested
     class Post {
         @Test
@@ -183,6 +238,55 @@ class UserRequestHandlerTest {
         }
     }
 
+    @Nested
+    class BatchPost {
+        @Test
+        void shouldReturnHttpStatus201WithOneIdPerUser() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName", "lastName", "lastName", "email", "second@unit.test"))));
+
+            when(batchUseCase.handle(anyList())).thenReturn(List.of(new UserId("id1"), new UserId("id2")));
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(201, response.getStatusCode());
+            assertEquals("[{\"id\":\"id1\"},{\"id\":\"id2\"}]", response.getBody());
+            verify(batchUseCase, times(1)).handle(anyList());
+            verify(useCase, times(0)).handle(any(RegisterNewUserCommand.class));
+        }
+
+        @Test
+        void shouldReturnHttpStatus400WhenOneUserIsInvalid() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"),
+                    Map.of("firstName", "secondName"))));
+
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(400, response.getStatusCode());
+            verify(batchUseCase, times(0)).handle(anyList());
+        }
+
+        @Test
+        void shouldReturnHttpStatus500WhenUnexpectedError() {
+            Message<APIGatewayProxyRequestEvent> message = wrapRequestEvent(batchRequestEvent(List.of(
+                    Map.of("firstName", "firstName", "lastName", "lastName", "email", "first@unit.test"))));
+
+            when(batchUseCase.handle(anyList())).thenThrow(new RuntimeException());
+            APIGatewayProxyResponseEvent response = handler.apply(message);
+
+            assertEquals(500, response.getStatusCode());
+        }
+
+        private APIGatewayProxyRequestEvent batchRequestEvent(List<Map<String, String>> body) {
+            APIGatewayProxyRequestEvent requestEvent = new APIGatewayProxyRequestEvent();
+            requestEvent.setHttpMethod("POST");
+            requestEvent.setPath("/springboot-function-handler/users/batch");
+            requestEvent.setBody(gson.toJson(body));
+            return requestEvent;
+        }
+    }
+
     @Nested
     class OtherMethods {
         @Test
@@ -0,0 +1,55 @@
+package com.atn.digital.user.adapters.in.web;
+
+import com.amazonaws.serverless.proxy.RequestReader;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.InvocationMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.Stage;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Times each Lambda invocation from the servlet request the container builds out of the event to the response it
+ * writes back, and writes its EMF line to the Lambda logger. Spring MVC binds and serializes the bodies, so only
+ * {@link Stage#HANDLER} and the {@link Stage#DYNAMODB} time added by
+ * {@link com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository} are filled in.
+ * <p>
+ * Requests without a Lambda context or without a request id, served by the embedded web server or sent while
+ * priming before a checkpoint, are not invocations and write nothing.
+ */
+public class EmbeddedMetricsFilter extends OncePerRequestFilter {
+
+    private final EmbeddedMetrics embeddedMetrics;
+
+    public EmbeddedMetricsFilter(EmbeddedMetrics embeddedMetrics) {
+        if (embeddedMetrics == null) {
+            throw new IllegalArgumentException("embeddedMetrics expected to be not null");
+        }
+        this.embeddedMetrics = embeddedMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!(request.getAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY) instanceof Context context)
+                || context.getAwsRequestId() == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        InvocationMetrics metrics = embeddedMetrics.begin();
+        long start = metrics.start();
+        int statusCode = 500;
+        try {
+            chain.doFilter(request, response);
+            statusCode = response.getStatus();
+        } finally {
+            metrics.stop(Stage.HANDLER, start);
+            embeddedMetrics.end(metrics, context.getAwsRequestId(), statusCode, context.getLogger()::log);
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.atn.digital.user.config;
 
 
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.TimedUserRepository;
+import com.atn.digital.user.adapters.in.web.EmbeddedMetricsFilter;
+import com.atn.digital.user.adapters.out.persistence.cache.CachingUserRepository;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbClientInitializer;
 import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import com.atn.digital.user.domain.services.FindUserByIdService;
+import com.atn.digital.user.domain.services.FindUsersByIdsService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
 import org.springframework.context.annotation.Bean;
 
@@ -14,7 +22,15 @@ public class UserDomainConfig {
 
     @Bean
     public UserRepository userRepositoryAdapter(DynamoDbClientInitializer initializer) {
-        return new DynamoDbUserRepository(initializer.client());
+        UserRepository repository = UserRepositoryType.fromEnvironment().isInMemory()
+                ? InMemoryUserRepository.shared()
+                : new DynamoDbUserRepository(initializer.client());
+        return new CachingUserRepository(new TimedUserRepository(repository));
+    }
+
+    @Bean
+    public EmbeddedMetricsFilter embeddedMetricsFilter() {
+        return new EmbeddedMetricsFilter(EmbeddedMetrics.fromEnvironment());
     }
 
     @Bean
@@ -26,4 +42,9 @@ public class UserDomainConfig {
     public FindUserByIdQuery findUserByIdQuery(UserRepository userRepository) {
         return new FindUserByIdService(userRepository);
     }
+
+    @Bean
+    public FindUsersByIdsQuery findUsersByIdsQuery(UserRepository userRepository) {
+        return new FindUsersByIdsService(userRepository);
+    }
 }
@@ -0,0 +1,93 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.atn.digital.user.BenchmarkContext;
+import com.atn.digital.user.BenchmarkEvents;
+import com.atn.digital.user.adapters.out.persistence.memory.InMemoryUserRepository;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A warm invocation of the serverless-java-container target against the in-memory repository, through the
+ * {@link StreamLambdaHandler} Lambda calls: the proxy event is read out of the stream, turned into a servlet
+ * request, dispatched by Spring MVC to the controllers, and the servlet response is written back as a proxy
+ * response. Throughput gives the invocations per microsecond, sample time the percentiles of one invocation, and the
+ * GC profiler the bytes allocated by each.
+ * <p>
+ * The repository is emptied before each iteration so that registrations do not pile up. The container writes an
+ * access log line for every request at INFO; that logger is turned off here, as it would flood the output, so the
+ * benchmarks leave out the cost of writing it.
+ *
+ * <pre>
+ * ./run-handler-benchmarks.sh serverless-java-container
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-DUSER_REPOSITORY=IN_MEMORY",
+        "-Dorg.slf4j.simpleLogger.log.com.amazonaws.serverless.proxy.internal.LambdaContainerHandler=warn"})
+public class StreamLambdaHandlerBenchmark {
+
+    private static final String USERS_PATH = "/serverless-java-container/users";
+
+    private final Gson gson = new Gson();
+    private final Context context = new BenchmarkContext();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+    private StreamLambdaHandler handler;
+    private byte[] registerUser;
+    private byte[] findUser;
+
+    @Setup
+    public void setUp() {
+        handler = new StreamLambdaHandler();
+        registerUser = BenchmarkEvents.registerUser(USERS_PATH).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void registerUserToFind() throws IOException {
+        InMemoryUserRepository.shared().clear();
+        AwsProxyResponse response = gson.fromJson(
+                invoke(registerUser).toString(StandardCharsets.UTF_8), AwsProxyResponse.class);
+        if (response.getStatusCode() != 201) {
+            throw new IllegalStateException("Registration failed: " + response.getBody());
+        }
+        String userId = BenchmarkEvents.userId(response.getBody());
+        findUser = BenchmarkEvents.findUser(USERS_PATH, userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream registerUser() throws IOException {
+        return invoke(registerUser);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream findUser() throws IOException {
+        return invoke(findUser);
+    }
+
+    private ByteArrayOutputStream invoke(byte[] event) throws IOException {
+        output.reset();
+        handler.handleRequest(new ByteArrayInputStream(event), output, context);
+        return output;
+    }
+}
@@ -0,0 +1,76 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.serverless.proxy.internal.testutils.AwsProxyRequestBuilder;
+import com.amazonaws.serverless.proxy.internal.testutils.MockLambdaContext;
+import com.amazonaws.serverless.proxy.model.AwsProxyResponse;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.atn.digital.user.adapters.in.web.UserDto;
+import com.atn.digital.user.adapters.in.web.UserIdDto;
+import com.atn.digital.user.adapters.out.persistence.memory.UserRepositoryType;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamLambdaHandlerHttpApiTest {
+
+    private static final String USERS_PATH = "/serverless-java-container/users";
+
+    private final Gson gson = new Gson();
+    private final Context context = new MockLambdaContext();
+
+    @BeforeAll
+    static void useInMemoryRepository() {
+        System.setProperty(UserRepositoryType.PROPERTY_NAME, UserRepositoryType.IN_MEMORY.name());
+    }
+
+    @AfterAll
+    static void clearRepositoryType() {
+        System.clearProperty(UserRepositoryType.PROPERTY_NAME);
+    }
+
+    @Test
+    void shouldRegisterThenFindUserFromHttpApiEvents() throws IOException {
+        StreamLambdaHandlerHttpApi handler = new StreamLambdaHandlerHttpApi();
+
+        AwsProxyResponse created = invoke(handler, new AwsProxyRequestBuilder(USERS_PATH, "POST")
+                .json()
+                .body("{\"firstName\":\"Homer\",\"lastName\":\"Simpson\",\"email\":\"homer.simpson@unit.test\"}")
+                .toHttpApiV2RequestStream());
+        assertEquals(201, created.getStatusCode());
+        UserIdDto userId = gson.fromJson(created.getBody(), UserIdDto.class);
+
+        AwsProxyResponse found = invoke(handler, new AwsProxyRequestBuilder(USERS_PATH + "/" + userId.id(), "GET")
+                .json()
+                .toHttpApiV2RequestStream());
+        assertEquals(200, found.getStatusCode());
+        UserDto user = gson.fromJson(found.getBody(), UserDto.class);
+        assertEquals(userId.id(), user.id());
+        assertEquals("Homer", user.firstName());
+        assertEquals("homer.simpson@unit.test", user.email());
+    }
+
+    @Test
+    void shouldReturnBadRequestForBlankUserId() throws IOException {
+        StreamLambdaHandlerHttpApi handler = new StreamLambdaHandlerHttpApi();
+
+        AwsProxyResponse response = invoke(handler, new AwsProxyRequestBuilder(USERS_PATH + "/%20", "GET")
+                .json()
+                .toHttpApiV2RequestStream());
+
+        assertEquals(400, response.getStatusCode());
+    }
+
+    private AwsProxyResponse invoke(StreamLambdaHandlerHttpApi handler, InputStream event) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        handler.handleRequest(event, output, context);
+        return gson.fromJson(output.toString(StandardCharsets.UTF_8), AwsProxyResponse.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.atn.digital.user.adapters.in.web;
+
+import com.amazonaws.serverless.proxy.RequestReader;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.InvocationMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedMetricsFilterTest {
+
+    private final EmbeddedMetricsFilter filter =
+            new EmbeddedMetricsFilter(new EmbeddedMetrics(true, "UserService", "user-function"));
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    void shouldWriteOneEmbeddedMetricLinePerInvocation() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/serverless-java-container/users/id1");
+        request.setAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY, new TestContext("request-1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(lines).singleElement().asString()
+                .contains("\"FunctionName\":\"user-function\"", "\"HandlerTime\":")
+                .endsWith("\"requestId\":\"request-1\",\"statusCode\":404}");
+        assertThat(InvocationMetrics.current()).isSameAs(InvocationMetrics.DISABLED);
+    }
+
+    @Test
+    void shouldWriteNothingOutsideLambdaInvocations() throws ServletException, IOException {
+        MockHttpServletRequest served = new MockHttpServletRequest("GET", "/serverless-java-container/users/id1");
+        MockHttpServletRequest primed = new MockHttpServletRequest("GET", "/serverless-java-container/users/id1");
+        primed.setAttribute(RequestReader.LAMBDA_CONTEXT_PROPERTY, new TestContext(null));
+
+        filter.doFilter(served, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(primed, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(lines).isEmpty();
+    }
+
+    private class TestContext implements Context {
+
+        private final String awsRequestId;
+
+        TestContext(String awsRequestId) {
+            this.awsRequestId = awsRequestId;
+        }
+
+        public String getAwsRequestId() { return awsRequestId; }
+
+        public String getLogGroupName() { return null; }
+
+        public String getLogStreamName() { return null; }
+
+        public String getFunctionName() { return "user-function"; }
+
+        public String getFunctionVersion() { return null; }
+
+        public String getInvokedFunctionArn() { return null; }
+
+        public com.amazonaws.services.lambda.runtime.CognitoIdentity getIdentity() { return null; }
+
+        public com.amazonaws.services.lambda.runtime.ClientContext getClientContext() { return null; }
+
+        public int getRemainingTimeInMillis() { return 0; }
+
+        public int getMemoryLimitInMB() { return 0; }
+
+        public LambdaLogger getLogger() {
+            return new LambdaLogger() {
+                public void log(String message) { lines.add(message); }
+
+                public void log(byte[] message) { lines.add(new String(message)); }
+            };
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.atn.digital.user.adapters.in.web;
+
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class FindUsersByIdsController {
+
+    /**
+     * Same bound as the batch routes of the Lambda handlers: a longer list would fan out into that many more
+     * BatchGetItem calls on the shared pool.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final FindUsersByIdsQuery query;
+
+    @GetMapping("/api/v1/users")
+    public ResponseEntity<List<UserDto>> findByUserIds(@RequestParam("ids") List<String> ids) {
+        List<UserId> userIds = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            if (!id.isBlank()) {
+                userIds.add(new UserId(id.trim()));
+            }
+        }
+        if (userIds.isEmpty()) {
+            throw new ConstraintViolationException("Missing parameter ids");
+        }
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            throw new ConstraintViolationException("Expected at most " + MAX_BATCH_SIZE + " user ids to find, got "
+                    + userIds.size());
+        }
+        List<UserDto> userDtos = new ArrayList<>(userIds.size());
+        for (User user : query.findByUserIds(userIds)) {
+            userDtos.add(new UserDto(
+                    user.getId().get().getId(),
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail()
+            ));
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(userDtos);
+    }
+}
@@ -0,0 +1,70 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Maps the payload format 2.0 events of HTTP APIs and Lambda Function URLs to {@link UserHttpRequest}.
+ * The method comes from the request context, or from the route key when there is none. HTTP APIs route
+ * {@code /users/{userId}} themselves; Function URLs always use the {@code $default} route, so the user id is then
+ * taken from the last segment of the raw path.
+ */
+public final class HttpApiEvents {
+
+    private static final String USER_ID_PARAMETER = "userId";
+    private static final String IDS_PARAMETER = "ids";
+    private static final String USERS_SEGMENT = "/users/";
+    private static final String BATCH_SEGMENT = "batch";
+
+    private HttpApiEvents() {}
+
+    public static UserHttpRequest toRequest(APIGatewayV2HTTPEvent event) {
+        String body = event.getBody();
+        if (event.getIsBase64Encoded() && body != null) {
+            body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+        }
+        return new UserHttpRequest(method(event), event.getRawPath(), userId(event), ids(event), body);
+    }
+
+    public static APIGatewayV2HTTPResponse toResponse(UserHttpResponse response) {
+        return APIGatewayV2HTTPResponse.builder()
+                .withStatusCode(response.statusCode())
+                .withBody(response.body())
+                .build();
+    }
+
+    private static String method(APIGatewayV2HTTPEvent event) {
+        if (event.getRequestContext() != null && event.getRequestContext().getHttp() != null) {
+            return event.getRequestContext().getHttp().getMethod();
+        }
+        String routeKey = event.getRouteKey();
+        int space = routeKey == null ? -1 : routeKey.indexOf(' ');
+        return space < 0 ? null : routeKey.substring(0, space);
+    }
+
+    private static String userId(APIGatewayV2HTTPEvent event) {
+        Map<String, String> pathParameters = event.getPathParameters();
+        if (pathParameters != null && pathParameters.get(USER_ID_PARAMETER) != null) {
+            return pathParameters.get(USER_ID_PARAMETER);
+        }
+        String rawPath = event.getRawPath();
+        if (rawPath == null) {
+            return null;
+        }
+        int segment = rawPath.lastIndexOf(USERS_SEGMENT);
+        if (segment < 0) {
+            return null;
+        }
+        String userId = rawPath.substring(segment + USERS_SEGMENT.length());
+        return userId.isEmpty() || userId.indexOf('/') >= 0 || userId.equals(BATCH_SEGMENT) ? null : userId;
+    }
+
+    private static String ids(APIGatewayV2HTTPEvent event) {
+        Map<String, String> queryStringParameters = event.getQueryStringParameters();
+        return queryStringParameters == null ? null : queryStringParameters.get(IDS_PARAMETER);
+    }
+}
@@ -0,0 +1,41 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Maps the proxy events of API Gateway REST APIs to {@link UserHttpRequest}, and back.
+ */
+public final class RestApiEvents {
+
+    private static final String USER_ID_PARAMETER = "userId";
+    private static final String IDS_PARAMETER = "ids";
+
+    private RestApiEvents() {}
+
+    public static UserHttpRequest toRequest(APIGatewayProxyRequestEvent event) {
+        String body = event.getBody();
+        if (Boolean.TRUE.equals(event.getIsBase64Encoded()) && body != null) {
+            body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+        }
+        return new UserHttpRequest(event.getHttpMethod(), event.getPath(),
+                get(event.getPathParameters(), USER_ID_PARAMETER),
+                get(event.getQueryStringParameters(), IDS_PARAMETER),
+                body);
+    }
+
+    public static APIGatewayProxyResponseEvent toResponse(UserHttpResponse response) {
+        APIGatewayProxyResponseEvent event = new APIGatewayProxyResponseEvent();
+        event.setStatusCode(response.statusCode());
+        event.setBody(response.body());
+        return event;
+    }
+
+    private static String get(Map<String, String> parameters, String name) {
+        return parameters == null ? null : parameters.get(name);
+    }
+}
@@ -0,0 +1,7 @@
+package com.atn.digital.user.adapters.in.handler;
+
+/**
+ * What the user routes need from an HTTP request, whatever event carried it; any field may be null.
+ * The body is already decoded when the event flagged it as base64.
+ */
+public record UserHttpRequest(String httpMethod, String path, String userId, String ids, String body) { }
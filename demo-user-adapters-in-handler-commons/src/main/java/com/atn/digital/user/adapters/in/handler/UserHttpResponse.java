@@ -0,0 +1,3 @@
+package com.atn.digital.user.adapters.in.handler;
+
+public record UserHttpResponse(int statusCode, String body) { }
@@ -0,0 +1,264 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.atn.digital.user.adapters.in.handler.json.UserJsonCodec;
+import com.atn.digital.user.adapters.in.handler.logging.RequestLogger;
+import com.atn.digital.user.adapters.in.handler.logging.StructuredLogging;
+import com.atn.digital.user.adapters.in.handler.metrics.EmbeddedMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.InvocationMetrics;
+import com.atn.digital.user.adapters.in.handler.metrics.Stage;
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The user routes and their responses, shared by every handler: GET by id or by at most {@value #MAX_BATCH_SIZE}
+ * ids, POST of one user, POST of a batch of at most {@value #MAX_BATCH_SIZE} users on {@code /users/batch}.
+ * Each request logs one INFO line with its outcome and duration; the request itself is only logged at DEBUG,
+ * and the body never is, only its length. The time spent in each {@link Stage} is written as one EMF line.
+ */
+public class UserRequestRouter {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final String BATCH_PATH_SUFFIX = "/users/batch";
+    private final RegisterNewUserUseCase registerNewUserUseCase;
+    private final RegisterNewUsersUseCase registerNewUsersUseCase;
+    private final FindUserByIdQuery findUserByIdQuery;
+    private final FindUsersByIdsQuery findUsersByIdsQuery;
+    private final StructuredLogging logging;
+    private final EmbeddedMetrics metrics;
+
+    public UserRequestRouter(RegisterNewUserUseCase registerNewUserUseCase,
+                             RegisterNewUsersUseCase registerNewUsersUseCase,
+                             FindUserByIdQuery findUserByIdQuery,
+                             FindUsersByIdsQuery findUsersByIdsQuery) {
+        this(registerNewUserUseCase, registerNewUsersUseCase, findUserByIdQuery, findUsersByIdsQuery,
+                StructuredLogging.fromEnvironment(), EmbeddedMetrics.fromEnvironment());
+    }
+
+    public UserRequestRouter(RegisterNewUserUseCase registerNewUserUseCase,
+                             RegisterNewUsersUseCase registerNewUsersUseCase,
+                             FindUserByIdQuery findUserByIdQuery,
+                             FindUsersByIdsQuery findUsersByIdsQuery,
+                             StructuredLogging logging,
+                             EmbeddedMetrics metrics) {
+        this.logging = logging;
+        this.metrics = metrics;
+        this.registerNewUserUseCase = registerNewUserUseCase;
+        this.registerNewUsersUseCase = registerNewUsersUseCase;
+        this.findUserByIdQuery = findUserByIdQuery;
+        this.findUsersByIdsQuery = findUsersByIdsQuery;
+    }
+
+    /**
+     * Handles one invocation: reads the request out of the event, routes it and writes the response. Its log lines
+     * go to the sink in a single call, then its EMF line in another, even when reading or routing throws.
+     */
+    public <E, R> R handle(E event, Function<E, UserHttpRequest> reader, Function<UserHttpResponse, R> writer,
+                           String requestId, Consumer<String> sink) {
+        InvocationMetrics invocationMetrics = metrics.begin();
+        RequestLogger logger = logging.start(requestId, sink);
+        int statusCode = 500;
+        try {
+            long start = invocationMetrics.start();
+            UserHttpRequest request = reader.apply(event);
+            invocationMetrics.stop(Stage.PARSE, start);
+            UserHttpResponse response = route(request, logger, invocationMetrics);
+            statusCode = response.statusCode();
+            long time = invocationMetrics.start();
+            R result = writer.apply(response);
+            invocationMetrics.stop(Stage.SERIALIZATION, time);
+            invocationMetrics.stop(Stage.HANDLER, start);
+            return result;
+        } finally {
+            logger.flush();
+            metrics.end(invocationMetrics, requestId, statusCode, sink);
+        }
+    }
+
+    public UserHttpResponse route(UserHttpRequest request, RequestLogger logger) {
+        return route(request, logger, InvocationMetrics.DISABLED);
+    }
+
+    private UserHttpResponse route(UserHttpRequest request, RequestLogger logger, InvocationMetrics metrics) {
+        long start = System.nanoTime();
+        String method = request.httpMethod() == null ? "" : request.httpMethod().toUpperCase();
+        logger.atDebug("request received")
+                .with("httpMethod", method)
+                .with("path", request.path())
+                .with("bodyLength", request.body() == null ? 0 : request.body().length())
+                .log();
+
+        UserHttpResponse response = switch (method) {
+            case "GET" -> handleGet(request, logger, metrics);
+            case "POST" -> isBatchPath(request.path())
+                    ? handleBatchPost(request, logger, metrics)
+                    : handlePost(request, logger, metrics);
+            default -> new UserHttpResponse(405, null);
+        };
+
+        logger.atInfo("request handled")
+                .with("httpMethod", method)
+                .with("path", request.path())
+                .with("statusCode", response.statusCode())
+                .with("durationMicros", (System.nanoTime() - start) / 1_000)
+                .log();
+        return response;
+    }
+
+    private UserHttpResponse handlePost(UserHttpRequest request, RequestLogger logger,
+                                        InvocationMetrics metrics) {
+        try {
+            long time = metrics.start();
+            RegisterNewUserData userData = UserJsonCodec.readRegisterNewUserData(request.body());
+            time = metrics.stop(Stage.PARSE, time);
+            RegisterNewUserCommand newUserCommand = new RegisterNewUserCommand(
+                    userData.firstName(),
+                    userData.lastName(),
+                    userData.email());
+            time = metrics.stop(Stage.VALIDATION, time);
+            UserId userId = registerNewUserUseCase.handle(newUserCommand);
+            time = metrics.stop(Stage.SERVICE, time);
+            String body = UserJsonCodec.writeUserId(userId);
+            metrics.stop(Stage.SERIALIZATION, time);
+            return new UserHttpResponse(201, body);
+        } catch (ConstraintViolationException e) {
+            return errorResponse(logger, e.getMessage(), 400);
+        } catch (Exception e) {
+            return errorResponse(logger, e.getMessage(), 500);
+        }
+    }
+
+    private UserHttpResponse handleBatchPost(UserHttpRequest request, RequestLogger logger,
+                                             InvocationMetrics metrics) {
+        try {
+            long time = metrics.start();
+            RegisterNewUserData[] usersData = UserJsonCodec.readRegisterNewUserDataArray(request.body());
+            time = metrics.stop(Stage.PARSE, time);
+            if (usersData == null) {
+                return errorResponse(logger, "Missing users to register", 400);
+            }
+            if (usersData.length > MAX_BATCH_SIZE) {
+                return errorResponse(logger, "Expected at most " + MAX_BATCH_SIZE + " users to register, got "
+                        + usersData.length, 400);
+            }
+            List<RegisterNewUserCommand> newUserCommands = new ArrayList<>(usersData.length);
+            for (RegisterNewUserData userData : usersData) {
+                if (userData == null) {
+                    return errorResponse(logger, "Expected every user to register to be an object", 400);
+                }
+                newUserCommands.add(new RegisterNewUserCommand(
+                        userData.firstName(),
+                        userData.lastName(),
+                        userData.email()));
+            }
+            time = metrics.stop(Stage.VALIDATION, time);
+            List<UserId> userIds = registerNewUsersUseCase.handle(newUserCommands);
+            time = metrics.stop(Stage.SERVICE, time);
+            String body = UserJsonCodec.writeUserIds(userIds);
+            metrics.stop(Stage.SERIALIZATION, time);
+            return new UserHttpResponse(201, body);
+        } catch (ConstraintViolationException e) {
+            return errorResponse(logger, e.getMessage(), 400);
+        } catch (Exception e) {
+            return errorResponse(logger, e.getMessage(), 500);
+        }
+    }
+
+    private UserHttpResponse handleGet(UserHttpRequest request, RequestLogger logger,
+                                       InvocationMetrics metrics) {
+
+        if (request.userId() == null) {
+            if (request.ids() != null) {
+                return handleBatchGet(request, logger, metrics);
+            }
+            return errorResponse(logger, "Missing parameter userId", 400);
+        }
+
+        try {
+            String userId = request.userId();
+            long time = metrics.start();
+            UserId id = new UserId(userId);
+            time = metrics.stop(Stage.VALIDATION, time);
+            User user = findUserByIdQuery.findByUserId(id);
+            time = metrics.stop(Stage.SERVICE, time);
+            UserDto userDto = new UserDto(
+                    userId,
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail()
+            );
+            String body = UserJsonCodec.writeUserDto(userDto);
+            metrics.stop(Stage.SERIALIZATION, time);
+            return new UserHttpResponse(200, body);
+        } catch (ConstraintViolationException e) {
+            return errorResponse(logger, e.getMessage(), 400);
+        } catch (UserNotFoundException e) {
+            return errorResponse(logger, e.getMessage(), 404);
+        } catch (Exception e) {
+            return errorResponse(logger, e.getMessage(), 500);
+        }
+    }
+
+    private UserHttpResponse handleBatchGet(UserHttpRequest request, RequestLogger logger,
+                                            InvocationMetrics metrics) {
+        try {
+            long time = metrics.start();
+            List<UserId> userIds = new ArrayList<>();
+            for (String id : request.ids().split(",")) {
+                if (!id.isBlank()) {
+                    userIds.add(new UserId(id.trim()));
+                }
+            }
+            if (userIds.isEmpty()) {
+                return errorResponse(logger, "Missing parameter ids", 400);
+            }
+            if (userIds.size() > MAX_BATCH_SIZE) {
+                return errorResponse(logger, "Expected at most " + MAX_BATCH_SIZE + " user ids to find, got "
+                        + userIds.size(), 400);
+            }
+            time = metrics.stop(Stage.VALIDATION, time);
+            List<User> users = findUsersByIdsQuery.findByUserIds(userIds);
+            time = metrics.stop(Stage.SERVICE, time);
+            List<UserDto> userDtos = new ArrayList<>(users.size());
+            for (User user : users) {
+                userDtos.add(new UserDto(
+                        user.getId().get().getId(),
+                        user.getFirstName(),
+                        user.getLastName(),
+                        user.getEmail()
+                ));
+            }
+            String body = UserJsonCodec.writeUserDtos(userDtos);
+            metrics.stop(Stage.SERIALIZATION, time);
+            return new UserHttpResponse(200, body);
+        } catch (ConstraintViolationException e) {
+            return errorResponse(logger, e.getMessage(), 400);
+        } catch (Exception e) {
+            return errorResponse(logger, e.getMessage(), 500);
+        }
+    }
+
+    private boolean isBatchPath(String path) {
+        return path != null && path.endsWith(BATCH_PATH_SUFFIX);
+    }
+
+    private UserHttpResponse errorResponse(RequestLogger logger, String errorMessage, int statusCode) {
+        (statusCode >= 500 ? logger.atError("request failed") : logger.atWarn("request rejected"))
+                .with("statusCode", statusCode)
+                .with("error", errorMessage)
+                .log();
+        return new UserHttpResponse(statusCode, errorMessage);
+    }
+}
@@ -0,0 +1,90 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+import com.atn.digital.user.adapters.in.handler.UserHttpRequest;
+import com.atn.digital.user.adapters.in.handler.UserHttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Reads the few fields the user handlers need out of a raw API Gateway REST (proxy) event, and writes the proxy
+ * response, without going through the aws-lambda-java-events classes.
+ * Headers, multi value headers, the request context and everything else in the event are skipped, not mapped.
+ */
+public final class ApiGatewayProxyCodec {
+
+    private static final String[] EVENT_NAMES =
+            {"httpMethod", "path", "pathParameters", "queryStringParameters", "body", "isBase64Encoded"};
+    private static final int HTTP_METHOD = 0;
+    private static final int PATH = 1;
+    private static final int PATH_PARAMETERS = 2;
+    private static final int QUERY_STRING_PARAMETERS = 3;
+    private static final int BODY = 4;
+    private static final int IS_BASE64_ENCODED = 5;
+
+    private static final String[] USER_ID_NAMES = {"userId"};
+    private static final String[] IDS_NAMES = {"ids"};
+
+    private ApiGatewayProxyCodec() {}
+
+    public static UserHttpRequest readRequest(String json) {
+        JsonReader reader = new JsonReader(json);
+        String httpMethod = null;
+        String path = null;
+        String userId = null;
+        String ids = null;
+        String body = null;
+        boolean base64Encoded = false;
+        if (reader.beginObject()) {
+            do {
+                switch (reader.nextName(EVENT_NAMES)) {
+                    case HTTP_METHOD -> httpMethod = reader.nextString();
+                    case PATH -> path = reader.nextString();
+                    case PATH_PARAMETERS -> userId = readMember(reader, USER_ID_NAMES);
+                    case QUERY_STRING_PARAMETERS -> ids = readMember(reader, IDS_NAMES);
+                    case BODY -> body = reader.nextString();
+                    case IS_BASE64_ENCODED -> base64Encoded = "true".equals(reader.nextString());
+                    default -> reader.skipValue();
+                }
+            } while (reader.nextMember());
+        }
+        reader.endDocument();
+        if (base64Encoded && body != null) {
+            body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+        }
+        return new UserHttpRequest(httpMethod, path, userId, ids, body);
+    }
+
+    /**
+     * The proxy response API Gateway expects; a null body is left out.
+     */
+    public static String writeResponse(UserHttpResponse response) {
+        String body = response.body();
+        return new JsonWriter(body == null ? 24 : body.length() + 48)
+                .beginObject()
+                .member("statusCode", response.statusCode())
+                .member("body", body)
+                .endObject()
+                .toString();
+    }
+
+    /**
+     * Reads the one member of interest out of a string map that may be null, skipping the others.
+     */
+    private static String readMember(JsonReader reader, String[] names) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        String value = null;
+        if (reader.beginObject()) {
+            do {
+                if (reader.nextName(names) == 0) {
+                    value = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            } while (reader.nextMember());
+        }
+        return value;
+    }
+}
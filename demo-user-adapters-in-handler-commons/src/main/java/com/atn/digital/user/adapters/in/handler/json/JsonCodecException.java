@@ -0,0 +1,7 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+public class JsonCodecException extends IllegalArgumentException {
+    public JsonCodecException(String message) {
+        super(message);
+    }
+}
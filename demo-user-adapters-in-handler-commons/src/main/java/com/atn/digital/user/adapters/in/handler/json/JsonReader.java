@@ -0,0 +1,297 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+/**
+ * Pull parser over a JSON document held in a string. Member names are matched in place against the names the
+ * caller knows, and string values are cut out of the document with a single {@code substring} unless they
+ * contain escapes, so reading a request allocates little more than the values it keeps.
+ */
+final class JsonReader {
+
+    static final int UNKNOWN_NAME = -1;
+    private static final String[] NO_NAMES = {};
+
+    private final String json;
+    private int position;
+
+    JsonReader(String json) {
+        this.json = json;
+    }
+
+    boolean isEmpty() {
+        skipWhitespace();
+        return position == json.length();
+    }
+
+    boolean nextNull() {
+        skipWhitespace();
+        if (json.startsWith("null", position)) {
+            position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes {@code [} and tells whether the array has elements, consuming {@code ]} when it has none.
+     */
+    boolean beginArray() {
+        expect('[');
+        return !consumeIf(']');
+    }
+
+    /**
+     * Consumes the separator after an element and tells whether another one follows.
+     */
+    boolean nextElement() {
+        return separator(']');
+    }
+
+    /**
+     * Consumes <code>{</code> and tells whether the object has members, consuming <code>}</code> when it has none.
+     */
+    boolean beginObject() {
+        expect('{');
+        return !consumeIf('}');
+    }
+
+    /**
+     * Consumes the separator after a member and tells whether another one follows.
+     */
+    boolean nextMember() {
+        return separator('}');
+    }
+
+    /**
+     * Reads a member name and its colon, and returns the index of that name in {@code names},
+     * or {@link #UNKNOWN_NAME}.
+     */
+    int nextName(String[] names) {
+        expect('"');
+        int start = position;
+        int end = json.indexOf('"', start);
+        if (end < 0) {
+            throw error("Unterminated name");
+        }
+        int match = UNKNOWN_NAME;
+        if (!containsEscape(start, end)) {
+            for (int i = 0; i < names.length && match == UNKNOWN_NAME; i++) {
+                if (names[i].length() == end - start && json.startsWith(names[i], start)) {
+                    match = i;
+                }
+            }
+            position = end + 1;
+        } else {
+            position = start - 1;
+            String name = nextString();
+            for (int i = 0; i < names.length && match == UNKNOWN_NAME; i++) {
+                if (names[i].equals(name)) {
+                    match = i;
+                }
+            }
+        }
+        expect(':');
+        return match;
+    }
+
+    /**
+     * Reads a string, or the text of a number or boolean as Gson does for string fields; {@code null} reads as null.
+     */
+    String nextString() {
+        skipWhitespace();
+        if (nextNull()) {
+            return null;
+        }
+        char c = peek();
+        if (c != '"') {
+            if (c == '-' || (c >= '0' && c <= '9') || c == 't' || c == 'f') {
+                int start = position;
+                skipLiteral();
+                return json.substring(start, position);
+            }
+            throw error("Expected a string");
+        }
+        int start = ++position;
+        for (int i = start; i < json.length(); i++) {
+            char current = json.charAt(i);
+            if (current == '"') {
+                position = i + 1;
+                return json.substring(start, i);
+            }
+            if (current == '\\') {
+                return unescape(start, i);
+            }
+            if (current < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    void skipValue() {
+        skipWhitespace();
+        char c = peek();
+        switch (c) {
+            case '{' -> {
+                if (beginObject()) {
+                    do {
+                        nextName(NO_NAMES);
+                        skipValue();
+                    } while (nextMember());
+                }
+            }
+            case '[' -> {
+                if (beginArray()) {
+                    do {
+                        skipValue();
+                    } while (nextElement());
+                }
+            }
+            case '"' -> skipString();
+            default -> {
+                if (!nextNull()) {
+                    skipLiteral();
+                }
+            }
+        }
+    }
+
+    void endDocument() {
+        if (!isEmpty()) {
+            throw error("Unexpected content after the document");
+        }
+    }
+
+    private void skipString() {
+        for (int i = position + 1; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                position = i + 1;
+                return;
+            }
+            if (c == '\\') {
+                i++;
+            } else if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private boolean containsEscape(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (json.charAt(i) == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String unescape(int start, int firstEscape) {
+        StringBuilder builder = new StringBuilder(firstEscape - start + 16);
+        builder.append(json, start, firstEscape);
+        int i = firstEscape;
+        while (i < json.length()) {
+            char c = json.charAt(i++);
+            if (c == '"') {
+                position = i;
+                return builder.toString();
+            }
+            if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (i >= json.length()) {
+                break;
+            }
+            char escaped = json.charAt(i++);
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append(escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (i + 4 > json.length()) {
+                        throw error("Truncated unicode escape");
+                    }
+                    int value = 0;
+                    for (int end = i + 4; i < end; i++) {
+                        int digit = Character.digit(json.charAt(i), 16);
+                        if (digit < 0) {
+                            throw error("Invalid unicode escape");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    builder.append((char) value);
+                }
+                default -> throw error("Invalid escape sequence");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private void skipLiteral() {
+        int start = position;
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c == '"' || isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+        if (position == start) {
+            throw error("Expected a value");
+        }
+    }
+
+    private boolean separator(char close) {
+        skipWhitespace();
+        if (consumeIf(',')) {
+            return true;
+        }
+        if (consumeIf(close)) {
+            return false;
+        }
+        throw error("Expected ',' or '" + close + "'");
+    }
+
+    private boolean consumeIf(char expected) {
+        skipWhitespace();
+        if (position < json.length() && json.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consumeIf(expected)) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("Unexpected end of document");
+        }
+        return json.charAt(position);
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private JsonCodecException error(String message) {
+        return new JsonCodecException(message + " at position " + position);
+    }
+}
@@ -0,0 +1,162 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+/**
+ * Appends JSON to a {@link StringBuilder} with the same escaping as a default {@code Gson}, HTML-safe characters
+ * included, so responses stay byte for byte what the handlers returned before.
+ */
+public final class JsonWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder builder;
+    private boolean needsComma;
+
+    public JsonWriter(int capacity) {
+        builder = new StringBuilder(capacity);
+    }
+
+    public JsonWriter beginObject() {
+        comma();
+        builder.append('{');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        builder.append('}');
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        comma();
+        builder.append("null");
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        comma();
+        builder.append('[');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        builder.append(']');
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Writes the name of a member whose value follows, such as an object or an array.
+     */
+    public JsonWriter name(String name) {
+        comma();
+        builder.append('"').append(name).append("\":");
+        needsComma = false;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        comma();
+        string(value);
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Appends members already written as JSON, such as a constant part of a document serialized once.
+     */
+    public JsonWriter rawMembers(String members) {
+        comma();
+        builder.append(members);
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Writes a string member; null values are left out, as {@code Gson} does by default.
+     */
+    public JsonWriter member(String name, String value) {
+        if (value == null) {
+            return this;
+        }
+        comma();
+        builder.append('"').append(name).append("\":");
+        string(value);
+        needsComma = true;
+        return this;
+    }
+
+    public JsonWriter member(String name, long value) {
+        comma();
+        builder.append('"').append(name).append("\":").append(value);
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * Ends the current line, so that the next value starts a new JSON document (JSON lines).
+     */
+    public JsonWriter newLine() {
+        builder.append('\n');
+        needsComma = false;
+        return this;
+    }
+
+    public int length() {
+        return builder.length();
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+
+    private void comma() {
+        if (needsComma) {
+            builder.append(',');
+        }
+    }
+
+    private void string(String value) {
+        builder.append('"');
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = replacement(c);
+            if (replacement == null && c >= 0x20 && !isHtmlSensitive(c) && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            builder.append(value, last, i);
+            if (replacement != null) {
+                builder.append(replacement);
+            } else {
+                builder.append("\\u").append(HEX_DIGITS[(c >> 12) & 0xF]).append(HEX_DIGITS[(c >> 8) & 0xF])
+                        .append(HEX_DIGITS[(c >> 4) & 0xF]).append(HEX_DIGITS[c & 0xF]);
+            }
+            last = i + 1;
+        }
+        builder.append(value, last, length);
+        builder.append('"');
+    }
+
+    private static String replacement(char c) {
+        return switch (c) {
+            case '"' -> "\\\"";
+            case '\\' -> "\\\\";
+            case '\t' -> "\\t";
+            case '\b' -> "\\b";
+            case '\n' -> "\\n";
+            case '\r' -> "\\r";
+            case '\f' -> "\\f";
+            default -> null;
+        };
+    }
+
+    private static boolean isHtmlSensitive(char c) {
+        return c == '<' || c == '>' || c == '&' || c == '=' || c == '\'';
+    }
+}
@@ -0,0 +1,120 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+import com.atn.digital.user.adapters.in.handler.RegisterNewUserData;
+import com.atn.digital.user.adapters.in.handler.UserDto;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written JSON mapping of the handler payloads, in place of {@code Gson} and its reflective type adapters,
+ * which were built on the first request and so landed in the cold start.
+ * Reading accepts what the handlers accepted through {@code Gson}: unknown members are skipped, a null or blank
+ * body reads as null, and numbers or booleans given for a string field read as their text.
+ * Writing produces the exact same bytes {@code Gson} did, null members left out.
+ */
+public final class UserJsonCodec {
+
+    private static final String[] REGISTER_NEW_USER_NAMES = {"firstName", "lastName", "email"};
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int EMAIL = 2;
+
+    private UserJsonCodec() {}
+
+    public static RegisterNewUserData readRegisterNewUserData(String json) {
+        JsonReader reader = reader(json);
+        if (reader == null) {
+            return null;
+        }
+        RegisterNewUserData data = readRegisterNewUserData(reader);
+        reader.endDocument();
+        return data;
+    }
+
+    public static RegisterNewUserData[] readRegisterNewUserDataArray(String json) {
+        JsonReader reader = reader(json);
+        if (reader == null || reader.nextNull()) {
+            return null;
+        }
+        List<RegisterNewUserData> users = new ArrayList<>();
+        if (reader.beginArray()) {
+            do {
+                users.add(readRegisterNewUserData(reader));
+            } while (reader.nextElement());
+        }
+        reader.endDocument();
+        return users.toArray(RegisterNewUserData[]::new);
+    }
+
+    public static String writeUserId(UserId userId) {
+        return writeUserId(new JsonWriter(userId.getId().length() + 16), userId).toString();
+    }
+
+    public static String writeUserIds(List<UserId> userIds) {
+        JsonWriter writer = new JsonWriter(userIds.size() * 48 + 2).beginArray();
+        for (UserId userId : userIds) {
+            writeUserId(writer, userId);
+        }
+        return writer.endArray().toString();
+    }
+
+    public static String writeUserDto(UserDto userDto) {
+        return writeUserDto(new JsonWriter(160), userDto).toString();
+    }
+
+    public static String writeUserDtos(List<UserDto> userDtos) {
+        JsonWriter writer = new JsonWriter(userDtos.size() * 160 + 2).beginArray();
+        for (UserDto userDto : userDtos) {
+            writeUserDto(writer, userDto);
+        }
+        return writer.endArray().toString();
+    }
+
+    private static JsonReader reader(String json) {
+        if (json == null) {
+            return null;
+        }
+        JsonReader reader = new JsonReader(json);
+        return reader.isEmpty() ? null : reader;
+    }
+
+    private static RegisterNewUserData readRegisterNewUserData(JsonReader reader) {
+        if (reader.nextNull()) {
+            return null;
+        }
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        if (reader.beginObject()) {
+            do {
+                switch (reader.nextName(REGISTER_NEW_USER_NAMES)) {
+                    case FIRST_NAME -> firstName = reader.nextString();
+                    case LAST_NAME -> lastName = reader.nextString();
+                    case EMAIL -> email = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            } while (reader.nextMember());
+        }
+        return new RegisterNewUserData(firstName, lastName, email);
+    }
+
+    private static JsonWriter writeUserId(JsonWriter writer, UserId userId) {
+        return writer.beginObject()
+                .member("id", userId.getId())
+                .endObject();
+    }
+
+    private static JsonWriter writeUserDto(JsonWriter writer, UserDto userDto) {
+        if (userDto == null) {
+            return writer.nullValue();
+        }
+        return writer.beginObject()
+                .member("id", userDto.id())
+                .member("firstName", userDto.firstName())
+                .member("lastName", userDto.lastName())
+                .member("email", userDto.email())
+                .endObject();
+    }
+}
@@ -0,0 +1,30 @@
+package com.atn.digital.user.adapters.in.handler.logging;
+
+/**
+ * One structured log line being built. Events below the request level are {@link #DISABLED}: their fields are
+ * ignored and nothing is allocated for them.
+ */
+public interface LogEvent {
+
+    LogEvent DISABLED = new LogEvent() {
+        @Override
+        public LogEvent with(String key, String value) {
+            return this;
+        }
+
+        @Override
+        public LogEvent with(String key, long value) {
+            return this;
+        }
+
+        @Override
+        public void log() {
+        }
+    };
+
+    LogEvent with(String key, String value);
+
+    LogEvent with(String key, long value);
+
+    void log();
+}
@@ -0,0 +1,12 @@
+package com.atn.digital.user.adapters.in.handler.logging;
+
+public enum LogLevel {
+    DEBUG, INFO, WARN, ERROR, OFF;
+
+    /**
+     * Tells whether a logger at this level writes an event of the given level; {@link #OFF} writes nothing.
+     */
+    public boolean enables(LogLevel eventLevel) {
+        return this != OFF && eventLevel != OFF && eventLevel.ordinal() >= ordinal();
+    }
+}
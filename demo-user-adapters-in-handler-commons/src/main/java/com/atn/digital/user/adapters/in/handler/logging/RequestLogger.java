@@ -0,0 +1,102 @@
+package com.atn.digital.user.adapters.in.handler.logging;
+
+import com.atn.digital.user.adapters.in.handler.json.JsonWriter;
+
+import java.util.function.Consumer;
+
+/**
+ * Structured logger of a single invocation. Each event is a JSON line appended to an in-memory buffer, and
+ * {@link #flush()} hands the whole buffer to the sink in one call at the end of the invocation, instead of one
+ * synchronous write per line on the request path. Not thread-safe: an invocation logs from one thread.
+ */
+public final class RequestLogger {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final LogLevel level;
+    private final String requestId;
+    private final boolean sampled;
+    private final Consumer<String> sink;
+    private final BufferedEvent event = new BufferedEvent();
+    private JsonWriter buffer;
+
+    RequestLogger(LogLevel level, String requestId, boolean sampled, Consumer<String> sink) {
+        this.level = level;
+        this.requestId = requestId;
+        this.sampled = sampled;
+        this.sink = sink;
+    }
+
+    public boolean isEnabled(LogLevel eventLevel) {
+        return level.enables(eventLevel);
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public LogEvent atDebug(String message) {
+        return at(LogLevel.DEBUG, message);
+    }
+
+    public LogEvent atInfo(String message) {
+        return at(LogLevel.INFO, message);
+    }
+
+    public LogEvent atWarn(String message) {
+        return at(LogLevel.WARN, message);
+    }
+
+    public LogEvent atError(String message) {
+        return at(LogLevel.ERROR, message);
+    }
+
+    /**
+     * Writes the buffered lines, if any, and empties the buffer.
+     */
+    public void flush() {
+        if (buffer == null || buffer.length() == 0) {
+            return;
+        }
+        String lines = buffer.toString();
+        buffer = null;
+        sink.accept(lines);
+    }
+
+    private LogEvent at(LogLevel eventLevel, String message) {
+        if (!level.enables(eventLevel)) {
+            return LogEvent.DISABLED;
+        }
+        if (buffer == null) {
+            buffer = new JsonWriter(INITIAL_CAPACITY);
+        }
+        buffer.beginObject()
+                .member("level", eventLevel.name())
+                .member("message", message)
+                .member("requestId", requestId);
+        if (sampled) {
+            buffer.member("sampled", "true");
+        }
+        return event;
+    }
+
+    private final class BufferedEvent implements LogEvent {
+
+        @Override
+        public LogEvent with(String key, String value) {
+            buffer.member(key, value);
+            return this;
+        }
+
+        @Override
+        public LogEvent with(String key, long value) {
+            buffer.member(key, value);
+            return this;
+        }
+
+        @Override
+        public void log() {
+            buffer.endObject().newLine();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.atn.digital.user.adapters.in.handler.logging;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Creates the {@link RequestLogger} of each invocation. Events below {@code LOG_LEVEL} (INFO by default,
+ * OFF to disable logging) are dropped, except in the fraction {@code LOG_SAMPLE_RATE} (0 by default) of
+ * invocations, which log everything down to DEBUG. Both are read from system properties or environment variables.
+ */
+public final class StructuredLogging {
+
+    public static final String LEVEL_PROPERTY = "LOG_LEVEL";
+    public static final String SAMPLE_RATE_PROPERTY = "LOG_SAMPLE_RATE";
+
+    private final LogLevel level;
+    private final double sampleRate;
+
+    public StructuredLogging(LogLevel level, double sampleRate) {
+        if (level == null) {
+            throw new IllegalArgumentException("level expected to be not null");
+        }
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate expected to be between 0 and 1");
+        }
+        this.level = level;
+        this.sampleRate = sampleRate;
+    }
+
+    public static StructuredLogging fromEnvironment() {
+        String level = property(LEVEL_PROPERTY);
+        String sampleRate = property(SAMPLE_RATE_PROPERTY);
+        return new StructuredLogging(
+                level == null ? LogLevel.INFO : LogLevel.valueOf(level.toUpperCase(Locale.ROOT)),
+                sampleRate == null ? 0 : Double.parseDouble(sampleRate));
+    }
+
+    public RequestLogger start(String requestId, Consumer<String> sink) {
+        boolean sampled = level != LogLevel.OFF && level != LogLevel.DEBUG && sampleRate > 0
+                && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        return new RequestLogger(sampled ? LogLevel.DEBUG : level, requestId, sampled, sink);
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    private static String property(String name) {
+        String value = System.getProperty(name, System.getenv(name));
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
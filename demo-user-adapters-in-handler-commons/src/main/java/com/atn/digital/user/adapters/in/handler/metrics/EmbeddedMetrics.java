@@ -0,0 +1,104 @@
+package com.atn.digital.user.adapters.in.handler.metrics;
+
+import com.atn.digital.user.adapters.in.handler.json.JsonWriter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Writes the stage times of each invocation as one CloudWatch Embedded Metric Format (EMF) line, in
+ * microseconds, with the function name and whether the invocation was the cold start of this JVM as dimensions.
+ * CloudWatch turns the line into metrics when it reaches the function's log group, so writing it to the Lambda
+ * logger is enough. {@code METRICS_ENABLED} (true by default) and {@code METRICS_NAMESPACE} (UserService by
+ * default) are read from system properties or environment variables.
+ */
+public final class EmbeddedMetrics {
+
+    public static final String ENABLED_PROPERTY = "METRICS_ENABLED";
+    public static final String NAMESPACE_PROPERTY = "METRICS_NAMESPACE";
+    public static final String DEFAULT_NAMESPACE = "UserService";
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final AtomicBoolean COLD_START = new AtomicBoolean(true);
+
+    private final boolean enabled;
+    private final String namespace;
+    private final String functionName;
+    private final String metricDefinitions;
+
+    public EmbeddedMetrics(boolean enabled, String namespace, String functionName) {
+        if (enabled && (namespace == null || namespace.isBlank())) {
+            throw new IllegalArgumentException("namespace expected to be not blank");
+        }
+        this.enabled = enabled;
+        this.namespace = namespace;
+        this.functionName = functionName == null ? "local" : functionName;
+        this.metricDefinitions = enabled ? metricDefinitions(namespace) : null;
+    }
+
+    public static EmbeddedMetrics fromEnvironment() {
+        String enabled = property(ENABLED_PROPERTY);
+        String namespace = property(NAMESPACE_PROPERTY);
+        return new EmbeddedMetrics(
+                enabled == null || Boolean.parseBoolean(enabled),
+                namespace == null ? DEFAULT_NAMESPACE : namespace,
+                System.getenv("AWS_LAMBDA_FUNCTION_NAME"));
+    }
+
+    /**
+     * Starts timing an invocation on the current thread; {@link InvocationMetrics#DISABLED} when disabled.
+     */
+    public InvocationMetrics begin() {
+        return enabled ? InvocationMetrics.begin() : InvocationMetrics.DISABLED;
+    }
+
+    /**
+     * Stops timing the invocation and writes its EMF line to the sink.
+     */
+    public void end(InvocationMetrics metrics, String requestId, int statusCode, Consumer<String> sink) {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        metrics.end();
+        sink.accept(write(metrics, requestId, statusCode, COLD_START.getAndSet(false), System.currentTimeMillis()));
+    }
+
+    String write(InvocationMetrics metrics, String requestId, int statusCode, boolean coldStart, long timestamp) {
+        JsonWriter writer = new JsonWriter(metricDefinitions.length() + 256)
+                .beginObject()
+                .name("_aws").beginObject()
+                .member("Timestamp", timestamp)
+                .rawMembers(metricDefinitions)
+                .endObject()
+                .member("FunctionName", functionName)
+                .member("ColdStart", Boolean.toString(coldStart));
+        for (Stage stage : STAGES) {
+            writer.member(stage.metricName(), metrics.nanos(stage) / 1_000);
+        }
+        return writer
+                .member("requestId", requestId)
+                .member("statusCode", statusCode)
+                .endObject()
+                .toString();
+    }
+
+    /**
+     * The {@code CloudWatchMetrics} member, the same on every line, so serialized once.
+     */
+    private static String metricDefinitions(String namespace) {
+        JsonWriter writer = new JsonWriter(512)
+                .name("CloudWatchMetrics").beginArray().beginObject()
+                .member("Namespace", namespace)
+                .name("Dimensions").beginArray().beginArray().value("FunctionName").value("ColdStart").endArray().endArray()
+                .name("Metrics").beginArray();
+        for (Stage stage : STAGES) {
+            writer.beginObject().member("Name", stage.metricName()).member("Unit", "Microseconds").endObject();
+        }
+        return writer.endArray().endObject().endArray().toString();
+    }
+
+    private static String property(String name) {
+        String value = System.getProperty(name, System.getenv(name));
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
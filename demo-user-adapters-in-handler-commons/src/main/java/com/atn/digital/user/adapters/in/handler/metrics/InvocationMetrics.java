@@ -0,0 +1,76 @@
+package com.atn.digital.user.adapters.in.handler.metrics;
+
+/**
+ * Time spent in each {@link Stage} by one invocation. The invocation being timed on the current thread is
+ * reachable through {@link #current()}, so that code far from the handler, like {@link TimedUserRepository},
+ * adds to it without having it passed along. Not thread-safe: an invocation is timed from one thread.
+ */
+public final class InvocationMetrics {
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<InvocationMetrics> CURRENT = new ThreadLocal<>();
+
+    public static final InvocationMetrics DISABLED = new InvocationMetrics(false);
+
+    private final boolean enabled;
+    private final long[] nanos = new long[STAGES.length];
+
+    private InvocationMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts timing a new invocation on the current thread.
+     */
+    static InvocationMetrics begin() {
+        InvocationMetrics metrics = new InvocationMetrics(true);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * The invocation timed on the current thread, {@link #DISABLED} when there is none.
+     */
+    public static InvocationMetrics current() {
+        InvocationMetrics metrics = CURRENT.get();
+        return metrics == null ? DISABLED : metrics;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A start time for {@link #stop(Stage, long)}, 0 when disabled.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time elapsed since {@code start} to the stage, and returns the current time, so that the next
+     * stage can start from it.
+     */
+    public long stop(Stage stage, long start) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        add(stage, now - start);
+        return now;
+    }
+
+    void add(Stage stage, long elapsedNanos) {
+        nanos[stage.ordinal()] += elapsedNanos;
+    }
+
+    public long nanos(Stage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    void end() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.atn.digital.user.adapters.in.handler.metrics;
+
+/**
+ * Stages of an invocation timed by {@link InvocationMetrics}, with the name of their metric.
+ */
+public enum Stage {
+    PARSE("ParseTime"),
+    VALIDATION("ValidationTime"),
+    SERVICE("ServiceTime"),
+    DYNAMODB("DynamoDbTime"),
+    SERIALIZATION("SerializationTime"),
+    HANDLER("HandlerTime");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
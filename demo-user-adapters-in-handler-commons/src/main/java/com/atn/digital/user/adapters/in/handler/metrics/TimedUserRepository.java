@@ -0,0 +1,67 @@
+package com.atn.digital.user.adapters.in.handler.metrics;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+
+import java.util.List;
+
+/**
+ * Adds the time spent in another {@link UserRepository} to the {@link Stage#DYNAMODB} stage of the current
+ * invocation. Placed between the cache and the DynamoDB repository, it times the DynamoDB calls only.
+ */
+public class TimedUserRepository extends UserRepository {
+
+    private final UserRepository delegate;
+
+    public TimedUserRepository(UserRepository delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate expected to be not null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public UserId registerNewUser(User user) {
+        InvocationMetrics metrics = InvocationMetrics.current();
+        long start = metrics.start();
+        try {
+            return delegate.registerNewUser(user);
+        } finally {
+            metrics.stop(Stage.DYNAMODB, start);
+        }
+    }
+
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        InvocationMetrics metrics = InvocationMetrics.current();
+        long start = metrics.start();
+        try {
+            return delegate.registerNewUsers(users);
+        } finally {
+            metrics.stop(Stage.DYNAMODB, start);
+        }
+    }
+
+    @Override
+    public User findByUserId(UserId userId) {
+        InvocationMetrics metrics = InvocationMetrics.current();
+        long start = metrics.start();
+        try {
+            return delegate.findByUserId(userId);
+        } finally {
+            metrics.stop(Stage.DYNAMODB, start);
+        }
+    }
+
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        InvocationMetrics metrics = InvocationMetrics.current();
+        long start = metrics.start();
+        try {
+            return delegate.findByUserIds(userIds);
+        } finally {
+            metrics.stop(Stage.DYNAMODB, start);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.atn.digital.user;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+/**
+ * The context of a warm invocation of a 512 MB function, with a logger that drops what it is given: the log lines
+ * are still formatted, only not written.
+ */
+public class BenchmarkContext implements Context {
+
+    private static final LambdaLogger LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+
+    public String getAwsRequestId() {
+        return "e0a1b2c3-d4e5-4f60-8a9b-0c1d2e3f4a5b";
+    }
+
+    public String getLogGroupName() {
+        return "/aws/lambda/benchmark";
+    }
+
+    public String getLogStreamName() {
+        return "2023/07/05/[$LATEST]0123456789abcdef0123456789abcdef";
+    }
+
+    public String getFunctionName() {
+        return "benchmark";
+    }
+
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:eu-west-1:123456789012:function:benchmark";
+    }
+
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    public int getRemainingTimeInMillis() {
+        return 30_000;
+    }
+
+    public int getMemoryLimitInMB() {
+        return 512;
+    }
+
+    public LambdaLogger getLogger() {
+        return LOGGER;
+    }
+}
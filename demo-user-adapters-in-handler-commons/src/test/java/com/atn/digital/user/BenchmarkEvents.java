@@ -0,0 +1,58 @@
+package com.atn.digital.user;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The API Gateway REST (proxy) events of the Artillery scenario, register a user then read it back, as API Gateway
+ * sends them through CloudFront, headers included.
+ */
+public final class BenchmarkEvents {
+
+    private static final String TEMPLATE = resource("/benchmarks/rest-api-event.json");
+    private static final Pattern USER_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private BenchmarkEvents() {}
+
+    public static String registerUser(String usersPath) {
+        String body = "{\"firstName\":\"Ada\",\"lastName\":\"Lovelace\",\"email\":\"Ada.Lovelace@workshop.demo\"}";
+        return event("POST", usersPath, usersPath, "null", "\"" + body.replace("\"", "\\\"") + "\"");
+    }
+
+    public static String findUser(String usersPath, String userId) {
+        return event("GET", usersPath + "/{userId}", usersPath + "/" + userId,
+                "{\"userId\":\"" + userId + "\"}", "null");
+    }
+
+    /**
+     * The id of the user registered by a POST, read from the body of its response.
+     */
+    public static String userId(String responseBody) {
+        Matcher matcher = USER_ID.matcher(responseBody);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No user id in " + responseBody);
+        }
+        return matcher.group(1);
+    }
+
+    private static String event(String httpMethod, String resource, String path, String pathParameters,
+                                String body) {
+        return TEMPLATE.replace("${httpMethod}", httpMethod)
+                .replace("${resource}", resource)
+                .replace("${path}", path)
+                .replace("${pathParameters}", pathParameters)
+                .replace("${body}", body);
+    }
+
+    private static String resource(String name) {
+        try (InputStream input = BenchmarkEvents.class.getResourceAsStream(name)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
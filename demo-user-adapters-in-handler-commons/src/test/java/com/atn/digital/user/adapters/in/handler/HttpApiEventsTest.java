@@ -0,0 +1,95 @@
+package com.atn.digital.user.adapters.in.handler;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent.RequestContext;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpApiEventsTest {
+
+    @Test
+    void shouldReadHttpApiRoute() {
+        APIGatewayV2HTTPEvent event = APIGatewayV2HTTPEvent.builder()
+                .withRouteKey("GET /plain-java-request-handler/users/{userId}")
+                .withRawPath("/plain-java-request-handler/users/id1")
+                .withPathParameters(Map.of("userId", "id1"))
+                .withRequestContext(requestContext("GET"))
+                .build();
+
+        assertThat(HttpApiEvents.toRequest(event)).isEqualTo(
+                new UserHttpRequest("GET", "/plain-java-request-handler/users/id1", "id1", null, null));
+    }
+
+    @Test
+    void shouldTakeUserIdFromRawPathOfFunctionUrl() {
+        APIGatewayV2HTTPEvent event = APIGatewayV2HTTPEvent.builder()
+                .withRouteKey("$default")
+                .withRawPath("/users/id1")
+                .withRequestContext(requestContext("GET"))
+                .build();
+
+        assertThat(HttpApiEvents.toRequest(event).userId()).isEqualTo("id1");
+    }
+
+    @Test
+    void shouldNotTakeUserIdFromCollectionOrBatchPath() {
+        for (String rawPath : new String[]{"/users", "/users/", "/users/batch", "/users/id1/orders", "/"}) {
+            APIGatewayV2HTTPEvent event = APIGatewayV2HTTPEvent.builder()
+                    .withRouteKey("$default")
+                    .withRawPath(rawPath)
+                    .withQueryStringParameters(Map.of("ids", "id1,id2"))
+                    .withRequestContext(requestContext("GET"))
+                    .build();
+
+            UserHttpRequest request = HttpApiEvents.toRequest(event);
+
+            assertThat(request.userId()).as(rawPath).isNull();
+            assertThat(request.ids()).isEqualTo("id1,id2");
+        }
+    }
+
+    @Test
+    void shouldTakeMethodFromRouteKeyWithoutRequestContext() {
+        APIGatewayV2HTTPEvent event = APIGatewayV2HTTPEvent.builder()
+                .withRouteKey("POST /users/batch")
+                .withRawPath("/users/batch")
+                .build();
+
+        assertThat(HttpApiEvents.toRequest(event).httpMethod()).isEqualTo("POST");
+    }
+
+    @Test
+    void shouldDecodeBase64EncodedBody() {
+        String body = "{\"firstName\":\"Zoé\"}";
+        APIGatewayV2HTTPEvent event = APIGatewayV2HTTPEvent.builder()
+                .withRouteKey("$default")
+                .withRawPath("/users")
+                .withRequestContext(requestContext("POST"))
+                .withIsBase64Encoded(true)
+                .withBody(Base64.getEncoder().encodeToString(body.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        assertThat(HttpApiEvents.toRequest(event).body()).isEqualTo(body);
+    }
+
+    @Test
+    void shouldWriteStatusCodeAndBody() {
+        APIGatewayV2HTTPResponse response = HttpApiEvents.toResponse(new UserHttpResponse(201, "{\"id\":\"id1\"}"));
+
+        assertThat(response.getStatusCode()).isEqualTo(201);
+        assertThat(response.getBody()).isEqualTo("{\"id\":\"id1\"}");
+        assertThat(response.getIsBase64Encoded()).isFalse();
+    }
+
+    private static RequestContext requestContext(String method) {
+        return RequestContext.builder()
+                .withHttp(RequestContext.Http.builder().withMethod(method).build())
+                .build();
+    }
+}
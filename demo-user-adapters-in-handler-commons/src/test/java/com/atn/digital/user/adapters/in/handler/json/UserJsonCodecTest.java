@@ -0,0 +1,98 @@
+package com.atn.digital.user.adapters.in.handler.json;
+
+import com.atn.digital.user.adapters.in.handler.RegisterNewUserData;
+import com.atn.digital.user.adapters.in.handler.UserDto;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserJsonCodecTest {
+
+    private static final String TRICKY_CHARACTERS = "aZ9 \"\\/\b\f\n\r\t\u0000\u001f<>&='é€\u2028\u2029\uD83D\uDE00";
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void shouldWriteSameJsonAsGson() {
+        UserDto userDto = new UserDto("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0", "Ho\"mer", null, TRICKY_CHARACTERS);
+        UserId userId = new UserId("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0");
+
+        assertThat(UserJsonCodec.writeUserDto(userDto)).isEqualTo(gson.toJson(userDto));
+        assertThat(UserJsonCodec.writeUserDtos(List.of(userDto, userDto))).isEqualTo(gson.toJson(List.of(userDto, userDto)));
+        assertThat(UserJsonCodec.writeUserDtos(List.of())).isEqualTo(gson.toJson(List.of()));
+        assertThat(UserJsonCodec.writeUserId(userId)).isEqualTo(gson.toJson(userId));
+        assertThat(UserJsonCodec.writeUserIds(List.of(userId, new UserId("id2")))).isEqualTo(
+                gson.toJson(List.of(userId, new UserId("id2"))));
+    }
+
+    @Test
+    void shouldWriteAndReadRandomStringsLikeGson() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 10_000; i++) {
+            UserDto userDto = new UserDto(randomString(random), randomString(random), randomString(random), null);
+            RegisterNewUserData data = new RegisterNewUserData(
+                    randomString(random), randomString(random), randomString(random));
+
+            assertThat(UserJsonCodec.writeUserDto(userDto)).isEqualTo(gson.toJson(userDto));
+            assertThat(UserJsonCodec.readRegisterNewUserData(gson.toJson(data))).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void shouldReadSameDataAsGson() {
+        List<String> bodies = List.of(
+                "{\"firstName\":\"Homer\",\"lastName\":\"Simpson\",\"email\":\"homer@unit.test\"}",
+                " {\n \"email\" : \"homer@unit.test\" , \"firstName\":\"Ho\\\"mer\\u00e9\\n\" }\t",
+                "{\"firstName\":null,\"unknown\":{\"nested\":[1,2.5e3,true,false,null,\"x\",{}]},\"lastName\":\"S\"}",
+                "{\"firstName\":42,\"lastName\":true,\"email\":-1.5E-3}",
+                "{\"unknown\":\"a\\\"b\\\\\",\"first\\u004eame\":\"F\",\"email\":\"e\"}",
+                "{}");
+        for (String body : bodies) {
+            assertThat(UserJsonCodec.readRegisterNewUserData(body))
+                    .as(body)
+                    .isEqualTo(gson.fromJson(body, RegisterNewUserData.class));
+        }
+        String array = "[{\"firstName\":\"Homer\"}, {\"lastName\":\"Simpson\",\"email\":\"e@unit.test\"}]";
+        assertThat(UserJsonCodec.readRegisterNewUserDataArray(array))
+                .containsExactly(gson.fromJson(array, RegisterNewUserData[].class));
+        assertThat(UserJsonCodec.readRegisterNewUserDataArray("[]")).isEmpty();
+    }
+
+    @Test
+    void shouldReadMissingBodyAsNullLikeGson() {
+        assertThat(UserJsonCodec.readRegisterNewUserData(null)).isNull();
+        assertThat(UserJsonCodec.readRegisterNewUserData(" ")).isNull();
+        assertThat(UserJsonCodec.readRegisterNewUserData("null")).isNull();
+        assertThat(UserJsonCodec.readRegisterNewUserDataArray("")).isNull();
+        assertThat(UserJsonCodec.readRegisterNewUserDataArray("null")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedJson() {
+        for (String body : List.of("{", "{\"firstName\"}", "{\"firstName\":\"Homer\"", "{\"firstName\":\"Ho\nmer\"}",
+                "{\"firstName\":\"Homer\"} trailing", "{\"firstName\":{}}", "{\"firstName\":\"\\x\"}", "[{}")) {
+            assertThatThrownBy(() -> {
+                UserJsonCodec.readRegisterNewUserData(body);
+                UserJsonCodec.readRegisterNewUserDataArray(body);
+            }).as(body).isInstanceOf(JsonCodecException.class);
+        }
+    }
+
+    private static String randomString(SplittableRandom random) {
+        if (random.nextInt(10) == 0) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(16);
+        for (int i = 0; i < length; i++) {
+            builder.append(TRICKY_CHARACTERS.charAt(random.nextInt(TRICKY_CHARACTERS.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.atn.digital.user.adapters.in.handler.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLoggerTest {
+
+    private final List<String> sink = new ArrayList<>();
+
+    @Test
+    void shouldWriteBufferedLinesInOneCallOnFlush() {
+        RequestLogger logger = new StructuredLogging(LogLevel.INFO, 0).start("request-1", sink::add);
+
+        logger.atInfo("request handled").with("statusCode", 200).with("path", "/users").log();
+        logger.atWarn("request rejected").with("error", "Missing \"ids\"").log();
+
+        assertThat(sink).isEmpty();
+        logger.flush();
+        assertThat(sink).containsExactly(
+                "{\"level\":\"INFO\",\"message\":\"request handled\",\"requestId\":\"request-1\","
+                        + "\"statusCode\":200,\"path\":\"/users\"}\n"
+                        + "{\"level\":\"WARN\",\"message\":\"request rejected\",\"requestId\":\"request-1\","
+                        + "\"error\":\"Missing \\\"ids\\\"\"}\n");
+    }
+
+    @Test
+    void shouldDropEventsBelowLevel() {
+        RequestLogger logger = new StructuredLogging(LogLevel.WARN, 0).start("request-1", sink::add);
+
+        logger.atDebug("request received").with("bodyLength", 12).log();
+        logger.atInfo("request handled").log();
+        logger.flush();
+
+        assertThat(sink).isEmpty();
+    }
+
+    @Test
+    void shouldLogNothingWhenOff() {
+        RequestLogger logger = new StructuredLogging(LogLevel.OFF, 1).start("request-1", sink::add);
+
+        logger.atError("request failed").log();
+        logger.flush();
+
+        assertThat(logger.isSampled()).isFalse();
+        assertThat(sink).isEmpty();
+    }
+
+    @Test
+    void shouldLogDebugEventsOfSampledRequests() {
+        RequestLogger logger = new StructuredLogging(LogLevel.ERROR, 1).start(null, sink::add);
+
+        logger.atDebug("request received").log();
+        logger.flush();
+
+        assertThat(sink).containsExactly("{\"level\":\"DEBUG\",\"message\":\"request received\",\"sampled\":\"true\"}\n");
+    }
+
+    @Test
+    void shouldWriteLinesOnlyOnce() {
+        RequestLogger logger = new StructuredLogging(LogLevel.INFO, 0).start("request-1", sink::add);
+        logger.atInfo("request handled").log();
+
+        logger.flush();
+        logger.flush();
+
+        assertThat(sink).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectSampleRateOutOfRange() {
+        assertThatThrownBy(() -> new StructuredLogging(LogLevel.INFO, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
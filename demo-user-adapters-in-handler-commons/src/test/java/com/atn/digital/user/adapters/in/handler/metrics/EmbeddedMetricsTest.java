@@ -0,0 +1,85 @@
+package com.atn.digital.user.adapters.in.handler.metrics;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedMetricsTest {
+
+    private final EmbeddedMetrics embeddedMetrics = new EmbeddedMetrics(true, "UserService", "user-function");
+
+    @Test
+    void shouldWriteStageTimesAsEmbeddedMetricFormat() {
+        InvocationMetrics metrics = embeddedMetrics.begin();
+        metrics.add(Stage.PARSE, 12_345);
+        metrics.end();
+
+        String line = embeddedMetrics.write(metrics, "request-1", 200, true, 1_700_000_000_000L);
+
+        assertThat(line).startsWith("{\"_aws\":{\"Timestamp\":1700000000000,\"CloudWatchMetrics\":[{"
+                + "\"Namespace\":\"UserService\",\"Dimensions\":[[\"FunctionName\",\"ColdStart\"]],\"Metrics\":["
+                + "{\"Name\":\"ParseTime\",\"Unit\":\"Microseconds\"},");
+        assertThat(line).contains("{\"Name\":\"HandlerTime\",\"Unit\":\"Microseconds\"}]}]},"
+                + "\"FunctionName\":\"user-function\",\"ColdStart\":\"true\",\"ParseTime\":12,\"ValidationTime\":0,");
+        assertThat(line).endsWith("\"requestId\":\"request-1\",\"statusCode\":200}");
+    }
+
+    @Test
+    void shouldTimeRepositoryCallsOfCurrentInvocation() {
+        InvocationMetrics metrics = embeddedMetrics.begin();
+        TimedUserRepository repository = new TimedUserRepository(new SleepingUserRepository());
+
+        repository.findByUserId(new UserId("id1"));
+        repository.registerNewUsers(List.of(User.withoutId("firstName", "lastName", "email@unit.test")));
+        List<String> lines = new ArrayList<>();
+        embeddedMetrics.end(metrics, "request-1", 200, lines::add);
+
+        assertThat(metrics.nanos(Stage.DYNAMODB)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(lines).singleElement().asString().contains("\"DynamoDbTime\":");
+        assertThat(InvocationMetrics.current()).isSameAs(InvocationMetrics.DISABLED);
+    }
+
+    @Test
+    void shouldWriteNothingWhenDisabled() {
+        EmbeddedMetrics disabled = new EmbeddedMetrics(false, null, null);
+        List<String> lines = new ArrayList<>();
+
+        InvocationMetrics metrics = disabled.begin();
+        new TimedUserRepository(new SleepingUserRepository()).findByUserId(new UserId("id1"));
+        disabled.end(metrics, "request-1", 200, lines::add);
+
+        assertThat(metrics).isSameAs(InvocationMetrics.DISABLED);
+        assertThat(metrics.nanos(Stage.DYNAMODB)).isZero();
+        assertThat(lines).isEmpty();
+    }
+
+    private static class SleepingUserRepository extends UserRepository {
+
+        @Override
+        public UserId registerNewUser(User user) {
+            sleep();
+            return new UserId("id1");
+        }
+
+        @Override
+        public User findByUserId(UserId userId) {
+            sleep();
+            return null;
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
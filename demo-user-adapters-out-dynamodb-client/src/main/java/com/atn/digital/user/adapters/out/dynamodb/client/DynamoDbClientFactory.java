@@ -0,0 +1,124 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Builds the DynamoDB clients of every module the same way, skipping what a default
+ * {@code DynamoDbClient.builder().build()} discovers on each cold start: the region comes from the settings,
+ * credentials from the environment variables the Lambda runtime sets, and the {@link HttpClientType} is named
+ * instead of being looked up through the service loader. Each build reports its {@link InitTimings} on standard output.
+ */
+public class DynamoDbClientFactory {
+
+    static final String PRE_WARM_KEY = "dynamodb-client-pre-warm";
+
+    private final DynamoDbClientSettings settings;
+    private InitTimings lastTimings;
+
+    public DynamoDbClientFactory(DynamoDbClientSettings settings) {
+        if (settings == null) {
+            throw new IllegalArgumentException("settings expected to be not null");
+        }
+        this.settings = settings;
+    }
+
+    public static DynamoDbClientFactory fromEnvironment(String tableName) {
+        return new DynamoDbClientFactory(DynamoDbClientSettings.fromEnvironment(tableName));
+    }
+
+    public DynamoDbClient createClient() {
+        InitTimings timings = new InitTimings();
+        DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        timings.time("region", () -> configureRegion(builder::region));
+        builder.credentialsProvider(timings.time("credentials", DynamoDbClientFactory::credentialsProvider));
+        builder.httpClient(timings.time("httpClient", () -> settings.syncHttpClient().syncHttpClient()));
+        if (settings.endpoint() != null) {
+            builder.endpointOverride(settings.endpoint());
+        }
+        DynamoDbClient client = timings.time("client", builder::build);
+        if (settings.preWarm()) {
+            timings.time("preWarm", () -> preWarm(client));
+        }
+        report("DynamoDbClient[" + settings.syncHttpClient() + "]", timings);
+        return client;
+    }
+
+    public DynamoDbAsyncClient createAsyncClient() {
+        InitTimings timings = new InitTimings();
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder();
+        timings.time("region", () -> configureRegion(builder::region));
+        builder.credentialsProvider(timings.time("credentials", DynamoDbClientFactory::credentialsProvider));
+        builder.httpClient(timings.time("httpClient", () -> settings.asyncHttpClient().asyncHttpClient()));
+        if (settings.endpoint() != null) {
+            builder.endpointOverride(settings.endpoint());
+        }
+        DynamoDbAsyncClient client = timings.time("client", builder::build);
+        if (settings.preWarm()) {
+            timings.time("preWarm", () -> preWarm(client));
+        }
+        report("DynamoDbAsyncClient[" + settings.asyncHttpClient() + "]", timings);
+        return client;
+    }
+
+    public InitTimings lastTimings() {
+        return lastTimings;
+    }
+
+    private Region configureRegion(Consumer<Region> regionSetter) {
+        if (settings.region() != null) {
+            regionSetter.accept(settings.region());
+        }
+        return settings.region();
+    }
+
+    static AwsCredentialsProvider credentialsProvider() {
+        if (System.getenv("AWS_ACCESS_KEY_ID") != null) {
+            return EnvironmentVariableCredentialsProvider.create();
+        }
+        return DefaultCredentialsProvider.create();
+    }
+
+    private Boolean preWarm(DynamoDbClient client) {
+        try {
+            client.getItem(preWarmRequest());
+            return true;
+        } catch (RuntimeException e) {
+            System.err.printf("DynamoDB pre-warm failed: %s%n", e.getMessage());
+            return false;
+        }
+    }
+
+    private Boolean preWarm(DynamoDbAsyncClient client) {
+        try {
+            client.getItem(preWarmRequest()).join();
+            return true;
+        } catch (RuntimeException e) {
+            System.err.printf("DynamoDB pre-warm failed: %s%n", e.getMessage());
+            return false;
+        }
+    }
+
+    private GetItemRequest preWarmRequest() {
+        return GetItemRequest.builder()
+                .tableName(settings.tableName())
+                .key(Map.of("id", AttributeValue.builder().s(PRE_WARM_KEY).build()))
+                .build();
+    }
+
+    private void report(String clientName, InitTimings timings) {
+        lastTimings = timings;
+        System.out.printf("%s init: %s%n", clientName, timings);
+    }
+}
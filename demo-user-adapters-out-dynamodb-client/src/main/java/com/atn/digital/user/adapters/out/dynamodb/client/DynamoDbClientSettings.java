@@ -0,0 +1,57 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import software.amazon.awssdk.regions.Region;
+
+import java.net.URI;
+
+/**
+ * What {@link DynamoDbClientFactory} needs to build a client without asking the SDK to discover it.
+ *
+ * @param endpoint  DynamoDB Local endpoint, or {@code null} for the regional endpoint
+ * @param region    region to sign for, or {@code null} to let the SDK resolve it
+ * @param tableName table read by the pre-warm request
+ * @param preWarm   whether to open a connection to the endpoint while the client is built
+ * @param syncHttpClient  HTTP implementation of the synchronous client
+ * @param asyncHttpClient HTTP implementation of the asynchronous client
+ */
+public record DynamoDbClientSettings(URI endpoint, Region region, String tableName, boolean preWarm,
+                                     HttpClientType syncHttpClient, HttpClientType asyncHttpClient) {
+
+    public static final String LOCAL_ENDPOINT_PROPERTY = "LOCAL_DYNAMODB_URI";
+    public static final String PRE_WARM_PROPERTY = "DYNAMODB_PRE_WARM";
+
+    public DynamoDbClientSettings(URI endpoint, Region region, String tableName, boolean preWarm) {
+        this(endpoint, region, tableName, preWarm, HttpClientType.DEFAULT_SYNC, HttpClientType.DEFAULT_ASYNC);
+    }
+
+    public DynamoDbClientSettings {
+        if (syncHttpClient == null || syncHttpClient.isAsync()) {
+            throw new IllegalArgumentException("syncHttpClient expected to be a synchronous HTTP client");
+        }
+        if (asyncHttpClient == null || !asyncHttpClient.isAsync()) {
+            throw new IllegalArgumentException("asyncHttpClient expected to be an asynchronous HTTP client");
+        }
+    }
+
+    /**
+     * Reads the endpoint from the {@code LOCAL_DYNAMODB_URI} system property, the region from {@code AWS_REGION}
+     * (set by the Lambda runtime), the pre-warm switch from {@code DYNAMODB_PRE_WARM} and the HTTP implementations
+     * as described on {@link HttpClientType}.
+     */
+    public static DynamoDbClientSettings fromEnvironment(String tableName) {
+        String uri = System.getProperty(LOCAL_ENDPOINT_PROPERTY);
+        String region = setting("AWS_REGION", "aws.region");
+        return new DynamoDbClientSettings(
+                uri == null || uri.isBlank() ? null : URI.create(uri.trim()),
+                region == null || region.isBlank() ? null : Region.of(region.trim()),
+                tableName,
+                Boolean.parseBoolean(setting(PRE_WARM_PROPERTY, PRE_WARM_PROPERTY)),
+                HttpClientType.syncFromEnvironment(),
+                HttpClientType.asyncFromEnvironment());
+    }
+
+    static String setting(String environmentVariable, String systemProperty) {
+        String value = System.getProperty(systemProperty);
+        return value != null ? value : System.getenv(environmentVariable);
+    }
+}
@@ -0,0 +1,82 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+/**
+ * The HTTP implementations a DynamoDB client can run on.
+ * {@link #URL_CONNECTION} and {@link #APACHE} back the synchronous client, {@link #NETTY} and {@link #CRT} the
+ * asynchronous one. Each constant only touches its own classes, so a module only needs the jar of the
+ * implementation it picks: {@code apache-client}, {@code netty-nio-client} and {@code aws-crt-client} are optional
+ * dependencies here, and excluded from the SDK, which would otherwise bring Apache and Netty to every module.
+ * The sync choice is read from {@code DYNAMODB_HTTP_CLIENT}, the async one from {@code DYNAMODB_ASYNC_HTTP_CLIENT}.
+ */
+public enum HttpClientType {
+
+    URL_CONNECTION {
+        @Override
+        public SdkHttpClient syncHttpClient() {
+            return UrlConnectionHttpClient.builder().build();
+        }
+    },
+    APACHE {
+        @Override
+        public SdkHttpClient syncHttpClient() {
+            return ApacheHttpClient.builder().build();
+        }
+    },
+    NETTY {
+        @Override
+        public SdkAsyncHttpClient asyncHttpClient() {
+            return NettyNioAsyncHttpClient.builder().build();
+        }
+    },
+    CRT {
+        @Override
+        public SdkAsyncHttpClient asyncHttpClient() {
+            return AwsCrtAsyncHttpClient.builder().build();
+        }
+    };
+
+    public static final String SYNC_PROPERTY_NAME = "DYNAMODB_HTTP_CLIENT";
+    public static final String ASYNC_PROPERTY_NAME = "DYNAMODB_ASYNC_HTTP_CLIENT";
+    public static final HttpClientType DEFAULT_SYNC = URL_CONNECTION;
+    public static final HttpClientType DEFAULT_ASYNC = NETTY;
+
+    public SdkHttpClient syncHttpClient() {
+        throw new IllegalStateException(name() + " has no synchronous HTTP client");
+    }
+
+    public SdkAsyncHttpClient asyncHttpClient() {
+        throw new IllegalStateException(name() + " has no asynchronous HTTP client");
+    }
+
+    public boolean isAsync() {
+        return this == NETTY || this == CRT;
+    }
+
+    public static HttpClientType syncFromEnvironment() {
+        return fromEnvironment(SYNC_PROPERTY_NAME, DEFAULT_SYNC, false);
+    }
+
+    public static HttpClientType asyncFromEnvironment() {
+        return fromEnvironment(ASYNC_PROPERTY_NAME, DEFAULT_ASYNC, true);
+    }
+
+    private static HttpClientType fromEnvironment(String propertyName, HttpClientType defaultType, boolean async) {
+        String value = System.getProperty(propertyName, System.getenv(propertyName));
+        if (value == null || value.isBlank()) {
+            return defaultType;
+        }
+        HttpClientType type = valueOf(value.trim().toUpperCase());
+        if (type.isAsync() != async) {
+            throw new IllegalArgumentException(propertyName + " expected to name " + (async ? "an asynchronous" : "a synchronous")
+                    + " HTTP client but was " + type);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,42 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock time spent in each phase of building a client, in the order the phases ran.
+ */
+public final class InitTimings {
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+    <T> T time(String phase, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            phaseNanos.merge(phase, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    public Map<String, Long> phaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    public long totalNanos() {
+        return phaseNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        phaseNanos.forEach((phase, nanos) -> builder.append(phase).append('=').append(millis(nanos)).append("ms "));
+        return builder.append("total=").append(millis(totalNanos())).append("ms").toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -1,59 +1,56 @@
-package com.atn.digital.user.adapters.out.persistence.dynamodb;
+package com.atn.digital.user.adapters.out.dynamodb.client;
 
 import software.amazon.awssdk.core.waiters.WaiterResponse;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
-import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.waiters.DynamoDbWaiter;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class DynamoDbTableCreator {
+/**
+ * Creates the user table on DynamoDB Local when it is missing.
+ */
+public final class UserTableBootstrap {
 
-    public static DynamoDbClient initialize(String dynamoDbLocalUri) {
-        // Set your AWS credentials as environment variables or in the ~/.aws/credentials file
+    private UserTableBootstrap() {}
 
-        DynamoDbClient client = DynamoDbClientFactory.createLocalDbClient(dynamoDbLocalUri);
-        String tableName = "WorkshopUsers";
+    public static void createIfMissing(DynamoDbClient client, String tableName) {
+        createIfMissing(client, tableName, ScalarAttributeType.S);
+    }
 
+    public static void createIfMissing(DynamoDbClient client, String tableName, ScalarAttributeType keyType) {
         if (!tableExists(client, tableName)) {
-            createTable(client, tableName);
+            createTable(client, tableName, keyType);
         }
-
-        return client;
     }
 
     private static boolean tableExists(DynamoDbClient client, String tableName) {
         return client.listTables().tableNames().contains(tableName);
     }
 
-    private static void createTable(DynamoDbClient client, String tableName) {
+    private static void createTable(DynamoDbClient client, String tableName, ScalarAttributeType keyType) {
 
-        List<KeySchemaElement> keySchema = new ArrayList<> ();
+        List<KeySchemaElement> keySchema = new ArrayList<>();
         keySchema.add(KeySchemaElement.builder().attributeName("id").keyType(KeyType.HASH.name()).build());
 
         List<AttributeDefinition> attributes = new ArrayList<>();
         attributes.add(AttributeDefinition.builder().attributeName("id")
-                .attributeType(ScalarAttributeType.S.name()).build());
-
-        ProvisionedThroughput provisionedThroughput = ProvisionedThroughput.builder()
-                .readCapacityUnits(5L)
-                .writeCapacityUnits(5L)
-                .build();
+                .attributeType(keyType.name()).build());
 
         CreateTableRequest request = CreateTableRequest.builder()
                 .tableName(tableName)
                 .keySchema(keySchema)
                 .attributeDefinitions(attributes)
-                .provisionedThroughput(provisionedThroughput)
+                .billingMode(BillingMode.PAY_PER_REQUEST)
                 .build();
         try {
             client.createTable(request);
@@ -69,8 +66,7 @@ public class DynamoDbTableCreator {
 
         } catch (DynamoDbException e) {
             System.err.printf("Failed to create table %s%n", tableName);
-            e.printStackTrace();
+            throw e;
         }
     }
 }
-
@@ -0,0 +1,70 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDbClientFactoryTest {
+
+    private static final URI UNREACHABLE_ENDPOINT = URI.create("http://127.0.0.1:1");
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY);
+        System.clearProperty(DynamoDbClientSettings.PRE_WARM_PROPERTY);
+        System.clearProperty("aws.region");
+    }
+
+    @Test
+    void shouldReadSettingsFromEnvironment() {
+        System.setProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY, "http://localhost:8000");
+        System.setProperty(DynamoDbClientSettings.PRE_WARM_PROPERTY, "true");
+        System.setProperty("aws.region", "eu-west-3");
+
+        DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment("WorkshopUsers");
+
+        assertThat(settings.endpoint()).isEqualTo(URI.create("http://localhost:8000"));
+        assertThat(settings.region()).isEqualTo(Region.EU_WEST_3);
+        assertThat(settings.tableName()).isEqualTo("WorkshopUsers");
+        assertThat(settings.preWarm()).isTrue();
+    }
+
+    @Test
+    void shouldReportEveryPhaseOfClientCreation() {
+        DynamoDbClientFactory factory = new DynamoDbClientFactory(
+                new DynamoDbClientSettings(UNREACHABLE_ENDPOINT, Region.EU_WEST_3, "WorkshopUsers", false));
+
+        try (DynamoDbClient client = factory.createClient()) {
+            assertThat(client.serviceName()).isEqualTo(DynamoDbClient.SERVICE_NAME);
+        }
+
+        assertThat(factory.lastTimings().phaseNanos()).containsOnlyKeys("region", "credentials", "httpClient", "client");
+        assertThat(factory.lastTimings().totalNanos()).isPositive();
+    }
+
+    @Test
+    void shouldNotFailInitWhenPreWarmCannotReachEndpoint() {
+        DynamoDbClientFactory factory = new DynamoDbClientFactory(
+                new DynamoDbClientSettings(UNREACHABLE_ENDPOINT, Region.EU_WEST_3, "WorkshopUsers", true));
+
+        try (DynamoDbAsyncClient client = factory.createAsyncClient()) {
+            assertThat(client).isNotNull();
+        }
+
+        assertThat(factory.lastTimings().phaseNanos()).containsKey("preWarm");
+        assertThat(factory.lastTimings().toString()).contains("preWarm=").endsWith("ms");
+    }
+
+    @Test
+    void shouldRejectMissingSettings() {
+        assertThatThrownBy(() -> new DynamoDbClientFactory(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
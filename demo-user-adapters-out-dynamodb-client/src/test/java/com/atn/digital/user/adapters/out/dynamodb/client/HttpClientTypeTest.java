@@ -0,0 +1,61 @@
+package com.atn.digital.user.adapters.out.dynamodb.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpClientTypeTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(HttpClientType.SYNC_PROPERTY_NAME);
+        System.clearProperty(HttpClientType.ASYNC_PROPERTY_NAME);
+    }
+
+    @Test
+    void shouldDefaultToUrlConnectionAndNetty() {
+        assertThat(HttpClientType.syncFromEnvironment()).isEqualTo(HttpClientType.URL_CONNECTION);
+        assertThat(HttpClientType.asyncFromEnvironment()).isEqualTo(HttpClientType.NETTY);
+    }
+
+    @Test
+    void shouldReadTypesFromEnvironment() {
+        System.setProperty(HttpClientType.SYNC_PROPERTY_NAME, " apache ");
+        System.setProperty(HttpClientType.ASYNC_PROPERTY_NAME, "crt");
+
+        DynamoDbClientSettings settings = DynamoDbClientSettings.fromEnvironment("WorkshopUsers");
+
+        assertThat(settings.syncHttpClient()).isEqualTo(HttpClientType.APACHE);
+        assertThat(settings.asyncHttpClient()).isEqualTo(HttpClientType.CRT);
+    }
+
+    @Test
+    void shouldRejectTypeOfWrongKind() {
+        System.setProperty(HttpClientType.SYNC_PROPERTY_NAME, "NETTY");
+
+        assertThatThrownBy(HttpClientType::syncFromEnvironment)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(HttpClientType.SYNC_PROPERTY_NAME);
+        assertThatThrownBy(HttpClientType.CRT::syncHttpClient)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldBuildEveryHttpClient() {
+        for (HttpClientType type : HttpClientType.values()) {
+            if (type.isAsync()) {
+                try (SdkAsyncHttpClient client = type.asyncHttpClient()) {
+                    assertThat(client).isNotNull();
+                }
+            } else {
+                try (SdkHttpClient client = type.syncHttpClient()) {
+                    assertThat(client).isNotNull();
+                }
+            }
+        }
+    }
+}
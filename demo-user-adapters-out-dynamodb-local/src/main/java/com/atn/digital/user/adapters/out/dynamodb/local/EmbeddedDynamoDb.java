@@ -0,0 +1,173 @@
+package com.atn.digital.user.adapters.out.dynamodb.local;
+
+import com.amazonaws.services.dynamodbv2.local.main.ServerRunner;
+import com.amazonaws.services.dynamodbv2.local.server.DynamoDBProxyServer;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientFactory;
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import com.atn.digital.user.adapters.out.dynamodb.client.UserTableBootstrap;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DynamoDB Local served from the current JVM, in memory, on a free port of the loopback interface: the stand-in
+ * for the {@code amazon/dynamodb-local} container when there is no Docker, and for AWS when there is no account.
+ * <p>
+ * {@link #useAsLocalDynamoDb(String)} points the applications at it exactly as a local run does, through the
+ * {@code LOCAL_DYNAMODB_URI} and {@code USER_TABLE} system properties, so every module picks it up without code of
+ * its own. The properties it changed are put back on {@link #close()}.
+ *
+ * <pre>
+ * try (EmbeddedDynamoDb dynamoDb = EmbeddedDynamoDb.start()) {
+ *     dynamoDb.useAsLocalDynamoDb("WorkshopUsers");
+ *     ...
+ * }
+ * </pre>
+ */
+public final class EmbeddedDynamoDb implements AutoCloseable {
+
+    public static final String DEFAULT_REGION = "eu-west-1";
+
+    private static final String SQLITE4JAVA_LIBRARY_PATH = "sqlite4java.library.path";
+    private static final List<String> SQLITE4JAVA_NATIVES = List.of(
+            "libsqlite4java-linux-amd64.so",
+            "libsqlite4java-linux-i386.so",
+            "libsqlite4java-osx.dylib",
+            "sqlite4java-win32-x64.dll",
+            "sqlite4java-win32-x86.dll");
+
+    private final DynamoDBProxyServer server;
+    private final URI endpoint;
+    private final Map<String, String> replacedProperties = new HashMap<>();
+
+    private EmbeddedDynamoDb(DynamoDBProxyServer server, URI endpoint) {
+        this.server = server;
+        this.endpoint = endpoint;
+    }
+
+    public static EmbeddedDynamoDb start() {
+        return start(freePort());
+    }
+
+    public static EmbeddedDynamoDb start(int port) {
+        if (System.getProperty(SQLITE4JAVA_LIBRARY_PATH) == null) {
+            System.setProperty(SQLITE4JAVA_LIBRARY_PATH, NativesHolder.DIRECTORY.toString());
+        }
+        try {
+            DynamoDBProxyServer server = ServerRunner.createServerFromCommandLineArgs(
+                    new String[] {"-inMemory", "-port", Integer.toString(port)});
+            server.start();
+            return new EmbeddedDynamoDb(server, URI.create("http://localhost:" + port));
+        } catch (Exception e) {
+            throw new IllegalStateException("Couldn't start DynamoDB Local on port " + port, e);
+        }
+    }
+
+    public URI endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * A client of this server, whatever the environment says about endpoints and regions.
+     */
+    public DynamoDbClient createClient() {
+        return new DynamoDbClientFactory(new DynamoDbClientSettings(endpoint, Region.of(region()), null, false))
+                .createClient();
+    }
+
+    /**
+     * Creates the table when missing and makes it the one of the applications started from now on: sets
+     * {@code LOCAL_DYNAMODB_URI} and {@code USER_TABLE}, plus a region and dummy credentials when the environment
+     * has none, since DynamoDB Local accepts any.
+     */
+    public EmbeddedDynamoDb useAsLocalDynamoDb(String tableName) {
+        replaceProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY, endpoint.toString());
+        replaceProperty("USER_TABLE", tableName);
+        if (System.getProperty("aws.region") == null && System.getenv("AWS_REGION") == null) {
+            replaceProperty("aws.region", DEFAULT_REGION);
+        }
+        if (System.getProperty("aws.accessKeyId") == null && System.getenv("AWS_ACCESS_KEY_ID") == null) {
+            replaceProperty("aws.accessKeyId", "local");
+            replaceProperty("aws.secretAccessKey", "local");
+        }
+        try (DynamoDbClient client = createClient()) {
+            UserTableBootstrap.createIfMissing(client, tableName);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        replacedProperties.forEach((name, value) -> {
+            if (value == null) {
+                System.clearProperty(name);
+            } else {
+                System.setProperty(name, value);
+            }
+        });
+        replacedProperties.clear();
+        try {
+            server.stop();
+        } catch (Exception e) {
+            throw new IllegalStateException("Couldn't stop DynamoDB Local at " + endpoint, e);
+        }
+    }
+
+    private void replaceProperty(String name, String value) {
+        String previous = System.setProperty(name, value);
+        replacedProperties.putIfAbsent(name, previous);
+    }
+
+    private static String region() {
+        String region = System.getProperty("aws.region", System.getenv("AWS_REGION"));
+        return region == null || region.isBlank() ? DEFAULT_REGION : region.trim();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * sqlite4java loads its native library from a directory, so the copies packaged with this class are extracted
+     * once per JVM.
+     */
+    private static final class NativesHolder {
+
+        private static final Path DIRECTORY = extract();
+
+        private static Path extract() {
+            try {
+                Path directory = Files.createTempDirectory("sqlite4java");
+                directory.toFile().deleteOnExit();
+                for (String library : SQLITE4JAVA_NATIVES) {
+                    try (InputStream input = EmbeddedDynamoDb.class.getResourceAsStream("/sqlite4java/" + library)) {
+                        if (input != null) {
+                            Path target = directory.resolve(library);
+                            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+                            target.toFile().deleteOnExit();
+                        }
+                    }
+                }
+                return directory;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Couldn't extract the native libraries of sqlite4java", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.atn.digital.user.adapters.out.dynamodb.local;
+
+import com.atn.digital.user.adapters.out.dynamodb.client.DynamoDbClientSettings;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedDynamoDbTest {
+
+    @Test
+    void shouldServeUserTableAndRestorePropertiesOnClose() {
+        String previousTable = System.getProperty("USER_TABLE");
+        Map<String, AttributeValue> item = Map.of(
+                "id", AttributeValue.builder().s("0001").build(),
+                "email", AttributeValue.builder().s("homer.simpson@unit.test").build());
+
+        try (EmbeddedDynamoDb dynamoDb = EmbeddedDynamoDb.start().useAsLocalDynamoDb("EmbeddedUsers")) {
+            assertThat(System.getProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY))
+                    .isEqualTo(dynamoDb.endpoint().toString());
+            assertThat(System.getProperty("USER_TABLE")).isEqualTo("EmbeddedUsers");
+
+            try (DynamoDbClient client = dynamoDb.createClient()) {
+                client.putItem(PutItemRequest.builder().tableName("EmbeddedUsers").item(item).build());
+
+                assertThat(client.getItem(GetItemRequest.builder()
+                        .tableName("EmbeddedUsers")
+                        .key(Map.of("id", item.get("id")))
+                        .build()).item()).isEqualTo(item);
+            }
+        }
+
+        assertThat(System.getProperty(DynamoDbClientSettings.LOCAL_ENDPOINT_PROPERTY)).isNull();
+        assertThat(System.getProperty("USER_TABLE")).isEqualTo(previousTable);
+    }
+}
@@ -0,0 +1,249 @@
+package com.atn.digital.user.adapters.out.persistence.cache;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserAsyncRepository;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through, write-through cache in front of another {@link UserRepository}.
+ * Entries are bounded in number (least recently used goes first) and expire after a fixed time to live.
+ * Users registered through this instance are cached right away so a GET following the POST stays local.
+ * Unknown ids are never cached, so a user registered by another instance becomes visible on the next lookup.
+ * {@link #async(UserAsyncRepository)} puts the same cache in front of a non-blocking repository.
+ */
+public class CachingUserRepository extends UserRepository {
+
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+
+    private final UserRepository delegate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<UserId, CacheEntry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CachingUserRepository(UserRepository delegate) {
+        this(delegate, DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    public CachingUserRepository(UserRepository delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, System::nanoTime);
+    }
+
+    CachingUserRepository(UserRepository delegate, int maxSize, Duration ttl, LongSupplier ticker) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate expected to be not null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize expected to be greater than 0");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl expected to be greater than 0");
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UserId, CacheEntry> eldest) {
+                boolean evict = size() > CachingUserRepository.this.maxSize;
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public UserId registerNewUser(User user) {
+        UserId userId = delegate.registerNewUser(user);
+        if (userId != null) {
+            store(userId, User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+        }
+        return userId;
+    }
+
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        List<UserId> userIds = delegate.registerNewUsers(users);
+        for (int i = 0; i < userIds.size(); i++) {
+            User user = users.get(i);
+            UserId userId = userIds.get(i);
+            store(userId, User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+        }
+        return userIds;
+    }
+
+    @Override
+    public User findByUserId(UserId userId) {
+        User cached = lookup(userId);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+        User user = delegate.findByUserId(userId);
+        if (user != null) {
+            store(userId, user);
+        }
+        return user;
+    }
+
+    /**
+     * Users come back in the order of {@code userIds}, unknown ids left out, whether they were cached or fetched.
+     */
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        Map<UserId, User> found = new HashMap<>();
+        List<UserId> missingIds = new ArrayList<>();
+        for (UserId userId : userIds) {
+            User cached = lookup(userId);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                found.put(userId, cached);
+            } else {
+                missCount.incrementAndGet();
+                missingIds.add(userId);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            for (User user : delegate.findByUserIds(missingIds)) {
+                if (user != null && user.getId().isPresent()) {
+                    store(user.getId().get(), user);
+                    found.put(user.getId().get(), user);
+                }
+            }
+        }
+        List<User> users = new ArrayList<>(found.size());
+        for (UserId userId : userIds) {
+            User user = found.get(userId);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * A non-blocking view of this cache in front of {@code asyncDelegate}, which should store its users where the
+     * blocking delegate does: entries and statistics are shared, so a user registered through one is found by the
+     * other without a call to the store.
+     */
+    public UserAsyncRepository async(UserAsyncRepository asyncDelegate) {
+        if (asyncDelegate == null) {
+            throw new IllegalArgumentException("asyncDelegate expected to be not null");
+        }
+        return new AsyncView(asyncDelegate);
+    }
+
+    public UserRepository getDelegate() {
+        return delegate;
+    }
+
+    private User lookup(UserId key) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ticker.getAsLong() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                return null;
+            }
+            return entry.user;
+        }
+    }
+
+    void store(UserId key, User user) {
+        CacheEntry entry = new CacheEntry(user, ticker.getAsLong() + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public void invalidate(UserId userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private record CacheEntry(User user, long expiresAt) {
+    }
+
+    private final class AsyncView extends UserAsyncRepository {
+
+        private final UserAsyncRepository asyncDelegate;
+
+        private AsyncView(UserAsyncRepository asyncDelegate) {
+            this.asyncDelegate = asyncDelegate;
+        }
+
+        @Override
+        public CompletableFuture<UserId> registerNewUser(User user) {
+            return asyncDelegate.registerNewUser(user).thenApply(userId -> {
+                if (userId != null) {
+                    store(userId, User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+                }
+                return userId;
+            });
+        }
+
+        @Override
+        public CompletableFuture<User> findByUserId(UserId userId) {
+            User cached = lookup(userId);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return CompletableFuture.completedFuture(cached);
+            }
+            missCount.incrementAndGet();
+            return asyncDelegate.findByUserId(userId).thenApply(user -> {
+                if (user != null) {
+                    store(userId, user);
+                }
+                return user;
+            });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserAsyncRepository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDbUserRepository}: calls go through {@link DynamoDbAsyncClient}
+ * and complete on the SDK's event loop, so the calling thread is released while DynamoDB answers.
+ * Keep continuations on the returned futures short, or move them to another executor.
+ * Build it with {@link DynamoDbUserRepository#async(DynamoDbAsyncClient)} to share the recent writes of a blocking
+ * repository, so reads on either side are consistent after writes on the other.
+ */
+public class DynamoDbAsyncUserRepository extends UserAsyncRepository {
+
+    private final DynamoDbAsyncTable<UserEntity> userTable;
+    private final UserEntityMapper mapper = new UserEntityMapper();
+    private final RecentWrites recentWrites;
+    private final UserIdGenerator idGenerator;
+
+    public DynamoDbAsyncUserRepository(DynamoDbAsyncClient client) {
+        this(client, DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW);
+    }
+
+    public DynamoDbAsyncUserRepository(DynamoDbAsyncClient client, Duration consistentReadWindow) {
+        this(client, consistentReadWindow, UserTableSchema.fromEnvironment());
+    }
+
+    public DynamoDbAsyncUserRepository(DynamoDbAsyncClient client, Duration consistentReadWindow, UserTableSchema tableSchema) {
+        this(client, consistentReadWindow, tableSchema, UserIdGenerator.defaultGenerator());
+    }
+
+    public DynamoDbAsyncUserRepository(DynamoDbAsyncClient client, Duration consistentReadWindow, UserTableSchema tableSchema,
+                                       UserIdGenerator idGenerator) {
+        this(client, tableSchema, idGenerator, new RecentWrites(consistentReadWindow));
+    }
+
+    DynamoDbAsyncUserRepository(DynamoDbAsyncClient client, UserTableSchema tableSchema, UserIdGenerator idGenerator,
+                                RecentWrites recentWrites) {
+        this.idGenerator = idGenerator;
+        this.recentWrites = recentWrites;
+        DynamoDbEnhancedAsyncClient enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                .dynamoDbClient(client)
+                .build();
+        userTable = enhancedClient.table(System.getProperty("USER_TABLE"), tableSchema.tableSchema());
+    }
+
+    public CompletableFuture<UserId> registerNewUser(User user) {
+        var userId = idGenerator.nextId();
+        User dbUser = User.withId(
+                userId,
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail());
+        return userTable.putItem(mapper.toUserEntity(dbUser)).thenApply(ignored -> {
+            recentWrites.record(userId);
+            return userId;
+        });
+    }
+
+    public CompletableFuture<User> findByUserId(UserId userId) {
+        Key key = Key.builder().partitionValue(userId.getId()).build();
+        return userTable.getItem(GetItemEnhancedRequest.builder()
+                        .key(key)
+                        .consistentRead(recentWrites.contains(userId))
+                        .build())
+                .thenApply(mapper::toUser);
+    }
+}
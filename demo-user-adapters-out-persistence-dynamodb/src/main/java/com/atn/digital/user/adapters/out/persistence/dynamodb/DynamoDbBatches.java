@@ -0,0 +1,116 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class DynamoDbBatches {
+
+    static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_MILLIS = 25;
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+    private static final int THREAD_COUNT = 8;
+
+    private DynamoDbBatches() {}
+
+    static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return chunks;
+    }
+
+    static <T, R> List<R> inParallel(List<T> chunks, Function<T, R> task) {
+        if (chunks.size() == 1) {
+            return List.of(task.apply(chunks.get(0)));
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(chunks.size());
+        for (T chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(chunk), ExecutorHolder.EXECUTOR));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Writes {@code items} in chunks of {@code size}, in parallel, {@code ids.get(i)} being the id of
+     * {@code items.get(i)}. The ids of a chunk go to {@code onWritten} as soon as that chunk is written, so a chunk
+     * that fails doesn't hide the ones that made it: the exception then names the users that were registered.
+     */
+    static <T> void writeInParallel(List<UserId> ids, List<T> items, int size, Consumer<List<T>> write,
+                                    Consumer<UserId> onWritten) {
+        List<List<UserId>> idChunks = partition(ids, size);
+        List<List<T>> itemChunks = partition(items, size);
+        List<UserId> written = Collections.synchronizedList(new ArrayList<>(ids.size()));
+        try {
+            inParallel(IntStream.range(0, idChunks.size()).boxed().toList(), chunk -> {
+                write.accept(itemChunks.get(chunk));
+                idChunks.get(chunk).forEach(onWritten);
+                written.addAll(idChunks.get(chunk));
+                return chunk;
+            });
+        } catch (RuntimeException e) {
+            if (written.isEmpty()) {
+                throw e;
+            }
+            String writtenIds;
+            synchronized (written) {
+                writtenIds = written.stream().map(UserId::getId).collect(Collectors.joining(","));
+            }
+            throw new IllegalStateException("Registered " + written.size() + " of " + ids.size()
+                    + " users before failing (" + e.getMessage() + "): " + writtenIds, e);
+        }
+    }
+
+    static void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed batch items", e);
+        }
+    }
+
+    private static final class ExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREAD_COUNT, new DaemonThreadFactory());
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "dynamodb-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
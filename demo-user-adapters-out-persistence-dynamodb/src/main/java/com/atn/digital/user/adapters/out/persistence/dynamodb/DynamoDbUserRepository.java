@@ -1,46 +1,192 @@
 package com.atn.digital.user.adapters.out.persistence.dynamodb;
 
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
 import com.atn.digital.user.domain.models.User;
 import com.atn.digital.user.domain.models.User.UserId;
 import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
-import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public class DynamoDbUserRepository extends UserRepository {
 
+    public static final Duration DEFAULT_CONSISTENT_READ_WINDOW = Duration.ofSeconds(10);
+    static final String PARTITION_KEY = "id";
+
+    static final int MAX_BATCH_WRITE_ITEMS = 25;
+    static final int MAX_BATCH_GET_KEYS = 100;
+
+    private final DynamoDbClient client;
+    private final DynamoDbEnhancedClient enhancedClient;
     private final DynamoDbTable<UserEntity> userTable;
     private final UserEntityMapper mapper = new UserEntityMapper();
+    private final RecentWrites recentWrites;
+    private final UserIdGenerator idGenerator;
+    private final UserTableSchema tableSchema;
 
     public DynamoDbUserRepository(DynamoDbClient client) {
-        userTable = DynamoDbEnhancedClient.builder()
+        this(client, DEFAULT_CONSISTENT_READ_WINDOW);
+    }
+
+    public DynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow) {
+        this(client, consistentReadWindow, UserTableSchema.fromEnvironment());
+    }
+
+    public DynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow, UserTableSchema tableSchema) {
+        this(client, consistentReadWindow, tableSchema, UserIdGenerator.defaultGenerator());
+    }
+
+    public DynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow, UserTableSchema tableSchema,
+                                  UserIdGenerator idGenerator) {
+        this.client = client;
+        this.idGenerator = idGenerator;
+        this.tableSchema = tableSchema;
+        enhancedClient = DynamoDbEnhancedClient.builder()
                 .dynamoDbClient(client)
-                .build()
-                .table(System.getProperty("USER_TABLE"), TableSchema.fromBean(UserEntity.class));
+                .build();
+        userTable = enhancedClient.table(System.getProperty("USER_TABLE"), tableSchema.tableSchema());
+        recentWrites = new RecentWrites(consistentReadWindow);
+    }
+
+    /**
+     * A non-blocking repository on the same table that shares this one's recent writes: a read on either side after
+     * a write on the other is strongly consistent.
+     */
+    public DynamoDbAsyncUserRepository async(DynamoDbAsyncClient asyncClient) {
+        return new DynamoDbAsyncUserRepository(asyncClient, tableSchema, idGenerator, recentWrites);
     }
 
     public UserId registerNewUser(User user) {
-        var userId = new UserId(UUID.randomUUID().toString());
+        var userId = idGenerator.nextId();
         User dbUser = User.withId(
                 userId,
                 user.getFirstName(),
                 user.getLastName(),
                 user.getEmail());
         userTable.putItem(mapper.toUserEntity(dbUser));
+        recordWrite(userId);
         return userId;
     }
 
-    UserEntity findByUserId(String id) {
-        Key key = Key.builder().partitionValue(id).build();
-        return userTable.getItem(key);
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        List<UserId> userIds = new ArrayList<>(users.size());
+        List<UserEntity> entities = new ArrayList<>(users.size());
+        for (User user : users) {
+            var userId = idGenerator.nextId();
+            userIds.add(userId);
+            entities.add(mapper.toUserEntity(User.withId(
+                    userId,
+                    user.getFirstName(),
+                    user.getLastName(),
+                    user.getEmail())));
+        }
+        DynamoDbBatches.writeInParallel(userIds, entities, MAX_BATCH_WRITE_ITEMS, this::writeBatch, this::recordWrite);
+        return userIds;
+    }
+
+    private int writeBatch(List<UserEntity> entities) {
+        List<UserEntity> pending = entities;
+        for (int attempt = 1; ; attempt++) {
+            WriteBatch.Builder<UserEntity> batch = WriteBatch.builder(UserEntity.class).mappedTableResource(userTable);
+            pending.forEach(batch::addPutItem);
+            BatchWriteResult result = enhancedClient.batchWriteItem(BatchWriteItemEnhancedRequest.builder()
+                    .writeBatches(batch.build())
+                    .build());
+            pending = result.unprocessedPutItemsForTable(userTable);
+            if (pending.isEmpty()) {
+                return entities.size();
+            }
+            if (attempt == DynamoDbBatches.MAX_ATTEMPTS) {
+                throw new IllegalStateException("Couldn't write " + pending.size() + " users after "
+                        + attempt + " attempts");
+            }
+            DynamoDbBatches.backoff(attempt);
+        }
     }
 
     public User findByUserId(UserId userId) {
-        UserEntity userEntity = findByUserId(userId.getId());
+        Key key = Key.builder().partitionValue(userId.getId()).build();
+        UserEntity userEntity = userTable.getItem(GetItemEnhancedRequest.builder()
+                .key(key)
+                .consistentRead(isRecentlyWritten(userId))
+                .build());
         return mapper.toUser(userEntity);
     }
+
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        List<UserId> ids = userIds.stream().distinct().toList();
+        List<User> users = new ArrayList<>(ids.size());
+        for (List<UserEntity> entities : DynamoDbBatches.inParallel(
+                DynamoDbBatches.partition(ids, MAX_BATCH_GET_KEYS), this::readBatch)) {
+            entities.forEach(entity -> users.add(mapper.toUser(entity)));
+        }
+        return users;
+    }
+
+    private List<UserEntity> readBatch(List<UserId> ids) {
+        String tableName = userTable.tableName();
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(ids.size());
+        boolean consistentRead = false;
+        for (UserId id : ids) {
+            keys.add(Map.of(PARTITION_KEY, AttributeValue.builder().s(id.getId()).build()));
+            consistentRead |= isRecentlyWritten(id);
+        }
+        KeysAndAttributes pending = KeysAndAttributes.builder()
+                .keys(keys)
+                .consistentRead(consistentRead)
+                .build();
+        List<UserEntity> entities = new ArrayList<>(ids.size());
+        for (int attempt = 1; ; attempt++) {
+            BatchGetItemResponse response = client.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(Map.of(tableName, pending))
+                    .build());
+            response.responses().getOrDefault(tableName, List.of())
+                    .forEach(item -> entities.add(userTable.tableSchema().mapToItem(item)));
+            pending = response.unprocessedKeys().get(tableName);
+            if (pending == null || pending.keys().isEmpty()) {
+                return entities;
+            }
+            if (attempt == DynamoDbBatches.MAX_ATTEMPTS) {
+                throw new IllegalStateException("Couldn't read " + pending.keys().size() + " users after "
+                        + attempt + " attempts");
+            }
+            DynamoDbBatches.backoff(attempt);
+        }
+    }
+
+    public Stream<String> scanUserIds() {
+        return userTable.scan(ScanEnhancedRequest.builder()
+                        .attributesToProject(PARTITION_KEY)
+                        .build())
+                .items()
+                .stream()
+                .map(UserEntity::getId);
+    }
+
+    private void recordWrite(UserId id) {
+        recentWrites.record(id);
+    }
+
+    boolean isRecentlyWritten(UserId id) {
+        return recentWrites.contains(id);
+    }
 }
@@ -0,0 +1,184 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Same table, same items and same consistency rules as {@link DynamoDbUserRepository}, but built on
+ * {@link DynamoDbClient} alone: users are mapped to {@link AttributeValue} maps by hand instead of going
+ * through the enhanced client, its table schema and {@link UserEntityMapper} on every call.
+ * With {@link UserIdKeyFormat#BINARY} the partition key is stored as 16 bytes instead, which needs its own table.
+ */
+public class LowLevelDynamoDbUserRepository extends UserRepository {
+
+    private final DynamoDbClient client;
+    private final String tableName;
+    private final RecentWrites recentWrites;
+    private final UserIdGenerator idGenerator;
+    private final UserIdKeyFormat keyFormat;
+
+    public LowLevelDynamoDbUserRepository(DynamoDbClient client) {
+        this(client, DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW);
+    }
+
+    public LowLevelDynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow) {
+        this(client, consistentReadWindow, UserIdGenerator.defaultGenerator());
+    }
+
+    public LowLevelDynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow,
+                                          UserIdGenerator idGenerator) {
+        this(client, consistentReadWindow, idGenerator, UserIdKeyFormat.fromEnvironment());
+    }
+
+    public LowLevelDynamoDbUserRepository(DynamoDbClient client, Duration consistentReadWindow,
+                                          UserIdGenerator idGenerator, UserIdKeyFormat keyFormat) {
+        this.client = client;
+        this.idGenerator = idGenerator;
+        this.keyFormat = keyFormat;
+        tableName = System.getProperty("USER_TABLE");
+        recentWrites = new RecentWrites(consistentReadWindow);
+    }
+
+    @Override
+    public UserId registerNewUser(User user) {
+        var userId = idGenerator.nextId();
+        client.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(UserItemMapper.toItem(User.withId(
+                        userId,
+                        user.getFirstName(),
+                        user.getLastName(),
+                        user.getEmail()), keyFormat))
+                .build());
+        recentWrites.record(userId);
+        return userId;
+    }
+
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        List<UserId> userIds = new ArrayList<>(users.size());
+        List<WriteRequest> writes = new ArrayList<>(users.size());
+        for (User user : users) {
+            var userId = idGenerator.nextId();
+            userIds.add(userId);
+            writes.add(WriteRequest.builder()
+                    .putRequest(PutRequest.builder()
+                            .item(UserItemMapper.toItem(User.withId(
+                                    userId,
+                                    user.getFirstName(),
+                                    user.getLastName(),
+                                    user.getEmail()), keyFormat))
+                            .build())
+                    .build());
+        }
+        DynamoDbBatches.writeInParallel(userIds, writes, DynamoDbUserRepository.MAX_BATCH_WRITE_ITEMS,
+                this::writeBatch, recentWrites::record);
+        return userIds;
+    }
+
+    private int writeBatch(List<WriteRequest> writes) {
+        List<WriteRequest> pending = writes;
+        for (int attempt = 1; ; attempt++) {
+            BatchWriteItemResponse response = client.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(Map.of(tableName, pending))
+                    .build());
+            pending = response.unprocessedItems().getOrDefault(tableName, List.of());
+            if (pending.isEmpty()) {
+                return writes.size();
+            }
+            if (attempt == DynamoDbBatches.MAX_ATTEMPTS) {
+                throw new IllegalStateException("Couldn't write " + pending.size() + " users after "
+                        + attempt + " attempts");
+            }
+            DynamoDbBatches.backoff(attempt);
+        }
+    }
+
+    @Override
+    public User findByUserId(UserId userId) {
+        if (!keyFormat.canStore(userId)) {
+            return null;
+        }
+        return UserItemMapper.toUser(client.getItem(GetItemRequest.builder()
+                        .tableName(tableName)
+                        .key(UserItemMapper.toKey(userId, keyFormat))
+                        .consistentRead(recentWrites.contains(userId))
+                        .build())
+                .item(), keyFormat);
+    }
+
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        List<UserId> ids = userIds.stream().filter(keyFormat::canStore).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<User> users = new ArrayList<>(ids.size());
+        for (List<User> batch : DynamoDbBatches.inParallel(
+                DynamoDbBatches.partition(ids, DynamoDbUserRepository.MAX_BATCH_GET_KEYS), this::readBatch)) {
+            users.addAll(batch);
+        }
+        return users;
+    }
+
+    private List<User> readBatch(List<UserId> ids) {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(ids.size());
+        boolean consistentRead = false;
+        for (UserId id : ids) {
+            keys.add(UserItemMapper.toKey(id, keyFormat));
+            consistentRead |= recentWrites.contains(id);
+        }
+        KeysAndAttributes pending = KeysAndAttributes.builder()
+                .keys(keys)
+                .consistentRead(consistentRead)
+                .build();
+        List<User> users = new ArrayList<>(ids.size());
+        for (int attempt = 1; ; attempt++) {
+            BatchGetItemResponse response = client.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(Map.of(tableName, pending))
+                    .build());
+            response.responses().getOrDefault(tableName, List.of())
+                    .forEach(item -> users.add(UserItemMapper.toUser(item, keyFormat)));
+            pending = response.unprocessedKeys().get(tableName);
+            if (pending == null || pending.keys().isEmpty()) {
+                return users;
+            }
+            if (attempt == DynamoDbBatches.MAX_ATTEMPTS) {
+                throw new IllegalStateException("Couldn't read " + pending.keys().size() + " users after "
+                        + attempt + " attempts");
+            }
+            DynamoDbBatches.backoff(attempt);
+        }
+    }
+
+    public Stream<String> scanUserIds() {
+        return client.scanPaginator(ScanRequest.builder()
+                        .tableName(tableName)
+                        .projectionExpression("#id")
+                        .expressionAttributeNames(Map.of("#id", DynamoDbUserRepository.PARTITION_KEY))
+                        .build())
+                .items()
+                .stream()
+                .map(item -> keyFormat.toUserId(item.get(DynamoDbUserRepository.PARTITION_KEY)).getId());
+    }
+}
@@ -0,0 +1,57 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the ids this instance wrote during the last few seconds, so reads of those ids can ask
+ * DynamoDB for a strongly consistent result while every other read stays eventually consistent.
+ */
+final class RecentWrites {
+
+    private static final int MAX_TRACKED_WRITES = 1_024;
+
+    private final long windowNanos;
+    private final Map<UserId, Long> writes = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UserId, Long> eldest) {
+            return size() > MAX_TRACKED_WRITES;
+        }
+    };
+
+    RecentWrites(Duration window) {
+        windowNanos = window.toNanos();
+    }
+
+    void record(UserId id) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (writes) {
+            writes.remove(id);
+            writes.put(id, now);
+        }
+    }
+
+    boolean contains(UserId id) {
+        if (windowNanos <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        synchronized (writes) {
+            Long writtenAt = writes.get(id);
+            if (writtenAt == null) {
+                return false;
+            }
+            if (now - writtenAt >= windowNanos) {
+                writes.remove(id);
+                return false;
+            }
+            return true;
+        }
+    }
+}
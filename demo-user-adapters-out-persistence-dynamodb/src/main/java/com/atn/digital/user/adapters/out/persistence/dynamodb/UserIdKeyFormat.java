@@ -0,0 +1,74 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User.UserId;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+/**
+ * How {@link LowLevelDynamoDbUserRepository} writes the partition key.
+ * {@link #STRING} is the 36 character UUID the enhanced client repositories use; {@link #BINARY} is the 16 bytes
+ * of a compact {@link UserId}, which halves the key size but needs a table whose {@code id} attribute is of type B.
+ * The choice is read from the {@code USER_ID_KEY_FORMAT} system property or environment variable.
+ */
+public enum UserIdKeyFormat {
+
+    STRING(ScalarAttributeType.S) {
+        @Override
+        AttributeValue toAttributeValue(UserId userId) {
+            return AttributeValue.builder().s(userId.getId()).build();
+        }
+
+        @Override
+        UserId toUserId(AttributeValue value) {
+            return new UserId(value.s());
+        }
+    },
+    BINARY(ScalarAttributeType.B) {
+        @Override
+        AttributeValue toAttributeValue(UserId userId) {
+            return AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(userId.toBytes())).build();
+        }
+
+        @Override
+        UserId toUserId(AttributeValue value) {
+            return UserId.fromBytes(value.b().asByteArrayUnsafe());
+        }
+
+        @Override
+        boolean canStore(UserId userId) {
+            return userId.isCompact();
+        }
+    };
+
+    public static final String PROPERTY_NAME = "USER_ID_KEY_FORMAT";
+
+    private final ScalarAttributeType attributeType;
+
+    UserIdKeyFormat(ScalarAttributeType attributeType) {
+        this.attributeType = attributeType;
+    }
+
+    public ScalarAttributeType attributeType() {
+        return attributeType;
+    }
+
+    abstract AttributeValue toAttributeValue(UserId userId);
+
+    abstract UserId toUserId(AttributeValue value);
+
+    /**
+     * Ids that cannot be written in this format cannot be in the table either, so lookups skip them.
+     */
+    boolean canStore(UserId userId) {
+        return true;
+    }
+
+    public static UserIdKeyFormat fromEnvironment() {
+        String value = System.getProperty(PROPERTY_NAME, System.getenv(PROPERTY_NAME));
+        if (value == null || value.isBlank()) {
+            return STRING;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+}
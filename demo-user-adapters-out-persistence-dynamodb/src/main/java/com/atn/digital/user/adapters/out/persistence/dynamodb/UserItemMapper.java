@@ -0,0 +1,57 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps a {@link User} straight to the DynamoDB item written by {@link UserTableSchema}, and back.
+ * Null attributes are left out of the item, like the enhanced client does when it puts an item.
+ * The partition key is written in the given {@link UserIdKeyFormat}.
+ */
+final class UserItemMapper {
+
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String EMAIL = "email";
+
+    private UserItemMapper() {}
+
+    static Map<String, AttributeValue> toItem(User user, UserIdKeyFormat keyFormat) {
+        Map<String, AttributeValue> item = new HashMap<>(8);
+        item.put(DynamoDbUserRepository.PARTITION_KEY, keyFormat.toAttributeValue(user.getId().get()));
+        put(item, FIRST_NAME, user.getFirstName());
+        put(item, LAST_NAME, user.getLastName());
+        put(item, EMAIL, user.getEmail());
+        return item;
+    }
+
+    static Map<String, AttributeValue> toKey(UserId userId, UserIdKeyFormat keyFormat) {
+        return Map.of(DynamoDbUserRepository.PARTITION_KEY, keyFormat.toAttributeValue(userId));
+    }
+
+    static User toUser(Map<String, AttributeValue> item, UserIdKeyFormat keyFormat) {
+        if (item == null || item.isEmpty()) {
+            return null;
+        }
+        return User.withId(
+                keyFormat.toUserId(item.get(DynamoDbUserRepository.PARTITION_KEY)),
+                get(item, FIRST_NAME),
+                get(item, LAST_NAME),
+                get(item, EMAIL));
+    }
+
+    private static void put(Map<String, AttributeValue> item, String name, String value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().s(value).build());
+        }
+    }
+
+    private static String get(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null || Boolean.TRUE.equals(value.nul()) ? null : value.s();
+    }
+}
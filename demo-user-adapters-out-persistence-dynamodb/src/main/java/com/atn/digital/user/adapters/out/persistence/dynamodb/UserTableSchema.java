@@ -0,0 +1,65 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+/**
+ * The ways the repositories can map {@link UserEntity} to DynamoDB items.
+ * {@link #BEAN} introspects the annotated bean and spins up lambda factories the first time it is used;
+ * {@link #STATIC} is declared by hand with plain method references, which keeps that work off the cold start.
+ * The choice is read from the {@code USER_TABLE_SCHEMA} system property or environment variable.
+ */
+public enum UserTableSchema {
+
+    BEAN {
+        @Override
+        public TableSchema<UserEntity> tableSchema() {
+            return BeanSchemaHolder.SCHEMA;
+        }
+    },
+    STATIC {
+        @Override
+        public TableSchema<UserEntity> tableSchema() {
+            return StaticSchemaHolder.SCHEMA;
+        }
+    };
+
+    public static final String PROPERTY_NAME = "USER_TABLE_SCHEMA";
+
+    public abstract TableSchema<UserEntity> tableSchema();
+
+    public static UserTableSchema fromEnvironment() {
+        String value = System.getProperty(PROPERTY_NAME, System.getenv(PROPERTY_NAME));
+        if (value == null || value.isBlank()) {
+            return STATIC;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    private static final class BeanSchemaHolder {
+
+        private static final TableSchema<UserEntity> SCHEMA = TableSchema.fromBean(UserEntity.class);
+    }
+
+    private static final class StaticSchemaHolder {
+
+        private static final TableSchema<UserEntity> SCHEMA = StaticTableSchema.builder(UserEntity.class)
+                .newItemSupplier(UserEntity::new)
+                .addAttribute(String.class, attribute -> attribute.name("id")
+                        .getter(UserEntity::getId)
+                        .setter(UserEntity::setId)
+                        .tags(primaryPartitionKey()))
+                .addAttribute(String.class, attribute -> attribute.name("firstName")
+                        .getter(UserEntity::getFirstName)
+                        .setter(UserEntity::setFirstName))
+                .addAttribute(String.class, attribute -> attribute.name("lastName")
+                        .getter(UserEntity::getLastName)
+                        .setter(UserEntity::setLastName))
+                .addAttribute(String.class, attribute -> attribute.name("email")
+                        .getter(UserEntity::getEmail)
+                        .setter(UserEntity::setEmail))
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.atn.digital.user.adapters.out.persistence.filter;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Answers lookups of ids unknown to a {@link UserIdBloomFilter} without calling the delegate.
+ * Only safe when the filter sees every write to the table: warm it up from a scan or a snapshot,
+ * and route every registration through this repository. Writes made by other processes after
+ * the warm-up are reported as not found until the filter is rebuilt.
+ * <p>
+ * Opt-in only: no application wires it, since none of them can guarantee it sees every write.
+ */
+public class BloomFilterUserRepository extends UserRepository {
+
+    private final UserRepository delegate;
+    private final UserIdBloomFilter filter;
+
+    private final AtomicLong definiteMissCount = new AtomicLong();
+    private final AtomicLong delegatedLookupCount = new AtomicLong();
+
+    public BloomFilterUserRepository(UserRepository delegate, UserIdBloomFilter filter) {
+        if (delegate == null || filter == null) {
+            throw new IllegalArgumentException("delegate and filter expected to be not null");
+        }
+        this.delegate = delegate;
+        this.filter = filter;
+    }
+
+    public BloomFilterUserRepository warmUp(Stream<String> knownIds) {
+        try (knownIds) {
+            knownIds.forEach(filter::put);
+        }
+        return this;
+    }
+
+    @Override
+    public UserId registerNewUser(User user) {
+        UserId userId = delegate.registerNewUser(user);
+        if (userId != null) {
+            filter.put(userId.getId());
+        }
+        return userId;
+    }
+
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        List<UserId> userIds = delegate.registerNewUsers(users);
+        userIds.forEach(userId -> filter.put(userId.getId()));
+        return userIds;
+    }
+
+    @Override
+    public User findByUserId(UserId userId) {
+        if (!filter.mightContain(userId.getId())) {
+            definiteMissCount.incrementAndGet();
+            return null;
+        }
+        delegatedLookupCount.incrementAndGet();
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        List<UserId> candidateIds = new ArrayList<>(userIds.size());
+        for (UserId userId : userIds) {
+            if (filter.mightContain(userId.getId())) {
+                candidateIds.add(userId);
+            } else {
+                definiteMissCount.incrementAndGet();
+            }
+        }
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        delegatedLookupCount.addAndGet(candidateIds.size());
+        return delegate.findByUserIds(candidateIds);
+    }
+
+    public UserIdBloomFilter getFilter() {
+        return filter;
+    }
+
+    public long getDefiniteMissCount() {
+        return definiteMissCount.get();
+    }
+
+    public long getDelegatedLookupCount() {
+        return delegatedLookupCount.get();
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        return filter.getExpectedFalsePositiveRate();
+    }
+
+    public long getMemoryBytes() {
+        return filter.getMemoryBytes();
+    }
+}
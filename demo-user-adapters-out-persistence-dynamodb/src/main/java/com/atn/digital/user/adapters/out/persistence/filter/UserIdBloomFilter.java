@@ -0,0 +1,169 @@
+package com.atn.digital.user.adapters.out.persistence.filter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of known user ids.
+ * {@link #mightContain(String)} never answers false for an id that was {@link #put(String) put},
+ * so a negative answer is a definite miss that needs no I/O.
+ */
+public class UserIdBloomFilter {
+
+    private static final int SNAPSHOT_MAGIC = 0x55424C4D;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAX_HASH_FUNCTIONS = 64;
+    private static final int MAX_WORD_COUNT = 1 << 27;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctionCount;
+    private final AtomicLong insertionCount;
+
+    private UserIdBloomFilter(long[] words, int hashFunctionCount, long insertionCount) {
+        this.words = new AtomicLongArray(words);
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashFunctionCount = hashFunctionCount;
+        this.insertionCount = new AtomicLong(insertionCount);
+    }
+
+    public static UserIdBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions expected to be greater than 0");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate expected to be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = Math.toIntExact(Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE));
+        int hashFunctions = Math.max(1, (int) Math.round((double) wordCount * Long.SIZE / expectedInsertions * ln2));
+        if (wordCount > MAX_WORD_COUNT || hashFunctions > MAX_HASH_FUNCTIONS) {
+            throw new IllegalArgumentException("expectedInsertions and falsePositiveRate need a filter larger than "
+                    + (long) MAX_WORD_COUNT * Long.BYTES + " bytes or " + MAX_HASH_FUNCTIONS + " hash functions");
+        }
+        return new UserIdBloomFilter(new long[wordCount], hashFunctions, 0);
+    }
+
+    public void put(String id) {
+        long hash1 = hash(id, 0L);
+        long hash2 = hash(id, 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctionCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+        insertionCount.incrementAndGet();
+    }
+
+    public boolean mightContain(String id) {
+        long hash1 = hash(id, 0L);
+        long hash2 = hash(id, 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashFunctionCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctionCount * insertionCount.get() / bitCount), hashFunctionCount);
+    }
+
+    public long getMemoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public long getInsertionCount() {
+        return insertionCount.get();
+    }
+
+    public int getHashFunctionCount() {
+        return hashFunctionCount;
+    }
+
+    public void writeTo(Path file) {
+        try {
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(hashFunctionCount);
+                out.writeLong(insertionCount.get());
+                out.writeInt(words.length());
+                for (int i = 0; i < words.length(); i++) {
+                    out.writeLong(words.get(i));
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't write user id filter snapshot to " + file, e);
+        }
+    }
+
+    /**
+     * The header is checked before anything is allocated: a corrupt or truncated snapshot is rejected rather than
+     * turned into a huge array, or into a filter without hash functions that would report every id as known.
+     */
+    public static UserIdBloomFilter readFrom(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException(file + " is not a user id filter snapshot");
+            }
+            int hashFunctions = in.readInt();
+            long insertions = in.readLong();
+            int wordCount = in.readInt();
+            if (hashFunctions <= 0 || hashFunctions > MAX_HASH_FUNCTIONS) {
+                throw new IllegalArgumentException(file + " has an invalid hash function count: " + hashFunctions);
+            }
+            if (insertions < 0) {
+                throw new IllegalArgumentException(file + " has an invalid insertion count: " + insertions);
+            }
+            if (wordCount <= 0 || wordCount > MAX_WORD_COUNT
+                    || Files.size(file) != SNAPSHOT_HEADER_BYTES + (long) wordCount * Long.BYTES) {
+                throw new IllegalArgumentException(file + " has an invalid or truncated bit array of "
+                        + wordCount + " words");
+            }
+            long[] words = new long[wordCount];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return new UserIdBloomFilter(words, hashFunctions, insertions);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't read user id filter snapshot from " + file, e);
+        }
+    }
+
+    private static long hash(String id, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
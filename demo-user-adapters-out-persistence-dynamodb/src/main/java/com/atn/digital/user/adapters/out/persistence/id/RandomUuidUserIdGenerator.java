@@ -0,0 +1,21 @@
+package com.atn.digital.user.adapters.out.persistence.id;
+
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.UUID;
+
+/**
+ * Random version 4 UUIDs from the JDK's shared {@code SecureRandom}, as ids were generated originally.
+ */
+public final class RandomUuidUserIdGenerator implements UserIdGenerator {
+
+    public static final RandomUuidUserIdGenerator INSTANCE = new RandomUuidUserIdGenerator();
+
+    private RandomUuidUserIdGenerator() {}
+
+    @Override
+    public UserId nextId() {
+        UUID uuid = UUID.randomUUID();
+        return UserId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,122 @@
+package com.atn.digital.user.adapters.out.persistence.id;
+
+import com.atn.digital.user.domain.models.User.UserId;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Version 7 UUIDs: 48 bits of Unix epoch milliseconds followed by 74 random bits, so ids sort by creation time.
+ * The random bits come from a {@link SplittableRandom} per thread, seeded once from {@link SecureRandom},
+ * which keeps registrations from contending on a shared generator.
+ * <p>
+ * A JVM restored from a SnapStart or CRaC snapshot would replay the per-thread state of every clone, so
+ * {@link #reseed()} makes each thread draw a fresh seed on its next id. The {@link #shared()} instance registers
+ * itself with CRaC and reseeds in {@code afterRestore}, drawing from a new {@link SecureRandom}: the state of the
+ * one in the snapshot is replayed by every clone too, and not every provider mixes in fresh entropy on its own.
+ */
+public final class TimeOrderedUserIdGenerator implements UserIdGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    private final LongSupplier clock;
+    private final LongSupplier seedSource;
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadLocal<Source> sources = new ThreadLocal<>();
+
+    public TimeOrderedUserIdGenerator() {
+        this(System::currentTimeMillis, new SeedSource(SecureRandom::new));
+    }
+
+    TimeOrderedUserIdGenerator(LongSupplier clock, LongSupplier seedSource) {
+        this.clock = clock;
+        this.seedSource = seedSource;
+    }
+
+    public static TimeOrderedUserIdGenerator shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    @Override
+    public UserId nextId() {
+        SplittableRandom random = random();
+        long msb = (clock.getAsLong() << 16) | VERSION_7 | (random.nextInt() & 0x0FFF);
+        long lsb = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return UserId.of(msb, lsb);
+    }
+
+    @Override
+    public void reseed() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * What {@code afterRestore} does: renews the {@link SeedSource}, if that is where seeds come from, then reseeds.
+     */
+    void restored() {
+        if (seedSource instanceof SeedSource seeds) {
+            seeds.renew();
+        }
+        reseed();
+    }
+
+    private SplittableRandom random() {
+        long currentGeneration = generation.get();
+        Source source = sources.get();
+        if (source == null || source.generation != currentGeneration) {
+            source = new Source(new SplittableRandom(seedSource.getAsLong()), currentGeneration);
+            sources.set(source);
+        }
+        return source.random;
+    }
+
+    private record Source(SplittableRandom random, long generation) {
+    }
+
+    static final class SeedSource implements LongSupplier {
+
+        private final Supplier<SecureRandom> factory;
+        private volatile SecureRandom random;
+
+        SeedSource(Supplier<SecureRandom> factory) {
+            this.factory = factory;
+            this.random = factory.get();
+        }
+
+        @Override
+        public long getAsLong() {
+            return random.nextLong() ^ System.nanoTime();
+        }
+
+        void renew() {
+            random = factory.get();
+        }
+    }
+
+    private static final class SharedHolder implements Resource {
+
+        private static final TimeOrderedUserIdGenerator INSTANCE = new TimeOrderedUserIdGenerator();
+        private static final SharedHolder HOOK = new SharedHolder();
+
+        static {
+            Core.getGlobalContext().register(HOOK);
+        }
+
+        @Override
+        public void beforeCheckpoint(Context<? extends Resource> context) {
+        }
+
+        @Override
+        public void afterRestore(Context<? extends Resource> context) {
+            INSTANCE.restored();
+        }
+    }
+}
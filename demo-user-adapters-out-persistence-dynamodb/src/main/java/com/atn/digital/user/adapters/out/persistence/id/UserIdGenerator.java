@@ -0,0 +1,32 @@
+package com.atn.digital.user.adapters.out.persistence.id;
+
+import com.atn.digital.user.domain.models.User.UserId;
+
+/**
+ * Source of the ids given to newly registered users.
+ * The default is picked with the {@code USER_ID_GENERATOR} system property or environment variable:
+ * {@code TIME_ORDERED} (the default) or {@code RANDOM_UUID}.
+ */
+public interface UserIdGenerator {
+
+    String PROPERTY_NAME = "USER_ID_GENERATOR";
+
+    UserId nextId();
+
+    /**
+     * Drops any random state captured so far, for instance after a JVM was restored from a snapshot.
+     */
+    default void reseed() {
+    }
+
+    static UserIdGenerator defaultGenerator() {
+        String value = System.getProperty(PROPERTY_NAME, System.getenv(PROPERTY_NAME));
+        if (value == null || value.isBlank() || "TIME_ORDERED".equalsIgnoreCase(value.trim())) {
+            return TimeOrderedUserIdGenerator.shared();
+        }
+        if ("RANDOM_UUID".equalsIgnoreCase(value.trim())) {
+            return RandomUuidUserIdGenerator.INSTANCE;
+        }
+        throw new IllegalArgumentException("Unknown " + PROPERTY_NAME + " " + value);
+    }
+}
@@ -0,0 +1,155 @@
+package com.atn.digital.user.adapters.out.persistence.memory;
+
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserAsyncRepository;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stand-in for {@link com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepository} that keeps
+ * users in a {@link ConcurrentHashMap}, so handlers can be benchmarked and tested without DynamoDB.
+ * Every call, batch calls included, waits for one sample of its {@link LatencyDistribution}, like one round trip.
+ * <p>
+ * {@link #shared()} is the instance picked with {@code USER_REPOSITORY=IN_MEMORY}: one store per JVM, as there is
+ * one table per stack, with the latency of {@code USER_REPOSITORY_LATENCY}. {@link #async()} is a non-blocking view
+ * of the same store.
+ */
+public class InMemoryUserRepository extends UserRepository {
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final LatencyDistribution latency;
+    private final UserIdGenerator idGenerator;
+    private final UserAsyncRepository async = new AsyncView();
+
+    public InMemoryUserRepository() {
+        this(LatencyDistribution.NONE);
+    }
+
+    public InMemoryUserRepository(LatencyDistribution latency) {
+        this(latency, UserIdGenerator.defaultGenerator());
+    }
+
+    public InMemoryUserRepository(LatencyDistribution latency, UserIdGenerator idGenerator) {
+        if (latency == null) {
+            throw new IllegalArgumentException("latency expected to be not null");
+        }
+        if (idGenerator == null) {
+            throw new IllegalArgumentException("idGenerator expected to be not null");
+        }
+        this.latency = latency;
+        this.idGenerator = idGenerator;
+    }
+
+    public static InMemoryUserRepository shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    @Override
+    public UserId registerNewUser(User user) {
+        pause();
+        return store(user);
+    }
+
+    @Override
+    public List<UserId> registerNewUsers(List<User> users) {
+        pause();
+        List<UserId> userIds = new ArrayList<>(users.size());
+        for (User user : users) {
+            userIds.add(store(user));
+        }
+        return userIds;
+    }
+
+    @Override
+    public User findByUserId(UserId userId) {
+        pause();
+        return users.get(userId.getId());
+    }
+
+    @Override
+    public List<User> findByUserIds(List<UserId> userIds) {
+        pause();
+        List<User> found = new ArrayList<>(userIds.size());
+        Set<String> seen = new HashSet<>();
+        for (UserId userId : userIds) {
+            User user = users.get(userId.getId());
+            if (user != null && seen.add(userId.getId())) {
+                found.add(user);
+            }
+        }
+        return found;
+    }
+
+    public UserAsyncRepository async() {
+        return async;
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public void clear() {
+        users.clear();
+    }
+
+    private UserId store(User user) {
+        UserId userId = idGenerator.nextId();
+        users.put(userId.getId(), User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+        return userId;
+    }
+
+    /**
+     * Parks the calling thread until the sampled latency has elapsed; {@link LockSupport#parkNanos(long)} alone may
+     * return early.
+     */
+    private void pause() {
+        long nanos = latency.nextNanos();
+        if (nanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Completes on {@link CompletableFuture#delayedExecutor} once the latency has elapsed, the way the SDK completes
+     * on its event loop, so the calling thread is never held.
+     */
+    private final class AsyncView extends UserAsyncRepository {
+
+        @Override
+        public CompletableFuture<UserId> registerNewUser(User user) {
+            return CompletableFuture.supplyAsync(() -> store(user), delayed());
+        }
+
+        @Override
+        public CompletableFuture<User> findByUserId(UserId userId) {
+            return CompletableFuture.supplyAsync(() -> users.get(userId.getId()), delayed());
+        }
+
+        private Executor delayed() {
+            long nanos = latency.nextNanos();
+            return nanos <= 0 ? Runnable::run : CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class SharedHolder {
+
+        private static final InMemoryUserRepository INSTANCE =
+                new InMemoryUserRepository(LatencyDistribution.fromEnvironment());
+    }
+}
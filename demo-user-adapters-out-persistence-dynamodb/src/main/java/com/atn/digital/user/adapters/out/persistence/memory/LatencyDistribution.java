@@ -0,0 +1,118 @@
+package com.atn.digital.user.adapters.out.persistence.memory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency added to every call of {@link InMemoryUserRepository}, to stand in for the round trip to DynamoDB.
+ * Specifications, as read from {@code USER_REPOSITORY_LATENCY}:
+ * <ul>
+ *     <li>{@code none} or blank: no latency</li>
+ *     <li>{@code fixed:5ms}: always the same</li>
+ *     <li>{@code uniform:2ms..8ms}: evenly spread between both bounds</li>
+ *     <li>{@code lognormal:4ms,25ms}: median then 99th percentile, the long tail of a network call</li>
+ * </ul>
+ * Durations take a {@code ns}, {@code us}, {@code ms} or {@code s} unit.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    String PROPERTY_NAME = "USER_REPOSITORY_LATENCY";
+
+    LatencyDistribution NONE = () -> 0L;
+
+    long nextNanos();
+
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = requirePositive(latency, "latency");
+        return () -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = requirePositive(min, "min");
+        long maxNanos = requirePositive(max, "max");
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("max expected to be greater than or equal to min");
+        }
+        return () -> minNanos == maxNanos ? minNanos : ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1);
+    }
+
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        long medianNanos = requirePositive(median, "median");
+        long p99Nanos = requirePositive(p99, "p99");
+        if (medianNanos == 0 || p99Nanos < medianNanos) {
+            throw new IllegalArgumentException("p99 expected to be greater than or equal to a median greater than 0");
+        }
+        double mu = Math.log(medianNanos);
+        // 2.326 is the 99th percentile of the standard normal distribution
+        double sigma = (Math.log(p99Nanos) - mu) / 2.3263478740408408;
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    static LatencyDistribution fromEnvironment() {
+        return parse(System.getProperty(PROPERTY_NAME, System.getenv(PROPERTY_NAME)));
+    }
+
+    static LatencyDistribution parse(String specification) {
+        if (specification == null || specification.isBlank() || "none".equalsIgnoreCase(specification.trim())) {
+            return NONE;
+        }
+        String value = specification.trim().toLowerCase();
+        int colon = value.indexOf(':');
+        String kind = colon < 0 ? value : value.substring(0, colon);
+        String arguments = colon < 0 ? "" : value.substring(colon + 1);
+        try {
+            switch (kind) {
+                case "fixed":
+                    return fixed(duration(arguments));
+                case "uniform": {
+                    String[] bounds = arguments.split("\\.\\.", -1);
+                    if (bounds.length == 2) {
+                        return uniform(duration(bounds[0]), duration(bounds[1]));
+                    }
+                    break;
+                }
+                case "lognormal": {
+                    String[] percentiles = arguments.split(",", -1);
+                    if (percentiles.length == 2) {
+                        return logNormal(duration(percentiles[0]), duration(percentiles[1]));
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + PROPERTY_NAME + " " + specification + ": "
+                    + e.getMessage(), e);
+        }
+        throw new IllegalArgumentException("Invalid " + PROPERTY_NAME + " " + specification);
+    }
+
+    private static Duration duration(String value) {
+        String text = value.trim();
+        int unit = 0;
+        while (unit < text.length() && (Character.isDigit(text.charAt(unit)) || text.charAt(unit) == '.')) {
+            unit++;
+        }
+        if (unit == 0) {
+            throw new IllegalArgumentException("duration expected, got '" + value + "'");
+        }
+        double amount = Double.parseDouble(text.substring(0, unit));
+        double nanosPerUnit = switch (text.substring(unit)) {
+            case "ns" -> 1;
+            case "us" -> 1_000;
+            case "ms" -> 1_000_000;
+            case "s" -> 1_000_000_000;
+            default -> throw new IllegalArgumentException("unit ns, us, ms or s expected, got '" + value + "'");
+        };
+        return Duration.ofNanos(Math.round(amount * nanosPerUnit));
+    }
+
+    private static long requirePositive(Duration duration, String name) {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " expected to be greater than or equal to 0");
+        }
+        return duration.toNanos();
+    }
+}
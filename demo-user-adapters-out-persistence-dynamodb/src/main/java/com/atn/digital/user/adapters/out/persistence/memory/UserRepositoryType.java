@@ -0,0 +1,27 @@
+package com.atn.digital.user.adapters.out.persistence.memory;
+
+/**
+ * Where the applications keep their users, read from the {@code USER_REPOSITORY} system property or environment
+ * variable: {@link #DYNAMODB} (the default), or {@link #IN_MEMORY} for {@link InMemoryUserRepository#shared()},
+ * in which case no DynamoDB client is created at all.
+ * DynamoDB Local, embedded or not, is a {@link #DYNAMODB} repository pointed at {@code LOCAL_DYNAMODB_URI}.
+ */
+public enum UserRepositoryType {
+
+    DYNAMODB,
+    IN_MEMORY;
+
+    public static final String PROPERTY_NAME = "USER_REPOSITORY";
+
+    public static UserRepositoryType fromEnvironment() {
+        String value = System.getProperty(PROPERTY_NAME, System.getenv(PROPERTY_NAME));
+        if (value == null || value.isBlank()) {
+            return DYNAMODB;
+        }
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public boolean isInMemory() {
+        return this == IN_MEMORY;
+    }
+}
@@ -0,0 +1,203 @@
+package com.atn.digital.user.adapters.out.persistence.cache;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserAsyncRepository;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingUserRepositoryTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private CountingUserRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingUserRepository();
+    }
+
+    @Test
+    void shouldServeSecondLookupFromCache() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId userId = delegate.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        User first = repository.findByUserId(userId);
+        User second = repository.findByUserId(new UserId(userId.getId()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(delegate.findCount).isEqualTo(1);
+        assertThat(repository.getMissCount()).isEqualTo(1);
+        assertThat(repository.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeLookupOfRegisteredUserWithoutCallingDelegate() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        User user = repository.findByUserId(new UserId(userId.getId()));
+
+        assertThat(user.getId()).hasValueSatisfying(id -> assertThat(id.getId()).isEqualTo(userId.getId()));
+        assertThat(user.getEmail()).isEqualTo("email@unit.test");
+        assertThat(delegate.findCount).isZero();
+        assertThat(repository.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOnlyAskDelegateForIdsMissingFromCache() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId cachedId = repository.registerNewUser(User.withoutId("first", "lastName", "first@unit.test"));
+        UserId storedId = delegate.registerNewUser(User.withoutId("second", "lastName", "second@unit.test"));
+
+        List<User> users = repository.findByUserIds(List.of(cachedId, storedId, new UserId("unknown")));
+
+        assertThat(users).extracting(User::getFirstName).containsExactlyInAnyOrder("first", "second");
+        assertThat(delegate.findCount).isEqualTo(2);
+        assertThat(repository.getHitCount()).isEqualTo(1);
+        assertThat(repository.getMissCount()).isEqualTo(2);
+        assertThat(repository.findByUserId(storedId)).isNotNull();
+        assertThat(delegate.findCount).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnUsersInRequestedOrder() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId storedId = delegate.registerNewUser(User.withoutId("stored", "lastName", "stored@unit.test"));
+        UserId cachedId = repository.registerNewUser(User.withoutId("cached", "lastName", "cached@unit.test"));
+
+        List<User> users = repository.findByUserIds(List.of(storedId, new UserId("unknown"), cachedId));
+
+        assertThat(users).extracting(User::getFirstName).containsExactly("stored", "cached");
+    }
+
+    @Test
+    void shouldShareCacheWithAsyncView() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserAsyncRepository async = repository.async(new UserAsyncRepository() {
+            @Override
+            public CompletableFuture<UserId> registerNewUser(User user) {
+                return CompletableFuture.completedFuture(delegate.registerNewUser(user));
+            }
+
+            @Override
+            public CompletableFuture<User> findByUserId(UserId userId) {
+                return CompletableFuture.completedFuture(delegate.findByUserId(userId));
+            }
+        });
+
+        UserId registeredByAsync = async.registerNewUser(
+                User.withoutId("async", "lastName", "async@unit.test")).join();
+        UserId registeredByBlocking = repository.registerNewUser(
+                User.withoutId("blocking", "lastName", "blocking@unit.test"));
+
+        assertThat(repository.findByUserId(registeredByAsync).getFirstName()).isEqualTo("async");
+        assertThat(async.findByUserId(registeredByBlocking).join().getFirstName()).isEqualTo("blocking");
+        assertThat(delegate.findCount).isZero();
+        assertThat(repository.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheUnknownUsers() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId userId = new UserId("unknown");
+
+        assertThat(repository.findByUserId(userId)).isNull();
+        assertThat(repository.findByUserId(userId)).isNull();
+
+        assertThat(delegate.findCount).isEqualTo(2);
+        assertThat(repository.size()).isZero();
+    }
+
+    @Test
+    void shouldReloadEntryOnceTtlElapsed() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId userId = delegate.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.findByUserId(userId);
+        now.addAndGet(Duration.ofSeconds(59).toNanos());
+        repository.findByUserId(userId);
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        repository.findByUserId(userId);
+
+        assertThat(delegate.findCount).isEqualTo(2);
+        assertThat(repository.getHitCount()).isEqualTo(1);
+        assertThat(repository.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        CachingUserRepository repository = newRepository(2, Duration.ofSeconds(60));
+        UserId first = delegate.registerNewUser(User.withoutId("first", "lastName", "first@unit.test"));
+        UserId second = delegate.registerNewUser(User.withoutId("second", "lastName", "second@unit.test"));
+        UserId third = delegate.registerNewUser(User.withoutId("third", "lastName", "third@unit.test"));
+
+        repository.findByUserId(first);
+        repository.findByUserId(second);
+        repository.findByUserId(first);
+        repository.findByUserId(third);
+
+        assertThat(repository.size()).isEqualTo(2);
+        assertThat(repository.getEvictionCount()).isEqualTo(1);
+
+        repository.findByUserId(first);
+        repository.findByUserId(second);
+        assertThat(delegate.findCount).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReloadInvalidatedEntry() {
+        CachingUserRepository repository = newRepository(10, Duration.ofSeconds(60));
+        UserId userId = delegate.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.findByUserId(userId);
+        repository.invalidate(userId);
+        repository.findByUserId(userId);
+
+        assertThat(delegate.findCount).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new CachingUserRepository(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CachingUserRepository(delegate, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CachingUserRepository(delegate, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CachingUserRepository newRepository(int maxSize, Duration ttl) {
+        return new CachingUserRepository(delegate, maxSize, ttl, now::get);
+    }
+
+    static class CountingUserRepository extends UserRepository {
+
+        private final Map<String, User> users = new HashMap<>();
+        int findCount;
+
+        @Override
+        public UserId registerNewUser(User user) {
+            UserId userId = new UserId(UUID.randomUUID().toString());
+            users.put(userId.getId(), User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+            return userId;
+        }
+
+        @Override
+        public User findByUserId(UserId userId) {
+            findCount++;
+            return users.get(userId.getId());
+        }
+    }
+}
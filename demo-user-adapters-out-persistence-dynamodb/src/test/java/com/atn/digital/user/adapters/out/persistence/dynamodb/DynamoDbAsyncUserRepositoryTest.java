@@ -0,0 +1,126 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DynamoDbAsyncUserRepositoryTest {
+
+    private RecordingDynamoDbAsyncClient client;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("USER_TABLE", "WorkshopUsers");
+        client = new RecordingDynamoDbAsyncClient();
+    }
+
+    @Test
+    void shouldReadBackRegisteredUser() {
+        DynamoDbAsyncUserRepository repository = new DynamoDbAsyncUserRepository(client);
+
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test")).join();
+        User user = repository.findByUserId(userId).join();
+
+        assertThat(client.putItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.tableName()).isEqualTo("WorkshopUsers"));
+        assertThat(user.getId()).hasValueSatisfying(id -> assertThat(id.getId()).isEqualTo(userId.getId()));
+        assertThat(user.getEmail()).isEqualTo("email@unit.test");
+    }
+
+    @Test
+    void shouldCompleteWithNullForUnknownUser() {
+        DynamoDbAsyncUserRepository repository = new DynamoDbAsyncUserRepository(client);
+
+        assertThat(repository.findByUserId(new UserId("unknown")).join()).isNull();
+    }
+
+    @Test
+    void shouldUseConsistentReadForUserWrittenByThisInstance() {
+        DynamoDbAsyncUserRepository repository = new DynamoDbAsyncUserRepository(client);
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test")).join();
+
+        repository.findByUserId(userId).join();
+        repository.findByUserId(new UserId("another-id")).join();
+
+        assertThat(client.getItemRequests)
+                .extracting(GetItemRequest::consistentRead)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void shouldUseEventuallyConsistentReadWhenWindowIsDisabled() {
+        DynamoDbAsyncUserRepository repository = new DynamoDbAsyncUserRepository(client, Duration.ZERO);
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test")).join();
+
+        repository.findByUserId(userId).join();
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isFalse());
+    }
+
+    @Test
+    void shouldShareRecentWritesWithBlockingRepository() {
+        DynamoDbUserRepositoryTest.RecordingDynamoDbClient blockingClient =
+                new DynamoDbUserRepositoryTest.RecordingDynamoDbClient();
+        DynamoDbUserRepository blockingRepository = new DynamoDbUserRepository(blockingClient);
+        DynamoDbAsyncUserRepository repository = blockingRepository.async(client);
+
+        UserId writtenByBlocking = blockingRepository.registerNewUser(
+                User.withoutId("firstName", "lastName", "email@unit.test"));
+        UserId writtenByAsync = repository.registerNewUser(
+                User.withoutId("firstName", "lastName", "email@unit.test")).join();
+        repository.findByUserId(writtenByBlocking).join();
+        blockingRepository.findByUserId(writtenByAsync);
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isTrue());
+        assertThat(blockingClient.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isTrue());
+    }
+
+    static class RecordingDynamoDbAsyncClient implements DynamoDbAsyncClient {
+
+        final List<PutItemRequest> putItemRequests = new CopyOnWriteArrayList<>();
+        final List<GetItemRequest> getItemRequests = new CopyOnWriteArrayList<>();
+        private final Map<String, Map<String, AttributeValue>> items = new ConcurrentHashMap<>();
+
+        @Override
+        public CompletableFuture<PutItemResponse> putItem(PutItemRequest putItemRequest) {
+            putItemRequests.add(putItemRequest);
+            items.put(putItemRequest.item().get("id").s(), putItemRequest.item());
+            return CompletableFuture.supplyAsync(() -> PutItemResponse.builder().build());
+        }
+
+        @Override
+        public CompletableFuture<GetItemResponse> getItem(GetItemRequest getItemRequest) {
+            getItemRequests.add(getItemRequest);
+            Map<String, AttributeValue> item = items.get(getItemRequest.key().get("id").s());
+            return CompletableFuture.supplyAsync(() -> GetItemResponse.builder().item(item).build());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDbUserRepositoryTest {
+
+    private RecordingDynamoDbClient client;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("USER_TABLE", "WorkshopUsers");
+        client = new RecordingDynamoDbClient();
+    }
+
+    @Test
+    void shouldUseConsistentReadForUserWrittenByThisInstance() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.findByUserId(userId);
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isTrue());
+    }
+
+    @Test
+    void shouldUseEventuallyConsistentReadForOtherUsers() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+        repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.findByUserId(new UserId("another-id"));
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isFalse());
+    }
+
+    @Test
+    void shouldUseEventuallyConsistentReadWhenWindowIsDisabled() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client, Duration.ZERO);
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.findByUserId(userId);
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isFalse());
+    }
+
+    @Test
+    void shouldWriteUsersInChunksOfTwentyFiveItems() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+
+        List<UserId> userIds = repository.registerNewUsers(users(60));
+
+        assertThat(userIds).hasSize(60).doesNotHaveDuplicates();
+        assertThat(client.batchWriteItemRequests).hasSize(3);
+        assertThat(client.batchWriteItemRequests)
+                .extracting(request -> request.requestItems().get("WorkshopUsers").size())
+                .containsExactlyInAnyOrder(25, 25, 10);
+        assertThat(client.writtenIds).containsExactlyInAnyOrderElementsOf(
+                userIds.stream().map(UserId::getId).toList());
+    }
+
+    @Test
+    void shouldRetryUnprocessedItems() {
+        client.unprocessedItemsToReturn.set(7);
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+
+        List<UserId> userIds = repository.registerNewUsers(users(20));
+
+        assertThat(client.batchWriteItemRequests).hasSize(2);
+        assertThat(client.batchWriteItemRequests.get(1).requestItems().get("WorkshopUsers")).hasSize(7);
+        assertThat(client.writtenIds).containsExactlyInAnyOrderElementsOf(
+                userIds.stream().map(UserId::getId).toList());
+    }
+
+    @Test
+    void shouldReportAndReadConsistentlyUsersWrittenBeforeAChunkFailed() {
+        client.failingBatchWriteSize.set(10);
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+
+        assertThatThrownBy(() -> repository.registerNewUsers(users(60)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Registered 50 of 60 users before failing");
+
+        assertThat(client.writtenIds).hasSize(50);
+        client.writtenIds.forEach(id -> repository.findByUserId(new UserId(id)));
+        assertThat(client.getItemRequests).hasSize(50).allMatch(GetItemRequest::consistentRead);
+    }
+
+    @Test
+    void shouldUseConsistentReadForUsersWrittenInBatch() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+        UserId userId = repository.registerNewUsers(users(2)).get(1);
+
+        repository.findByUserId(userId);
+
+        assertThat(client.getItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.consistentRead()).isTrue());
+    }
+
+    @Test
+    void shouldReadUsersInBatchesOfOneHundredKeys() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client, Duration.ZERO);
+        List<UserId> userIds = repository.registerNewUsers(users(150));
+        List<UserId> requestedIds = new ArrayList<>(userIds);
+        requestedIds.add(new UserId("unknown"));
+
+        List<User> users = repository.findByUserIds(requestedIds);
+
+        assertThat(users).hasSize(150);
+        assertThat(client.batchGetItemRequests)
+                .extracting(request -> request.requestItems().get("WorkshopUsers").keys().size())
+                .containsExactlyInAnyOrder(100, 51);
+        assertThat(client.batchGetItemRequests)
+                .allSatisfy(request -> assertThat(request.requestItems().get("WorkshopUsers").consistentRead()).isFalse());
+    }
+
+    @Test
+    void shouldRetryUnprocessedKeys() {
+        DynamoDbUserRepository repository = new DynamoDbUserRepository(client);
+        List<UserId> userIds = repository.registerNewUsers(users(10));
+        client.unprocessedKeysToReturn.set(4);
+
+        List<User> users = repository.findByUserIds(userIds);
+
+        assertThat(users).extracting(user -> user.getId().get().getId())
+                .containsExactlyInAnyOrderElementsOf(userIds.stream().map(UserId::getId).toList());
+        assertThat(client.batchGetItemRequests).hasSize(2);
+        assertThat(client.batchGetItemRequests.get(1).requestItems().get("WorkshopUsers").keys()).hasSize(4);
+        assertThat(client.batchGetItemRequests.get(0).requestItems().get("WorkshopUsers").consistentRead()).isTrue();
+    }
+
+    private static List<User> users(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> User.withoutId("firstName" + i, "lastName", "email" + i + "@unit.test"))
+                .toList();
+    }
+
+    static class RecordingDynamoDbClient implements DynamoDbClient {
+
+        final List<PutItemRequest> putItemRequests = new CopyOnWriteArrayList<>();
+        final List<GetItemRequest> getItemRequests = new CopyOnWriteArrayList<>();
+        final List<BatchWriteItemRequest> batchWriteItemRequests = new CopyOnWriteArrayList<>();
+        final List<BatchGetItemRequest> batchGetItemRequests = new CopyOnWriteArrayList<>();
+        final AtomicInteger unprocessedItemsToReturn = new AtomicInteger();
+        final AtomicInteger unprocessedKeysToReturn = new AtomicInteger();
+        final AtomicInteger failingBatchWriteSize = new AtomicInteger(-1);
+        final List<String> writtenIds = new CopyOnWriteArrayList<>();
+        private final Map<AttributeValue, Map<String, AttributeValue>> items = new ConcurrentHashMap<>();
+
+        @Override
+        public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest batchWriteItemRequest) {
+            batchWriteItemRequests.add(batchWriteItemRequest);
+            if (batchWriteItemRequest.requestItems().values().iterator().next().size() == failingBatchWriteSize.get()) {
+                throw new IllegalStateException("Throttled");
+            }
+            Map<String, List<WriteRequest>> unprocessed = new HashMap<>();
+            batchWriteItemRequest.requestItems().forEach((table, writes) -> {
+                int skipped = unprocessedItemsToReturn.getAndSet(0);
+                List<WriteRequest> processed = writes.subList(0, writes.size() - skipped);
+                processed.forEach(write -> {
+                    writtenIds.add(write.putRequest().item().get("id").s());
+                    items.put(write.putRequest().item().get("id"), write.putRequest().item());
+                });
+                if (skipped > 0) {
+                    unprocessed.put(table, writes.subList(writes.size() - skipped, writes.size()));
+                }
+            });
+            return BatchWriteItemResponse.builder().unprocessedItems(unprocessed).build();
+        }
+
+        @Override
+        public BatchGetItemResponse batchGetItem(BatchGetItemRequest batchGetItemRequest) {
+            batchGetItemRequests.add(batchGetItemRequest);
+            Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+            Map<String, KeysAndAttributes> unprocessed = new HashMap<>();
+            batchGetItemRequest.requestItems().forEach((table, keysAndAttributes) -> {
+                List<Map<String, AttributeValue>> keys = keysAndAttributes.keys();
+                int skipped = unprocessedKeysToReturn.getAndSet(0);
+                responses.put(table, keys.subList(0, keys.size() - skipped).stream()
+                        .map(key -> items.get(key.get("id")))
+                        .filter(Objects::nonNull)
+                        .toList());
+                if (skipped > 0) {
+                    unprocessed.put(table, keysAndAttributes.toBuilder()
+                            .keys(keys.subList(keys.size() - skipped, keys.size()))
+                            .build());
+                }
+            });
+            return BatchGetItemResponse.builder().responses(responses).unprocessedKeys(unprocessed).build();
+        }
+
+        @Override
+        public PutItemResponse putItem(PutItemRequest putItemRequest) {
+            putItemRequests.add(putItemRequest);
+            items.put(putItemRequest.item().get("id"), putItemRequest.item());
+            return PutItemResponse.builder().build();
+        }
+
+        @Override
+        public GetItemResponse getItem(GetItemRequest getItemRequest) {
+            getItemRequests.add(getItemRequest);
+            return GetItemResponse.builder().item(items.get(getItemRequest.key().get("id"))).build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
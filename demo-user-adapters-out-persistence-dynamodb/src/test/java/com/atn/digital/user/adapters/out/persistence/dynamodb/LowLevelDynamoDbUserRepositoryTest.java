@@ -0,0 +1,114 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import com.atn.digital.user.adapters.out.persistence.dynamodb.DynamoDbUserRepositoryTest.RecordingDynamoDbClient;
+import com.atn.digital.user.adapters.out.persistence.id.UserIdGenerator;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LowLevelDynamoDbUserRepositoryTest {
+
+    private RecordingDynamoDbClient client;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("USER_TABLE", "WorkshopUsers");
+        client = new RecordingDynamoDbClient();
+    }
+
+    @Test
+    void shouldWriteSameItemAsEnhancedClient() {
+        User user = User.withoutId("firstName", "lastName", "email@unit.test");
+
+        new DynamoDbUserRepository(client, DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserTableSchema.BEAN)
+                .registerNewUser(user);
+        new LowLevelDynamoDbUserRepository(client).registerNewUser(user);
+
+        assertThat(client.putItemRequests).hasSize(2);
+        assertThat(client.putItemRequests.get(1).tableName()).isEqualTo(client.putItemRequests.get(0).tableName());
+        assertThat(withoutId(client.putItemRequests.get(1).item()))
+                .isEqualTo(withoutId(client.putItemRequests.get(0).item()));
+    }
+
+    @Test
+    void shouldLeaveOutNullAttributesLikeEnhancedClient() {
+        User user = User.withoutId("firstName", null, "email@unit.test");
+
+        new DynamoDbUserRepository(client).registerNewUser(user);
+        new LowLevelDynamoDbUserRepository(client).registerNewUser(user);
+
+        assertThat(client.putItemRequests.get(1).item().keySet())
+                .containsExactlyInAnyOrderElementsOf(client.putItemRequests.get(0).item().keySet())
+                .doesNotContain("lastName");
+    }
+
+    @Test
+    void shouldReadUserWrittenByEnhancedClientWithConsistentReadForOwnWrites() {
+        UserId userId = new DynamoDbUserRepository(client)
+                .registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+        LowLevelDynamoDbUserRepository repository = new LowLevelDynamoDbUserRepository(client);
+        UserId ownUserId = repository.registerNewUser(User.withoutId("own", "lastName", "own@unit.test"));
+
+        User user = repository.findByUserId(new UserId(userId.getId()));
+        repository.findByUserId(ownUserId);
+
+        assertThat(user.getId()).hasValueSatisfying(id -> assertThat(id.getId()).isEqualTo(userId.getId()));
+        assertThat(user.getFirstName()).isEqualTo("firstName");
+        assertThat(user.getLastName()).isEqualTo("lastName");
+        assertThat(user.getEmail()).isEqualTo("email@unit.test");
+        assertThat(client.getItemRequests).extracting(request -> request.consistentRead()).containsExactly(false, true);
+        assertThat(repository.findByUserId(new UserId("unknown"))).isNull();
+    }
+
+    @Test
+    void shouldWriteAndReadUsersInBatches() {
+        LowLevelDynamoDbUserRepository repository = new LowLevelDynamoDbUserRepository(client);
+        client.unprocessedItemsToReturn.set(3);
+
+        List<UserId> userIds = repository.registerNewUsers(IntStream.range(0, 30)
+                .mapToObj(i -> User.withoutId("firstName" + i, "lastName", "email" + i + "@unit.test"))
+                .toList());
+        List<User> users = repository.findByUserIds(userIds);
+
+        assertThat(client.writtenIds).containsExactlyInAnyOrderElementsOf(userIds.stream().map(UserId::getId).toList());
+        assertThat(users).extracting(user -> user.getId().get().getId())
+                .containsExactlyInAnyOrderElementsOf(userIds.stream().map(UserId::getId).toList());
+        assertThat(client.batchGetItemRequests).singleElement()
+                .satisfies(request -> assertThat(request.requestItems().get("WorkshopUsers").consistentRead()).isTrue());
+    }
+
+    @Test
+    void shouldStoreSixteenByteKeysWithBinaryKeyFormat() {
+        LowLevelDynamoDbUserRepository repository = new LowLevelDynamoDbUserRepository(client,
+                DynamoDbUserRepository.DEFAULT_CONSISTENT_READ_WINDOW, UserIdGenerator.defaultGenerator(),
+                UserIdKeyFormat.BINARY);
+
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+        List<UserId> batchIds = repository.registerNewUsers(List.of(
+                User.withoutId("first", "lastName", "first@unit.test"),
+                User.withoutId("second", "lastName", "second@unit.test")));
+
+        assertThat(client.putItemRequests.get(0).item().get("id").b().asByteArray()).hasSize(16);
+        assertThat(repository.findByUserId(new UserId(userId.getId())).getEmail()).isEqualTo("email@unit.test");
+        assertThat(repository.findByUserIds(List.of(batchIds.get(0), batchIds.get(1), new UserId("unknown"))))
+                .extracting(user -> user.getId().get())
+                .containsExactlyInAnyOrderElementsOf(batchIds);
+        assertThat(repository.findByUserId(new UserId("unknown"))).isNull();
+        assertThat(client.getItemRequests).hasSize(1);
+    }
+
+    private static Map<String, AttributeValue> withoutId(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> copy = new HashMap<>(item);
+        assertThat(copy.remove("id")).isNotNull();
+        return copy;
+    }
+}
@@ -1,37 +1,34 @@
 package com.atn.digital.user.adapters.out.persistence.dynamodb;
 
+import com.atn.digital.user.adapters.out.dynamodb.local.EmbeddedDynamoDb;
 import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
 import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserUseCase;
 import com.atn.digital.user.domain.services.FindUserByIdService;
 import com.atn.digital.user.domain.services.RegisterNewUserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
-@Testcontainers
 class PersistenceDynamoDbIT {
 
-    private String dynamoDbLocalUri;
-
-    @Container
-    GenericContainer dynamoDBLocal =
-            new GenericContainer("amazon/dynamodb-local:latest")
-                    .withExposedPorts(8000);
+    private EmbeddedDynamoDb dynamoDBLocal;
 
     @BeforeEach
     public void setUp() {
-        System.setProperty("USER_TABLE", "WorkshopUsers");
-        dynamoDbLocalUri = "http://localhost:" + dynamoDBLocal.getFirstMappedPort();
+        dynamoDBLocal = EmbeddedDynamoDb.start().useAsLocalDynamoDb("WorkshopUsers");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dynamoDBLocal.close();
     }
 
     @Test
     void shouldAddNewUserInTable() {
-        DynamoDbClient client = DynamoDbTableCreator.initialize(dynamoDbLocalUri);
+        DynamoDbClient client = dynamoDBLocal.createClient();
         DynamoDbUserRepository userRepository = new DynamoDbUserRepository(client);
         RegisterNewUserUseCase newUserService = new RegisterNewUserService(userRepository);
         RegisterNewUserCommand newUserCmd = new RegisterNewUserCommand(
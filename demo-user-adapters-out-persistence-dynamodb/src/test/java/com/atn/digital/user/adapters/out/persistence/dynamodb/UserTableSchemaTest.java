@@ -0,0 +1,67 @@
+package com.atn.digital.user.adapters.out.persistence.dynamodb;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserTableSchemaTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(UserTableSchema.PROPERTY_NAME);
+    }
+
+    @Test
+    void shouldMapEntityToSameItemAsBeanSchema() {
+        UserEntity entity = userEntity();
+
+        Map<String, AttributeValue> staticItem = UserTableSchema.STATIC.tableSchema().itemToMap(entity, true);
+        Map<String, AttributeValue> beanItem = UserTableSchema.BEAN.tableSchema().itemToMap(entity, true);
+
+        assertThat(staticItem).isEqualTo(beanItem);
+    }
+
+    @Test
+    void shouldMapItemBackToEntity() {
+        TableSchema<UserEntity> schema = UserTableSchema.STATIC.tableSchema();
+
+        UserEntity entity = schema.mapToItem(schema.itemToMap(userEntity(), true));
+
+        assertThat(entity).usingRecursiveComparison().isEqualTo(userEntity());
+    }
+
+    @Test
+    void shouldDeclareSameKeyAsBeanSchema() {
+        assertThat(UserTableSchema.STATIC.tableSchema().tableMetadata().primaryPartitionKey())
+                .isEqualTo(UserTableSchema.BEAN.tableSchema().tableMetadata().primaryPartitionKey())
+                .isEqualTo("id");
+        assertThat(UserTableSchema.STATIC.tableSchema().attributeNames())
+                .containsExactlyInAnyOrderElementsOf(UserTableSchema.BEAN.tableSchema().attributeNames());
+    }
+
+    @Test
+    void shouldSelectSchemaFromProperty() {
+        assertThat(UserTableSchema.fromEnvironment()).isEqualTo(UserTableSchema.STATIC);
+
+        System.setProperty(UserTableSchema.PROPERTY_NAME, " bean ");
+        assertThat(UserTableSchema.fromEnvironment()).isEqualTo(UserTableSchema.BEAN);
+
+        System.setProperty(UserTableSchema.PROPERTY_NAME, "reflective");
+        assertThatThrownBy(UserTableSchema::fromEnvironment).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserEntity userEntity() {
+        UserEntity entity = new UserEntity();
+        entity.setId("id");
+        entity.setFirstName("firstName");
+        entity.setLastName("lastName");
+        entity.setEmail("email@unit.test");
+        return entity;
+    }
+}
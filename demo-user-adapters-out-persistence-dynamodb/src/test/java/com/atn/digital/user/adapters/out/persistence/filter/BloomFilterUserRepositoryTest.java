@@ -0,0 +1,66 @@
+package com.atn.digital.user.adapters.out.persistence.filter;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.out.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterUserRepositoryTest {
+
+    private final CountingUserRepository delegate = new CountingUserRepository();
+    private final BloomFilterUserRepository repository =
+            new BloomFilterUserRepository(delegate, UserIdBloomFilter.create(1_000, 0.001));
+
+    @Test
+    void shouldAnswerUnknownIdWithoutCallingDelegate() {
+        assertThat(repository.findByUserId(new UserId(UUID.randomUUID().toString()))).isNull();
+
+        assertThat(delegate.findCount).isZero();
+        assertThat(repository.getDefiniteMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDelegateLookupOfRegisteredId() {
+        UserId userId = repository.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        assertThat(repository.findByUserId(userId)).isNotNull();
+        assertThat(delegate.findCount).isEqualTo(1);
+        assertThat(repository.getDelegatedLookupCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDelegateLookupOfWarmedUpId() {
+        UserId userId = delegate.registerNewUser(User.withoutId("firstName", "lastName", "email@unit.test"));
+
+        repository.warmUp(Stream.of(userId.getId()));
+
+        assertThat(repository.findByUserId(userId)).isNotNull();
+        assertThat(repository.getDefiniteMissCount()).isZero();
+    }
+
+    static class CountingUserRepository extends UserRepository {
+
+        private final Map<String, User> users = new HashMap<>();
+        int findCount;
+
+        @Override
+        public UserId registerNewUser(User user) {
+            UserId userId = new UserId(UUID.randomUUID().toString());
+            users.put(userId.getId(), User.withId(userId, user.getFirstName(), user.getLastName(), user.getEmail()));
+            return userId;
+        }
+
+        @Override
+        public User findByUserId(UserId userId) {
+            findCount++;
+            return users.get(userId.getId());
+        }
+    }
+}
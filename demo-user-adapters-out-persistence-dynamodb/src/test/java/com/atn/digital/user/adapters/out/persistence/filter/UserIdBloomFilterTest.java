@@ -0,0 +1,110 @@
+package com.atn.digital.user.adapters.out.persistence.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserIdBloomFilterTest {
+
+    @Test
+    void shouldNeverReportPutIdAsMissing() {
+        UserIdBloomFilter filter = UserIdBloomFilter.create(10_000, 0.01);
+        List<String> ids = randomIds(10_000);
+
+        ids.forEach(filter::put);
+
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.getInsertionCount()).isEqualTo(10_000);
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateCloseToConfiguredRate() {
+        UserIdBloomFilter filter = UserIdBloomFilter.create(10_000, 0.01);
+        randomIds(10_000).forEach(filter::put);
+
+        long falsePositives = randomIds(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000d).isLessThan(0.02);
+        assertThat(filter.getExpectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        assertThat(filter.getMemoryBytes()).isBetween(11_000L, 13_000L);
+    }
+
+    @Test
+    void shouldRestoreSnapshot(@TempDir Path dir) {
+        UserIdBloomFilter filter = UserIdBloomFilter.create(1_000, 0.01);
+        List<String> ids = randomIds(1_000);
+        ids.forEach(filter::put);
+        Path snapshot = dir.resolve("user-ids.bloom");
+
+        filter.writeTo(snapshot);
+        UserIdBloomFilter restored = UserIdBloomFilter.readFrom(snapshot);
+
+        assertThat(ids).allMatch(restored::mightContain);
+        assertThat(restored.getInsertionCount()).isEqualTo(filter.getInsertionCount());
+        assertThat(restored.getHashFunctionCount()).isEqualTo(filter.getHashFunctionCount());
+        assertThat(restored.getMemoryBytes()).isEqualTo(filter.getMemoryBytes());
+    }
+
+    @Test
+    void shouldRejectFileThatIsNotASnapshot(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("not-a-snapshot"), "not a snapshot at all");
+
+        assertThatThrownBy(() -> UserIdBloomFilter.readFrom(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectSnapshotWithoutHashFunctions(@TempDir Path dir) throws Exception {
+        Path file = snapshot(dir, 0, 16, 16);
+
+        assertThatThrownBy(() -> UserIdBloomFilter.readFrom(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("hash function count");
+    }
+
+    @Test
+    void shouldRejectSnapshotWithOversizedBitArray(@TempDir Path dir) throws Exception {
+        Path file = snapshot(dir, 7, Integer.MAX_VALUE, 16);
+
+        assertThatThrownBy(() -> UserIdBloomFilter.readFrom(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bit array");
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshot(@TempDir Path dir) throws Exception {
+        Path file = snapshot(dir, 7, 16, 15);
+
+        assertThatThrownBy(() -> UserIdBloomFilter.readFrom(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bit array");
+    }
+
+    /**
+     * A snapshot whose header announces {@code wordCount} words, followed by {@code writtenWords} words.
+     */
+    private static Path snapshot(Path dir, int hashFunctions, int wordCount, int writtenWords) throws Exception {
+        UserIdBloomFilter.create(1_000, 0.01).writeTo(dir.resolve("valid.bloom"));
+        byte[] header = Arrays.copyOf(Files.readAllBytes(dir.resolve("valid.bloom")), 24);
+        ByteBuffer.wrap(header).putInt(8, hashFunctions).putInt(20, wordCount);
+        Path file = dir.resolve("corrupt.bloom");
+        Files.write(file, header);
+        Files.write(file, new byte[writtenWords * Long.BYTES], StandardOpenOption.APPEND);
+        return file;
+    }
+
+    private static List<String> randomIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.atn.digital.user.adapters.out.persistence.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedUserIdGeneratorTest {
+
+    private static final long SNAPSHOT_TIME = 1_700_000_000_000L;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(UserIdGenerator.PROPERTY_NAME);
+    }
+
+    @Test
+    void shouldGenerateVersion7UuidsCarryingTheirTimestamp() {
+        TimeOrderedUserIdGenerator generator = new TimeOrderedUserIdGenerator(() -> SNAPSHOT_TIME, new SecureRandom()::nextLong);
+
+        UUID uuid = UUID.fromString(generator.nextId().getId());
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(SNAPSHOT_TIME);
+    }
+
+    @Test
+    void shouldSortIdsByCreationTime() {
+        AtomicLong clock = new AtomicLong(SNAPSHOT_TIME);
+        TimeOrderedUserIdGenerator generator = new TimeOrderedUserIdGenerator(clock::incrementAndGet, new SecureRandom()::nextLong);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(generator.nextId().getId());
+        }
+
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void shouldNotCollideAcrossThreads() throws Exception {
+        TimeOrderedUserIdGenerator generator = new TimeOrderedUserIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId().getId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void shouldNotCollideAcrossClonesRestoredFromOneSnapshotOnceReseeded() {
+        AtomicBoolean restored = new AtomicBoolean();
+        SecureRandom entropy = new SecureRandom();
+        List<TimeOrderedUserIdGenerator> clones = new ArrayList<>();
+        for (int clone = 0; clone < 100; clone++) {
+            // every clone resumes with the random state frozen in the snapshot and the same wall clock
+            clones.add(new TimeOrderedUserIdGenerator(() -> SNAPSHOT_TIME,
+                    () -> restored.get() ? entropy.nextLong() : 42L));
+        }
+
+        assertThat(idsFrom(clones)).as("ids from clones that kept the snapshot state").hasSize(100);
+
+        restored.set(true);
+        clones.forEach(TimeOrderedUserIdGenerator::reseed);
+
+        assertThat(idsFrom(clones)).hasSize(100 * 100);
+    }
+
+    @Test
+    void shouldDrawSeedsFromNewSecureRandomAfterRestore() {
+        List<CountingSecureRandom> created = new ArrayList<>();
+        TimeOrderedUserIdGenerator generator = new TimeOrderedUserIdGenerator(() -> SNAPSHOT_TIME,
+                new TimeOrderedUserIdGenerator.SeedSource(() -> {
+                    CountingSecureRandom random = new CountingSecureRandom();
+                    created.add(random);
+                    return random;
+                }));
+        generator.nextId();
+
+        // the instance in the snapshot is left alone: every clone would replay its state
+        generator.restored();
+        generator.nextId();
+
+        assertThat(created).hasSize(2);
+        assertThat(created).extracting(random -> random.draws).containsExactly(1, 1);
+    }
+
+    @Test
+    void shouldPickDefaultGeneratorFromEnvironment() {
+        assertThat(UserIdGenerator.defaultGenerator()).isSameAs(TimeOrderedUserIdGenerator.shared());
+
+        System.setProperty(UserIdGenerator.PROPERTY_NAME, "random_uuid");
+        assertThat(UserIdGenerator.defaultGenerator()).isSameAs(RandomUuidUserIdGenerator.INSTANCE);
+        assertThat(UUID.fromString(UserIdGenerator.defaultGenerator().nextId().getId()).version()).isEqualTo(4);
+
+        System.setProperty(UserIdGenerator.PROPERTY_NAME, "sequence");
+        assertThatThrownBy(UserIdGenerator::defaultGenerator).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<String> idsFrom(List<TimeOrderedUserIdGenerator> clones) {
+        Set<String> ids = new HashSet<>();
+        for (TimeOrderedUserIdGenerator clone : clones) {
+            for (int i = 0; i < 100; i++) {
+                ids.add(clone.nextId().getId());
+            }
+        }
+        return ids;
+    }
+
+    private static final class CountingSecureRandom extends SecureRandom {
+
+        private int draws;
+
+        @Override
+        public long nextLong() {
+            draws++;
+            return super.nextLong();
+        }
+    }
+}
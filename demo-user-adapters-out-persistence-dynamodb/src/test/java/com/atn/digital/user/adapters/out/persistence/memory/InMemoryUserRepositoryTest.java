@@ -0,0 +1,73 @@
+package com.atn.digital.user.adapters.out.persistence.memory;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryUserRepositoryTest {
+
+    @Test
+    void shouldFindRegisteredUser() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+
+        UserId userId = repository.registerNewUser(User.withoutId("Homer", "Simpson", "homer.simpson@unit.test"));
+        User user = repository.findByUserId(new UserId(userId.getId()));
+
+        assertThat(user.getId()).hasValueSatisfying(id -> assertThat(id.getId()).isEqualTo(userId.getId()));
+        assertThat(user.getFirstName()).isEqualTo("Homer");
+        assertThat(user.getEmail()).isEqualTo("homer.simpson@unit.test");
+    }
+
+    @Test
+    void shouldReturnNullForUnknownUser() {
+        assertThat(new InMemoryUserRepository().findByUserId(new UserId("unknown"))).isNull();
+    }
+
+    @Test
+    void shouldFindEachKnownUserOnce() {
+        InMemoryUserRepository repository = new InMemoryUserRepository();
+        List<UserId> userIds = repository.registerNewUsers(List.of(
+                User.withoutId("Homer", "Simpson", "homer.simpson@unit.test"),
+                User.withoutId("Marge", "Simpson", "marge.simpson@unit.test")));
+
+        List<User> users = repository.findByUserIds(
+                List.of(userIds.get(1), new UserId("unknown"), userIds.get(0), userIds.get(1)));
+
+        assertThat(users).extracting(User::getFirstName).containsExactly("Marge", "Homer");
+        assertThat(repository.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldShareStoreWithAsyncView() {
+        InMemoryUserRepository repository = new InMemoryUserRepository(LatencyDistribution.fixed(Duration.ofMillis(1)));
+
+        CompletableFuture<UserId> userId = repository.async()
+                .registerNewUser(User.withoutId("Bart", "Simpson", "bart.simpson@unit.test"));
+
+        assertThat(repository.findByUserId(userId.join()).getFirstName()).isEqualTo("Bart");
+        assertThat(repository.async().findByUserId(userId.join()).join().getLastName()).isEqualTo("Simpson");
+    }
+
+    @Test
+    void shouldWaitForSampledLatency() {
+        InMemoryUserRepository repository = new InMemoryUserRepository(LatencyDistribution.fixed(Duration.ofMillis(20)));
+
+        long start = System.nanoTime();
+        repository.findByUserId(new UserId("unknown"));
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    void shouldRejectMissingLatency() {
+        assertThatThrownBy(() -> new InMemoryUserRepository(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
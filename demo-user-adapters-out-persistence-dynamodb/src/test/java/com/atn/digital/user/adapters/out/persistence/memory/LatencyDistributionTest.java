@@ -0,0 +1,60 @@
+package com.atn.digital.user.adapters.out.persistence.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyDistributionTest {
+
+    @Test
+    void shouldParseNoLatency() {
+        assertThat(LatencyDistribution.parse(null)).isSameAs(LatencyDistribution.NONE);
+        assertThat(LatencyDistribution.parse(" ")).isSameAs(LatencyDistribution.NONE);
+        assertThat(LatencyDistribution.parse("None")).isSameAs(LatencyDistribution.NONE);
+    }
+
+    @Test
+    void shouldParseFixedLatency() {
+        assertThat(LatencyDistribution.parse("fixed:5ms").nextNanos()).isEqualTo(5_000_000L);
+        assertThat(LatencyDistribution.parse("fixed:1.5s").nextNanos()).isEqualTo(1_500_000_000L);
+        assertThat(LatencyDistribution.parse("fixed:250us").nextNanos()).isEqualTo(250_000L);
+    }
+
+    @Test
+    void shouldKeepUniformLatencyWithinBounds() {
+        LatencyDistribution latency = LatencyDistribution.parse("uniform:2ms..8ms");
+
+        LongStream.range(0, 10_000).map(i -> latency.nextNanos())
+                .forEach(nanos -> assertThat(nanos).isBetween(2_000_000L, 8_000_000L));
+    }
+
+    @Test
+    void shouldMatchLogNormalPercentiles() {
+        LatencyDistribution latency = LatencyDistribution.logNormal(Duration.ofMillis(4), Duration.ofMillis(25));
+
+        long[] samples = LongStream.range(0, 100_000).map(i -> latency.nextNanos()).toArray();
+        Arrays.sort(samples);
+
+        assertThat(samples[samples.length / 2] / 1e6).isCloseTo(4, within(0.2));
+        assertThat(samples[samples.length * 99 / 100] / 1e6).isCloseTo(25, within(2.5));
+    }
+
+    @Test
+    void shouldRejectInvalidSpecifications() {
+        assertThatThrownBy(() -> LatencyDistribution.parse("gaussian:5ms"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(LatencyDistribution.PROPERTY_NAME);
+        assertThatThrownBy(() -> LatencyDistribution.parse("fixed:5 minutes"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("uniform:8ms..2ms"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("lognormal:4ms"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,7 +1,22 @@
 package com.atn.digital.user.domain.exceptions;
 
-public class ConstraintViolationException extends RuntimeException {
+import java.util.List;
+
+public class ConstraintViolationException extends DomainException {
+
+    private final List<String> violations;
+
     public ConstraintViolationException(String message) {
         super(message);
+        this.violations = List.of(message);
+    }
+
+    public ConstraintViolationException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<String> getViolations() {
+        return violations;
     }
 }
@@ -0,0 +1,13 @@
+package com.atn.digital.user.domain.exceptions;
+
+/**
+ * Base of the exceptions that report an expected outcome, such as an unknown id or an invalid field,
+ * rather than a fault. Handlers turn them into 4xx responses and never log their stack trace, so they skip
+ * capturing one: under a high ratio of bad requests that capture is most of the cost of the request.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
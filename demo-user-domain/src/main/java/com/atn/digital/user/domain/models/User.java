@@ -1,10 +1,13 @@
 package com.atn.digital.user.domain.models;
 
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
 import com.atn.digital.user.domain.validation.ValidationUtils;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Optional;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -33,14 +36,175 @@ public class User {
         return Optional.ofNullable(id);
     }
 
-    public static class UserId {
+    /**
+     * Canonical lower-case UUIDs, the only ids the repositories generate, are also held as two longs, parsed in
+     * place from the given string or formatted once from the longs; anything else is kept as the validated string.
+     * Two ids are equal when their string forms are, so compact ids hash and compare on the longs alone.
+     * The longs are transient so that ids serialized by their fields keep their {@code {"id": ...}} shape.
+     */
+    public static final class UserId {
+
+        private static final int UUID_LENGTH = 36;
+        private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+        private static final byte[] HEX_VALUES = new byte['f' + 1];
+
+        static {
+            Arrays.fill(HEX_VALUES, (byte) -1);
+            for (int i = 0; i < HEX_DIGITS.length; i++) {
+                HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            }
+        }
 
-        @Getter
         private final String id;
+        private final transient long mostSignificantBits;
+        private final transient long leastSignificantBits;
+        private final transient boolean compact;
 
         public UserId(String id) {
-            this.id = id;
             ValidationUtils.validateNotNullNotBlank("id", id);
+            this.id = id;
+            boolean canonical = id.length() == UUID_LENGTH
+                    && id.charAt(8) == '-' && id.charAt(13) == '-' && id.charAt(18) == '-' && id.charAt(23) == '-';
+            long timeLow = canonical ? parseHex(id, 0, 8) : -1;
+            long timeMid = canonical ? parseHex(id, 9, 13) : -1;
+            long timeHigh = canonical ? parseHex(id, 14, 18) : -1;
+            long clockSeq = canonical ? parseHex(id, 19, 23) : -1;
+            long node = canonical ? parseHex(id, 24, 36) : -1;
+            canonical = (timeLow | timeMid | timeHigh | clockSeq | node) >= 0;
+            long msb = timeLow << 32 | timeMid << 16 | timeHigh;
+            long lsb = clockSeq << 48 | node;
+            this.compact = canonical;
+            this.mostSignificantBits = canonical ? msb : 0;
+            this.leastSignificantBits = canonical ? lsb : 0;
+        }
+
+        private UserId(long mostSignificantBits, long leastSignificantBits) {
+            this.id = format(mostSignificantBits, leastSignificantBits);
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+            this.compact = true;
+        }
+
+        public static UserId of(long mostSignificantBits, long leastSignificantBits) {
+            return new UserId(mostSignificantBits, leastSignificantBits);
+        }
+
+        public static UserId fromBytes(byte[] bytes) {
+            if (bytes == null || bytes.length != 16) {
+                throw new ConstraintViolationException("id expected to be 16 bytes long");
+            }
+            return new UserId(readLong(bytes, 0), readLong(bytes, 8));
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Whether this id is a canonical UUID held as two longs, and so has a 16 byte binary form.
+         */
+        public boolean isCompact() {
+            return compact;
+        }
+
+        public long getMostSignificantBits() {
+            requireCompact();
+            return mostSignificantBits;
+        }
+
+        public long getLeastSignificantBits() {
+            requireCompact();
+            return leastSignificantBits;
+        }
+
+        public byte[] toBytes() {
+            requireCompact();
+            byte[] bytes = new byte[16];
+            writeLong(bytes, 0, mostSignificantBits);
+            writeLong(bytes, 8, leastSignificantBits);
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UserId other) || compact != other.compact) {
+                return false;
+            }
+            return compact
+                    ? mostSignificantBits == other.mostSignificantBits && leastSignificantBits == other.leastSignificantBits
+                    : id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return compact ? Long.hashCode(mostSignificantBits ^ leastSignificantBits) : id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+
+        private void requireCompact() {
+            if (!compact) {
+                throw new IllegalStateException("id " + id + " is not a canonical UUID");
+            }
+        }
+
+        /**
+         * Value of the lower-case hex digits between {@code from} and {@code to}, at most 12 of them,
+         * or -1 when one of them is not a lower-case hex digit.
+         */
+        private static long parseHex(String text, int from, int to) {
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                int digit = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+                if (digit < 0) {
+                    return -1;
+                }
+                value = (value << 4) | digit;
+            }
+            return value;
+        }
+
+        private static String format(long msb, long lsb) {
+            byte[] chars = new byte[UUID_LENGTH];
+            writeHex(chars, 0, msb >>> 32, 8);
+            chars[8] = '-';
+            writeHex(chars, 9, msb >>> 16, 4);
+            chars[13] = '-';
+            writeHex(chars, 14, msb, 4);
+            chars[18] = '-';
+            writeHex(chars, 19, lsb >>> 48, 4);
+            chars[23] = '-';
+            writeHex(chars, 24, lsb, 12);
+            return new String(chars, StandardCharsets.ISO_8859_1);
+        }
+
+        private static void writeHex(byte[] chars, int offset, long value, int digits) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                chars[i] = HEX_DIGITS[(int) (value & 0xF)];
+                value >>>= 4;
+            }
+        }
+
+        private static long readLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+
+        private static void writeLong(byte[] bytes, int offset, long value) {
+            for (int i = offset + 7; i >= offset; i--) {
+                bytes[i] = (byte) value;
+                value >>>= 8;
+            }
         }
     }
 }
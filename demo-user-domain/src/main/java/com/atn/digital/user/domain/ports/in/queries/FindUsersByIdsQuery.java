@@ -0,0 +1,10 @@
+package com.atn.digital.user.domain.ports.in.queries;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.List;
+
+public interface FindUsersByIdsQuery {
+    List<User> findByUserIds(List<UserId> userIds);
+}
@@ -0,0 +1,9 @@
+package com.atn.digital.user.domain.ports.in.usecases;
+
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface RegisterNewUserAsyncUseCase {
+    CompletableFuture<UserId> handle(RegisterNewUserCommand registerNewUserCommand);
+}
@@ -1,6 +1,6 @@
 package com.atn.digital.user.domain.ports.in.usecases;
 
-import com.atn.digital.user.domain.validation.ValidationUtils;
+import com.atn.digital.user.domain.validation.Violations;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
@@ -18,9 +18,10 @@ public class RegisterNewUserCommand {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
-        ValidationUtils.validateNotNullNotBlank("firstName", firstName);
-        ValidationUtils.validateNotNullNotBlank("lastName", lastName);
-        ValidationUtils.validateNotNullNotBlank("email", email);
-        ValidationUtils.validateEmail("email", email);
+        new Violations()
+                .notNullNotBlank("firstName", firstName)
+                .notNullNotBlank("lastName", lastName)
+                .email("email", email)
+                .throwIfAny();
     }
 }
@@ -0,0 +1,10 @@
+package com.atn.digital.user.domain.ports.out.persistence;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface FindUserByIdAsyncPort {
+    CompletableFuture<User> findByUserId(UserId userId);
+}
@@ -0,0 +1,10 @@
+package com.atn.digital.user.domain.ports.out.persistence;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.List;
+
+public interface FindUsersByIdsPort {
+    List<User> findByUserIds(List<UserId> userIds);
+}
@@ -0,0 +1,10 @@
+package com.atn.digital.user.domain.ports.out.persistence;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.List;
+
+public interface RegisterNewUsersPort {
+    List<UserId> registerNewUsers(List<User> users);
+}
@@ -0,0 +1,4 @@
+package com.atn.digital.user.domain.ports.out.persistence;
+
+public abstract class UserAsyncRepository implements RegisterNewUserAsyncPort, FindUserByIdAsyncPort {
+}
@@ -1,3 +1,30 @@
 package com.atn.digital.user.domain.ports.out.persistence;
 
-public abstract class UserRepository implements RegisterNewUserPort, FindUserByIdPort { }
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class UserRepository
+        implements RegisterNewUserPort, RegisterNewUsersPort, FindUserByIdPort, FindUsersByIdsPort {
+
+    public List<UserId> registerNewUsers(List<User> users) {
+        List<UserId> userIds = new ArrayList<>(users.size());
+        for (User user : users) {
+            userIds.add(registerNewUser(user));
+        }
+        return userIds;
+    }
+
+    public List<User> findByUserIds(List<UserId> userIds) {
+        List<User> users = new ArrayList<>(userIds.size());
+        for (UserId userId : userIds) {
+            User user = findByUserId(userId);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+}
@@ -0,0 +1,29 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdAsyncQuery;
+import com.atn.digital.user.domain.ports.out.persistence.FindUserByIdAsyncPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class FindUserByIdAsyncService implements FindUserByIdAsyncQuery {
+
+    private final FindUserByIdAsyncPort findUserByIdAsyncPort;
+
+    public CompletableFuture<User> findByUserId(UserId userId) {
+        return findUserByIdAsyncPort.findByUserId(userId).thenApply(user -> {
+            if (!isUserValid(user)) {
+                throw new UserNotFoundException("Couldn't find user with id: " + userId.getId());
+            }
+            return user;
+        });
+    }
+
+    private boolean isUserValid(User user) {
+        return user != null && user.getId().isPresent();
+    }
+}
@@ -0,0 +1,54 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import com.atn.digital.user.domain.ports.out.persistence.FindUsersByIdsPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class FindUsersByIdsService implements FindUsersByIdsQuery {
+
+    private final FindUsersByIdsPort findUsersByIdsPort;
+
+    public List<User> findByUserIds(List<UserId> userIds) {
+
+        if (userIds == null) {
+            throw new IllegalArgumentException("Expected userIds to be not null!");
+        }
+
+        Map<String, UserId> distinctIds = new LinkedHashMap<>();
+        for (UserId userId : userIds) {
+            if (userId == null) {
+                throw new IllegalArgumentException("Expected userIds to not contain null!");
+            }
+            distinctIds.putIfAbsent(userId.getId(), userId);
+        }
+
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, User> usersById = new HashMap<>();
+        for (User user : findUsersByIdsPort.findByUserIds(new ArrayList<>(distinctIds.values()))) {
+            if (user != null && user.getId().isPresent()) {
+                usersById.put(user.getId().get().getId(), user);
+            }
+        }
+
+        List<User> users = new ArrayList<>(usersById.size());
+        for (String id : distinctIds.keySet()) {
+            User user = usersById.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+}
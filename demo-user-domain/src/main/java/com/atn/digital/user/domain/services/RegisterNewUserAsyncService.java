@@ -0,0 +1,30 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserAsyncUseCase;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.out.persistence.RegisterNewUserAsyncPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class RegisterNewUserAsyncService implements RegisterNewUserAsyncUseCase {
+
+    private final RegisterNewUserAsyncPort registerNewUserAsyncPort;
+
+    public CompletableFuture<UserId> handle(RegisterNewUserCommand registerNewUserCommand) {
+
+        if (registerNewUserCommand == null) {
+            throw new IllegalArgumentException("Expected registerNewUserCommand to be not null!");
+        }
+
+        return registerNewUserAsyncPort.registerNewUser(
+                User.withoutId(
+                    registerNewUserCommand.getFirstName(),
+                    registerNewUserCommand.getLastName(),
+                    registerNewUserCommand.getEmail()
+                ));
+    }
+}
@@ -0,0 +1,38 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUsersUseCase;
+import com.atn.digital.user.domain.ports.out.persistence.RegisterNewUsersPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RegisterNewUsersService implements RegisterNewUsersUseCase {
+
+    private final RegisterNewUsersPort registerNewUsersPort;
+
+    public List<UserId> handle(List<RegisterNewUserCommand> registerNewUserCommands) {
+
+        if (registerNewUserCommands == null) {
+            throw new IllegalArgumentException("Expected registerNewUserCommands to be not null!");
+        }
+
+        if (registerNewUserCommands.isEmpty()) {
+            return List.of();
+        }
+
+        List<User> users = new ArrayList<>(registerNewUserCommands.size());
+        for (RegisterNewUserCommand command : registerNewUserCommands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Expected registerNewUserCommands to not contain null!");
+            }
+            users.add(User.withoutId(command.getFirstName(), command.getLastName(), command.getEmail()));
+        }
+
+        return registerNewUsersPort.registerNewUsers(users);
+    }
+}
@@ -0,0 +1,56 @@
+package com.atn.digital.user.domain.validation;
+
+/**
+ * Accepts exactly what {@code ^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$} matches, in one pass over the
+ * characters and without allocating: a non-empty local part, a single {@code @}, and a non-empty domain.
+ * The allowed characters are held as 128-bit masks, so each character costs one shift and one test.
+ */
+public final class EmailValidator {
+
+    private static final String LETTERS_AND_DIGITS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final long LOCAL_PART_LOW = mask(LETTERS_AND_DIGITS + "_!#$%&'*+/=?`{|}~^.-", 0);
+    private static final long LOCAL_PART_HIGH = mask(LETTERS_AND_DIGITS + "_!#$%&'*+/=?`{|}~^.-", 64);
+    private static final long DOMAIN_LOW = mask(LETTERS_AND_DIGITS + ".-", 0);
+    private static final long DOMAIN_HIGH = mask(LETTERS_AND_DIGITS + ".-", 64);
+
+    private EmailValidator() {}
+
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@' && at < 0) {
+                if (i == 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0 ? !allowed(c, LOCAL_PART_LOW, LOCAL_PART_HIGH) : !allowed(c, DOMAIN_LOW, DOMAIN_HIGH)) {
+                return false;
+            }
+        }
+        return at > 0 && at < length - 1;
+    }
+
+    private static boolean allowed(char c, long low, long high) {
+        if (c < 64) {
+            return (low & (1L << c)) != 0;
+        }
+        return c < 128 && (high & (1L << (c - 64))) != 0;
+    }
+
+    private static long mask(String characters, int offset) {
+        long mask = 0;
+        for (int i = 0; i < characters.length(); i++) {
+            int c = characters.charAt(i) - offset;
+            if (c >= 0 && c < 64) {
+                mask |= 1L << c;
+            }
+        }
+        return mask;
+    }
+}
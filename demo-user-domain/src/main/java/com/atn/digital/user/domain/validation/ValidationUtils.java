@@ -2,23 +2,31 @@ package com.atn.digital.user.domain.validation;
 
 import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
 
-import java.util.regex.Pattern;
-
 public final class ValidationUtils {
 
-    private static final String EMAIL_REGEX = "^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$";
-
     private ValidationUtils() {}
 
     public static void validateNotNullNotBlank(String fieldName, String fieldValue) {
-        if (fieldValue == null || fieldValue.isBlank()) {
-            throw new ConstraintViolationException(fieldName + " expected to be not null and not blank");
+        if (isNullOrBlank(fieldValue)) {
+            throw new ConstraintViolationException(notNullNotBlankMessage(fieldName));
         }
     }
 
     public static void validateEmail(String fieldName, String fieldValue) {
-        if (!Pattern.compile(EMAIL_REGEX).matcher(fieldValue).matches()) {
-            throw new ConstraintViolationException(fieldName + " expected to be a valid email");
+        if (!EmailValidator.isValid(fieldValue)) {
+            throw new ConstraintViolationException(emailMessage(fieldName));
         }
     }
+
+    static boolean isNullOrBlank(String fieldValue) {
+        return fieldValue == null || fieldValue.isBlank();
+    }
+
+    static String notNullNotBlankMessage(String fieldName) {
+        return fieldName + " expected to be not null and not blank";
+    }
+
+    static String emailMessage(String fieldName) {
+        return fieldName + " expected to be a valid email";
+    }
 }
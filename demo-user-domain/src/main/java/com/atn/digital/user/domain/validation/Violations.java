@@ -0,0 +1,55 @@
+package com.atn.digital.user.domain.validation;
+
+import com.atn.digital.user.domain.exceptions.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks every field before reporting, so a request with several invalid fields is rejected once with all of them.
+ * Nothing is allocated until the first violation.
+ */
+public final class Violations {
+
+    private List<String> messages;
+
+    public Violations notNullNotBlank(String fieldName, String fieldValue) {
+        if (ValidationUtils.isNullOrBlank(fieldValue)) {
+            add(ValidationUtils.notNullNotBlankMessage(fieldName));
+        }
+        return this;
+    }
+
+    /**
+     * Reports a missing email as such, and only checks the format of one that is present.
+     */
+    public Violations email(String fieldName, String fieldValue) {
+        if (ValidationUtils.isNullOrBlank(fieldValue)) {
+            add(ValidationUtils.notNullNotBlankMessage(fieldName));
+        } else if (!EmailValidator.isValid(fieldValue)) {
+            add(ValidationUtils.emailMessage(fieldName));
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return messages == null;
+    }
+
+    public List<String> getMessages() {
+        return messages == null ? List.of() : List.copyOf(messages);
+    }
+
+    public void throwIfAny() {
+        if (messages != null) {
+            throw new ConstraintViolationException(messages);
+        }
+    }
+
+    private void add(String message) {
+        if (messages == null) {
+            messages = new ArrayList<>(3);
+        }
+        messages.add(message);
+    }
+}
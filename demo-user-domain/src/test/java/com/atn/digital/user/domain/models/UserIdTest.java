@@ -5,6 +5,10 @@ import com.atn.digital.user.domain.models.User.UserId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 class UserIdTest {
 
     @Test
@@ -21,4 +25,46 @@ class UserIdTest {
     void shouldThrowConstraintViolationExceptionWhenIdIsBlank() {
         Assertions.assertThrows(ConstraintViolationException.class, () -> new UserId(" "));
     }
+
+    @Test
+    void shouldHoldCanonicalUuidAsTwoLongs() {
+        UUID uuid = UUID.randomUUID();
+
+        UserId userId = new UserId(uuid.toString());
+
+        assertThat(userId.isCompact()).isTrue();
+        assertThat(userId.getMostSignificantBits()).isEqualTo(uuid.getMostSignificantBits());
+        assertThat(userId.getLeastSignificantBits()).isEqualTo(uuid.getLeastSignificantBits());
+        assertThat(userId).isEqualTo(UserId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()))
+                .hasSameHashCodeAs(UserId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    }
+
+    @Test
+    void shouldFormatCompactIdLikeUuid() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID uuid = UUID.randomUUID();
+
+            UserId userId = UserId.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+            assertThat(userId.getId()).isEqualTo(uuid.toString());
+            assertThat(UserId.fromBytes(userId.toBytes())).isEqualTo(userId);
+        }
+        assertThat(UserId.of(0, 0).getId()).isEqualTo("00000000-0000-0000-0000-000000000000");
+        assertThat(UserId.of(-1, -1).getId()).isEqualTo("ffffffff-ffff-ffff-ffff-ffffffffffff");
+    }
+
+    @Test
+    void shouldKeepOtherIdsAsGiven() {
+        String upperCase = "0F1E2D3C-4B5A-6978-8796-A5B4C3D2E1F0";
+
+        UserId userId = new UserId(upperCase);
+
+        assertThat(userId.isCompact()).isFalse();
+        assertThat(userId.getId()).isEqualTo(upperCase);
+        assertThat(userId).isNotEqualTo(new UserId(upperCase.toLowerCase()));
+        assertThat(new UserId("user-1")).isEqualTo(new UserId("user-1")).isNotEqualTo(new UserId("user-2"));
+        assertThat(new UserId("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1fz").isCompact()).isFalse();
+        Assertions.assertThrows(IllegalStateException.class, userId::toBytes);
+        Assertions.assertThrows(ConstraintViolationException.class, () -> UserId.fromBytes(new byte[15]));
+    }
 }
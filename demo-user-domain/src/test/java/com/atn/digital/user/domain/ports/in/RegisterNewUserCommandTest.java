@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class RegisterNewUserCommandTest {
 
     @Nested
@@ -70,4 +72,24 @@ class RegisterNewUserCommandTest {
                     () -> new RegisterNewUserCommand("First", "Last", " "));
         }
     }
+
+    @Test
+    void shouldReportEveryViolatedFieldAtOnce() {
+        ConstraintViolationException exception = Assertions.assertThrows(ConstraintViolationException.class,
+                () -> new RegisterNewUserCommand(" ", null, "not-an-email"));
+
+        assertThat(exception.getViolations()).containsExactly(
+                "firstName expected to be not null and not blank",
+                "lastName expected to be not null and not blank",
+                "email expected to be a valid email");
+        assertThat(exception.getMessage()).isEqualTo(String.join("; ", exception.getViolations()));
+    }
+
+    @Test
+    void shouldReportSingleViolationWithItsOwnMessage() {
+        ConstraintViolationException exception = Assertions.assertThrows(ConstraintViolationException.class,
+                () -> new RegisterNewUserCommand("First", "Last", null));
+
+        assertThat(exception.getMessage()).isEqualTo("email expected to be not null and not blank");
+    }
 }
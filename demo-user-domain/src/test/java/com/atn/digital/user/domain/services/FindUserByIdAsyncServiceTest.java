@@ -0,0 +1,38 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.exceptions.UserNotFoundException;
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUserByIdAsyncQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+class FindUserByIdAsyncServiceTest {
+
+    @Test
+    void shouldReturnUserWhenUserIdExists() {
+        FindUserByIdAsyncQuery query = new FindUserByIdAsyncService(userId -> CompletableFuture.completedFuture(
+                User.withId(userId, "firstName", "lastName", "email@unit.test")));
+        Assertions.assertNotNull(query.findByUserId(new UserId("id")).join());
+    }
+
+    @Test
+    void shouldFailWithUserNotFoundExceptionWhenReturnedUserIsNull() {
+        FindUserByIdAsyncQuery query = new FindUserByIdAsyncService(userId -> CompletableFuture.completedFuture(null));
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> query.findByUserId(new UserId("id")).join());
+        Assertions.assertInstanceOf(UserNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldFailWithUserNotFoundExceptionWhenReturnedUserHasNoId() {
+        FindUserByIdAsyncQuery query = new FindUserByIdAsyncService(userId -> CompletableFuture.completedFuture(
+                User.withoutId("firstName", "lastName", "email@unit.test")));
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> query.findByUserId(new UserId("id")).join());
+        Assertions.assertInstanceOf(UserNotFoundException.class, exception.getCause());
+    }
+}
@@ -7,6 +7,8 @@ import com.atn.digital.user.domain.ports.in.queries.FindUserByIdQuery;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class FindUserByIdServiceTest {
 
     @Test
@@ -28,4 +30,15 @@ class FindUserByIdServiceTest {
                 User.withoutId("firstName", "lastName", "email@unit.test"));
         Assertions.assertThrows(UserNotFoundException.class, () -> query.findByUserId(new UserId("id")));
     }
+
+    @Test
+    void shouldThrowUserNotFoundExceptionWithoutStackTrace() {
+        FindUserByIdQuery query = new FindUserByIdService(userId -> null);
+
+        UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class,
+                () -> query.findByUserId(new UserId("id")));
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage()).isEqualTo("Couldn't find user with id: id");
+    }
 }
@@ -0,0 +1,55 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.queries.FindUsersByIdsQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class FindUsersByIdsServiceTest {
+
+    private final List<List<UserId>> requestedIds = new ArrayList<>();
+
+    private final FindUsersByIdsQuery query = new FindUsersByIdsService(userIds -> {
+        requestedIds.add(userIds);
+        List<User> users = new ArrayList<>();
+        for (UserId userId : userIds) {
+            if (!userId.getId().startsWith("unknown")) {
+                users.add(0, User.withId(userId, "firstName", "lastName", "email@unit.test"));
+            }
+        }
+        return users;
+    });
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenUserIdsAreNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> query.findByUserIds(null));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenAUserIdIsNull() {
+        List<UserId> userIds = Arrays.asList(new UserId("id"), null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> query.findByUserIds(userIds));
+    }
+
+    @Test
+    void shouldNotCallPortWhenUserIdsAreEmpty() {
+        Assertions.assertTrue(query.findByUserIds(List.of()).isEmpty());
+        Assertions.assertTrue(requestedIds.isEmpty());
+    }
+
+    @Test
+    void shouldReturnFoundUsersInRequestedOrderWithoutDuplicates() {
+        List<User> users = query.findByUserIds(List.of(
+                new UserId("id1"), new UserId("unknown"), new UserId("id2"), new UserId("id1")));
+
+        Assertions.assertEquals(3, requestedIds.get(0).size());
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertEquals("id1", users.get(0).getId().get().getId());
+        Assertions.assertEquals("id2", users.get(1).getId().get().getId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.out.persistence.DummyRegisterNewUserPort;
+import com.atn.digital.user.domain.ports.out.persistence.RegisterNewUserAsyncPort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class RegisterNewUserAsyncServiceTest {
+
+    private final DummyRegisterNewUserPort syncPort = new DummyRegisterNewUserPort();
+    private final RegisterNewUserAsyncPort port = user -> CompletableFuture.supplyAsync(() -> syncPort.registerNewUser(user));
+    private final RegisterNewUserAsyncService service = new RegisterNewUserAsyncService(port);
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCommandIsNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> service.handle(null));
+    }
+
+    @Test
+    void shouldReturnNewRegisteredUserId() {
+        RegisterNewUserCommand registerNewUserCommand = new RegisterNewUserCommand("First", "Last",
+                "first.last@unit.test");
+        UserId bean = service.handle(registerNewUserCommand).join();
+        Assertions.assertNotNull(bean);
+        Assertions.assertNotNull(bean.getId());
+    }
+}
@@ -0,0 +1,56 @@
+package com.atn.digital.user.domain.services;
+
+import com.atn.digital.user.domain.models.User;
+import com.atn.digital.user.domain.models.User.UserId;
+import com.atn.digital.user.domain.ports.in.usecases.RegisterNewUserCommand;
+import com.atn.digital.user.domain.ports.out.persistence.DummyRegisterNewUserPort;
+import com.atn.digital.user.domain.ports.out.persistence.RegisterNewUsersPort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class RegisterNewUsersServiceTest {
+
+    private final DummyRegisterNewUserPort singlePort = new DummyRegisterNewUserPort();
+    private final List<User> registeredUsers = new ArrayList<>();
+    private final RegisterNewUsersPort port = users -> {
+        registeredUsers.addAll(users);
+        return users.stream().map(singlePort::registerNewUser).toList();
+    };
+    private final RegisterNewUsersService service = new RegisterNewUsersService(port);
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCommandsAreNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> service.handle(null));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenACommandIsNull() {
+        List<RegisterNewUserCommand> commands = Arrays.asList(
+                new RegisterNewUserCommand("First", "Last", "first.last@unit.test"), null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> service.handle(commands));
+        Assertions.assertTrue(registeredUsers.isEmpty());
+    }
+
+    @Test
+    void shouldNotCallPortWhenCommandsAreEmpty() {
+        Assertions.assertTrue(service.handle(List.of()).isEmpty());
+        Assertions.assertTrue(registeredUsers.isEmpty());
+    }
+
+    @Test
+    void shouldReturnOneUserIdPerCommandInOrder() {
+        List<RegisterNewUserCommand> commands = List.of(
+                new RegisterNewUserCommand("First", "Last", "first.last@unit.test"),
+                new RegisterNewUserCommand("Second", "Last", "second.last@unit.test"));
+
+        List<UserId> userIds = service.handle(commands);
+
+        Assertions.assertEquals(2, userIds.size());
+        Assertions.assertEquals("First", registeredUsers.get(0).getFirstName());
+        Assertions.assertEquals("second.last@unit.test", registeredUsers.get(1).getEmail());
+    }
+}
@@ -0,0 +1,52 @@
+package com.atn.digital.user.domain.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailValidatorTest {
+
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-zA-Z0-9_!#$%&'*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$");
+
+    @Test
+    void shouldAcceptValidEmails() {
+        assertThat(EmailValidator.isValid("email@unit.test")).isTrue();
+        assertThat(EmailValidator.isValid("first.last+tag@sub.domain-name.io")).isTrue();
+        assertThat(EmailValidator.isValid("!#$%&'*+/=?`{|}~^_-@x")).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidEmails() {
+        assertThat(EmailValidator.isValid(null)).isFalse();
+        assertThat(EmailValidator.isValid("")).isFalse();
+        assertThat(EmailValidator.isValid("@unit.test")).isFalse();
+        assertThat(EmailValidator.isValid("email@")).isFalse();
+        assertThat(EmailValidator.isValid("email")).isFalse();
+        assertThat(EmailValidator.isValid("email@unit@test")).isFalse();
+        assertThat(EmailValidator.isValid("email@unit_test")).isFalse();
+        assertThat(EmailValidator.isValid("e mail@unit.test")).isFalse();
+        assertThat(EmailValidator.isValid("émail@unit.test")).isFalse();
+        assertThat(EmailValidator.isValid("email@unit.test\n")).isFalse();
+    }
+
+    @Test
+    void shouldAgreeWithRegexOnRandomInputs() {
+        String alphabet = "aZ9_!.-@ +é\n\u0080ÿ~{";
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            input.setLength(0);
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String email = input.toString();
+            assertThat(EmailValidator.isValid(email))
+                    .as(email)
+                    .isEqualTo(EMAIL_REGEX.matcher(email).matches());
+        }
+    }
+}
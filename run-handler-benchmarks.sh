@@ -0,0 +1,32 @@
+#!/bin/sh
+
+# Runs the JMH benchmarks of the Lambda handlers, a warm GET and a warm POST against the in-memory repository,
+# each target on the test class path of its own module, and keeps the results as JSON under benchmark-results/jmh.
+# Usage: ./run-handler-benchmarks.sh [TARGET...]
+# Targets: plain-java serverless-java-container spring micronaut quarkus (all of them by default)
+# Extra JMH options, e.g. JMH_OPTIONS="-f 1 -wi 3 -i 5", shorten a run.
+
+TARGETS=${*:-plain-java serverless-java-container spring micronaut quarkus}
+RESULTS_DIR=benchmark-results/jmh
+TIMESTAMP=$(date -u +%Y%m%dT%H%M%SZ)
+mkdir -p $RESULTS_DIR
+
+for TARGET in $TARGETS; do
+  case $TARGET in
+    plain-java) MODULE=demo-plain-java-app-lambda-handler ;;
+    serverless-java-container) MODULE=demo-springboot-app-lambda-serverless-java-container ;;
+    spring) MODULE=demo-springboot-app-lambda-function-handler ;;
+    micronaut) MODULE=demo-micronaut-app-lambda-request-handler ;;
+    quarkus) MODULE=demo-quarkus-app-lambda-request-handler ;;
+    *) echo "Unknown target $TARGET"; exit 1 ;;
+  esac
+
+  mvn -B -q -pl $MODULE -am test-compile dependency:build-classpath \
+    -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark.classpath || exit 1
+  CLASSPATH=$MODULE/target/test-classes:$MODULE/target/classes:$(cat $MODULE/target/benchmark.classpath)
+  RESULT_FILE=$RESULTS_DIR/handler-$TARGET-$TIMESTAMP.json
+
+  java --enable-preview -cp "$CLASSPATH" org.openjdk.jmh.Main $JMH_OPTIONS \
+    -prof gc -rf json -rff $RESULT_FILE || exit 1
+  echo "Results of $TARGET written to $RESULT_FILE"
+done
@@ -0,0 +1,20 @@
+#!/bin/sh
+
+# Runs JMH benchmarks of demo-benchmarks with the GC profiler and keeps the results as JSON,
+# one file per run under benchmark-results/jmh.
+# Usage: ./run-microbenchmarks.sh [BENCHMARK_REGEX]
+# Example: ./run-microbenchmarks.sh 'DomainModelBenchmark|JsonCodecBenchmark'
+# Extra JMH options, e.g. JMH_OPTIONS="-f 1 -wi 3 -i 5", shorten a run.
+
+HOT_PATH='DomainModelBenchmark|UserEntityMapperBenchmark|UserIdBenchmark.parseUserId|JsonCodecBenchmark.writeSingleCodec'
+BENCHMARKS=${1:-$HOT_PATH}
+RESULTS_DIR=benchmark-results/jmh
+RESULT_FILE=$RESULTS_DIR/jmh-$(date -u +%Y%m%dT%H%M%SZ).json
+
+mvn -B -q -pl demo-benchmarks -am package -DskipTests || exit 1
+mkdir -p $RESULTS_DIR
+
+java --enable-preview -jar demo-benchmarks/target/benchmarks.jar "$BENCHMARKS" $JMH_OPTIONS \
+  -prof gc -rf json -rff $RESULT_FILE || exit 1
+
+echo "Results written to $RESULT_FILE"